@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks;
+
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape5;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности пакетной проверки коллекции объектов.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=log4j-benchmarks.properties")
+@State(Scope.Benchmark)
+public class BatchBenchmark
+{
+	/**
+	 * Количество объектов.
+	 */
+	@Param({"100000"})
+	public int size;
+
+	/**
+	 * Доля объектов с некорректными значениями полей в процентах.
+	 */
+	@Param({"0", "50"})
+	public int invalidPercent;
+
+	/**
+	 * Проверяющий значения полей класса.
+	 */
+	private FieldValueValidating fieldValueValidator;
+
+	/**
+	 * Проверяемые объекты.
+	 */
+	private List<Object> objects;
+
+	/**
+	 * Подготавливает проверяющего и проверяемые объекты.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.fieldValueValidator = new FieldValueValidator();
+		this.objects = new ArrayList<>(this.size);
+
+		for (int i = 0; i < this.size; i++) {
+			this.objects.add(new Shape5(i % 100 >= this.invalidPercent));
+		}
+	}
+
+	/**
+	 * Замер последовательной проверки объектов по одному.
+	 *
+	 * @return Количество объектов с нарушениями.
+	 */
+	@Benchmark
+	public int validateEach()
+	{
+		int invalid = 0;
+
+		for (Object object : this.objects)
+		{
+			List<Violating> violations = this.fieldValueValidator.validate(object);
+
+			if (!violations.isEmpty()) {
+				invalid++;
+			}
+		}
+
+		return invalid;
+	}
+
+	/**
+	 * Замер последовательной пакетной проверки.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public Map<Integer, List<Violating>> validateAll()
+	{
+		return this.fieldValueValidator.validateAll(this.objects);
+	}
+
+	/**
+	 * Замер параллельной пакетной проверки в общем пуле.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public Map<Integer, List<Violating>> validateAllParallel()
+	{
+		return this.fieldValueValidator.validateAllParallel(this.objects);
+	}
+}
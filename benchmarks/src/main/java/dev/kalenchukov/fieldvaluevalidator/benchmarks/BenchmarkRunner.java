@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Класс запуска замеров производительности.
+ * Принимает те же параметры, что и {@code org.openjdk.jmh.Main}, и всегда включает
+ * профилировщик выделения памяти {@code gc}. Если формат результатов не задан,
+ * результаты сохраняются в файл {@code jmh-result.json}.
+ */
+public final class BenchmarkRunner
+{
+	/**
+	 * Конструктор для {@code BenchmarkRunner}.
+	 */
+	private BenchmarkRunner() {}
+
+	/**
+	 * Запускает замеры производительности.
+	 *
+	 * @param args Параметры командной строки JMH.
+	 * @throws Exception Если замеры не удалось выполнить.
+	 */
+	public static void main(final String[] args) throws Exception
+	{
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+			.parent(commandLineOptions)
+			.addProfiler(GCProfiler.class);
+
+		if (!commandLineOptions.getResultFormat().hasValue())
+		{
+			options.resultFormat(ResultFormatType.JSON);
+			options.result("jmh-result.json");
+		}
+
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks;
+
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape5;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape50;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape500;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности проверки объектов с разным количеством полей с ограничениями.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=log4j-benchmarks.properties")
+@State(Scope.Benchmark)
+public class FieldValueValidatorBenchmark
+{
+	/**
+	 * Количество полей с ограничениями.
+	 */
+	@Param({"5", "50", "500"})
+	public int fields;
+
+	/**
+	 * Корректность значений полей.
+	 */
+	@Param({"true", "false"})
+	public boolean valid;
+
+	/**
+	 * Настырность проверки.
+	 */
+	@Param({"true", "false"})
+	public boolean pushy;
+
+	/**
+	 * Создание проверяющего во время выполнения.
+	 */
+	@Param({"false", "true"})
+	public boolean bytecodeGeneration;
+
+	/**
+	 * Проверяющий значения полей класса.
+	 */
+	private FieldValueValidating fieldValueValidator;
+
+	/**
+	 * Проверяемый объект.
+	 */
+	private Object object;
+
+	/**
+	 * Подготавливает проверяющего и проверяемый объект.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.fieldValueValidator = new FieldValueValidator();
+		this.fieldValueValidator.setPushy(this.pushy);
+		this.fieldValueValidator.setBytecodeGeneration(this.bytecodeGeneration);
+
+		switch (this.fields)
+		{
+			case 5 -> this.object = new Shape5(this.valid);
+			case 50 -> this.object = new Shape50(this.valid);
+			case 500 -> this.object = new Shape500(this.valid);
+			default -> throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Замер проверки объекта.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> validate()
+	{
+		return this.fieldValueValidator.validate(this.object);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks;
+
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape5;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape50;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes.Shape500;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности определения корректности объектов без создания нарушений.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=log4j-benchmarks.properties")
+@State(Scope.Benchmark)
+public class IsValidBenchmark
+{
+	/**
+	 * Количество полей с ограничениями.
+	 */
+	@Param({"5", "50", "500"})
+	public int fields;
+
+	/**
+	 * Корректность значений полей.
+	 */
+	@Param({"true", "false"})
+	public boolean valid;
+
+	/**
+	 * Проверяющий значения полей класса.
+	 */
+	private FieldValueValidating fieldValueValidator;
+
+	/**
+	 * Проверяемый объект.
+	 */
+	private Object object;
+
+	/**
+	 * Подготавливает проверяющего и проверяемый объект.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.fieldValueValidator = new FieldValueValidator();
+		this.fieldValueValidator.setPushy(false);
+
+		switch (this.fields)
+		{
+			case 5 -> this.object = new Shape5(this.valid);
+			case 50 -> this.object = new Shape50(this.valid);
+			case 500 -> this.object = new Shape500(this.valid);
+			default -> throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Замер определения корректности объекта.
+	 *
+	 * @return {@code True} если объект корректен, иначе {@code false}.
+	 */
+	@Benchmark
+	public boolean isValid()
+	{
+		return this.fieldValueValidator.isValid(this.object);
+	}
+
+	/**
+	 * Замер определения корректности объекта по коллекции нарушений.
+	 *
+	 * @return {@code True} если объект корректен, иначе {@code false}.
+	 */
+	@Benchmark
+	public boolean validateIsEmpty()
+	{
+		return this.fieldValueValidator.validate(this.object).isEmpty();
+	}
+}
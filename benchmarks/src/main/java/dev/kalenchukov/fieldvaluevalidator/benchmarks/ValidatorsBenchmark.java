@@ -0,0 +1,483 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks;
+
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.supports.BrowserValidator;
+import dev.kalenchukov.fieldvaluevalidator.benchmarks.supports.GenderExistence;
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замеры производительности проверки каждым проверяющим.
+ * Каждый замер проверяет объект с одним полем с ограничением.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=log4j-benchmarks.properties")
+@State(Scope.Benchmark)
+public class ValidatorsBenchmark
+{
+	/**
+	 * Корректность значений полей.
+	 */
+	@Param({"true", "false"})
+	public boolean valid;
+
+	/**
+	 * Проверяющий значения полей класса.
+	 */
+	private final FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+	/**
+	 * Объект с ограничением {@code NoNull}.
+	 */
+	private NoNullObject noNullObject;
+
+	/**
+	 * Объект с ограничением {@code NoEmpty}.
+	 */
+	private NoEmptyObject noEmptyObject;
+
+	/**
+	 * Объект с ограничением {@code Length}.
+	 */
+	private LengthObject lengthObject;
+
+	/**
+	 * Объект с ограничением {@code Size}.
+	 */
+	private SizeObject sizeObject;
+
+	/**
+	 * Объект с ограничением {@code Number}.
+	 */
+	private NumberObject numberObject;
+
+	/**
+	 * Объект с ограничением {@code NumberFloat}.
+	 */
+	private NumberFloatObject numberFloatObject;
+
+	/**
+	 * Объект с ограничением {@code Number} на поле примитивного типа.
+	 */
+	private NumberPrimitiveObject numberPrimitiveObject;
+
+	/**
+	 * Объект с ограничением {@code NumberFloat} на поле примитивного типа.
+	 */
+	private NumberFloatPrimitiveObject numberFloatPrimitiveObject;
+
+	/**
+	 * Объект с ограничением {@code Pattern}.
+	 */
+	private PatternObject patternObject;
+
+	/**
+	 * Объект с ограничением {@code Language}.
+	 */
+	private LanguageObject languageObject;
+
+	/**
+	 * Объект с ограничением {@code Valid}.
+	 */
+	private ValidObject validObject;
+
+	/**
+	 * Объект с ограничением {@code Exist}.
+	 */
+	private ExistObject existObject;
+
+	/**
+	 * Подготавливает проверяемые объекты.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.noNullObject = new NoNullObject(this.valid);
+		this.noEmptyObject = new NoEmptyObject(this.valid);
+		this.lengthObject = new LengthObject(this.valid);
+		this.sizeObject = new SizeObject(this.valid);
+		this.numberObject = new NumberObject(this.valid);
+		this.numberFloatObject = new NumberFloatObject(this.valid);
+		this.numberPrimitiveObject = new NumberPrimitiveObject(this.valid);
+		this.numberFloatPrimitiveObject = new NumberFloatPrimitiveObject(this.valid);
+		this.patternObject = new PatternObject(this.valid);
+		this.languageObject = new LanguageObject(this.valid);
+		this.validObject = new ValidObject(this.valid);
+		this.existObject = new ExistObject(this.valid);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code NoNull}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> noNull()
+	{
+		return this.fieldValueValidator.validate(this.noNullObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code NoEmpty}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> noEmpty()
+	{
+		return this.fieldValueValidator.validate(this.noEmptyObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Length}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> length()
+	{
+		return this.fieldValueValidator.validate(this.lengthObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Size}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> size()
+	{
+		return this.fieldValueValidator.validate(this.sizeObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Number}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> number()
+	{
+		return this.fieldValueValidator.validate(this.numberObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code NumberFloat}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> numberFloat()
+	{
+		return this.fieldValueValidator.validate(this.numberFloatObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Number} поля примитивного типа.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> numberPrimitive()
+	{
+		return this.fieldValueValidator.validate(this.numberPrimitiveObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code NumberFloat} поля примитивного типа.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> numberFloatPrimitive()
+	{
+		return this.fieldValueValidator.validate(this.numberFloatPrimitiveObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Pattern}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> pattern()
+	{
+		return this.fieldValueValidator.validate(this.patternObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Language}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> language()
+	{
+		return this.fieldValueValidator.validate(this.languageObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Valid}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> valid()
+	{
+		return this.fieldValueValidator.validate(this.validObject);
+	}
+
+	/**
+	 * Замер проверки ограничением {@code Exist}.
+	 *
+	 * @return Коллекцию нарушений.
+	 */
+	@Benchmark
+	public List<Violating> exist()
+	{
+		return this.fieldValueValidator.validate(this.existObject);
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code NoNull}.
+	 */
+	public static final class NoNullObject
+	{
+		@NoNull
+		private final String value;
+
+		/**
+		 * Конструктор для {@code NoNullObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NoNullObject(final boolean valid)
+		{
+			this.value = valid ? "value" : null;
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code NoEmpty}.
+	 */
+	public static final class NoEmptyObject
+	{
+		@NoEmpty
+		private final String value;
+
+		/**
+		 * Конструктор для {@code NoEmptyObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NoEmptyObject(final boolean valid)
+		{
+			this.value = valid ? "value" : " ";
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Length}.
+	 */
+	public static final class LengthObject
+	{
+		@Length(min = 3, max = 13)
+		private final String value;
+
+		/**
+		 * Конструктор для {@code LengthObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public LengthObject(final boolean valid)
+		{
+			this.value = valid ? "value" : "v";
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Size}.
+	 */
+	public static final class SizeObject
+	{
+		@Size(min = 2, max = 4)
+		private final Integer[] value;
+
+		/**
+		 * Конструктор для {@code SizeObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public SizeObject(final boolean valid)
+		{
+			this.value = valid ? new Integer[] {1, 2, 3} : new Integer[] {1};
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Number}.
+	 */
+	public static final class NumberObject
+	{
+		@Number(min = 0, max = 1000)
+		private final Integer value;
+
+		/**
+		 * Конструктор для {@code NumberObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NumberObject(final boolean valid)
+		{
+			this.value = valid ? 785 : 1001;
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code NumberFloat}.
+	 */
+	public static final class NumberFloatObject
+	{
+		@NumberFloat(min = 0.0, max = 1000.1000)
+		private final Double value;
+
+		/**
+		 * Конструктор для {@code NumberFloatObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NumberFloatObject(final boolean valid)
+		{
+			this.value = valid ? 785.785 : 1000.1001;
+		}
+	}
+
+	/**
+	 * Класс с полем примитивного типа с ограничением {@code Number}.
+	 */
+	public static final class NumberPrimitiveObject
+	{
+		@Number(min = 0, max = 1000)
+		private final int value;
+
+		/**
+		 * Конструктор для {@code NumberPrimitiveObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NumberPrimitiveObject(final boolean valid)
+		{
+			this.value = valid ? 785 : 1001;
+		}
+	}
+
+	/**
+	 * Класс с полем примитивного типа с ограничением {@code NumberFloat}.
+	 */
+	public static final class NumberFloatPrimitiveObject
+	{
+		@NumberFloat(min = 0.0, max = 1000.1000)
+		private final double value;
+
+		/**
+		 * Конструктор для {@code NumberFloatPrimitiveObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public NumberFloatPrimitiveObject(final boolean valid)
+		{
+			this.value = valid ? 785.785 : 1000.1001;
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Pattern}.
+	 */
+	public static final class PatternObject
+	{
+		@Pattern(regexp = "[0-9A-F]+")
+		private final String value;
+
+		/**
+		 * Конструктор для {@code PatternObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public PatternObject(final boolean valid)
+		{
+			this.value = valid ? "08A6D9" : "value";
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Language}.
+	 */
+	public static final class LanguageObject
+	{
+		@Language
+		private final String value;
+
+		/**
+		 * Конструктор для {@code LanguageObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public LanguageObject(final boolean valid)
+		{
+			this.value = valid ? "ru-RU" : "value";
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Valid}.
+	 */
+	public static final class ValidObject
+	{
+		@Valid(validator = BrowserValidator.class)
+		private final String value;
+
+		/**
+		 * Конструктор для {@code ValidObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public ValidObject(final boolean valid)
+		{
+			this.value = valid ? "FIREFOX" : "value";
+		}
+	}
+
+	/**
+	 * Класс с полем с ограничением {@code Exist}.
+	 */
+	public static final class ExistObject
+	{
+		@Exist(existence = GenderExistence.class)
+		private final String value;
+
+		/**
+		 * Конструктор для {@code ExistObject}.
+		 *
+		 * @param valid {@code True} если значение поля должно быть корректным, иначе {@code false}.
+		 */
+		public ExistObject(final boolean valid)
+		{
+			this.value = valid ? "MALE" : "value";
+		}
+	}
+}
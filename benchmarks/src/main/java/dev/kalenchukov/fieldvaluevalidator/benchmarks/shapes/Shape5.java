@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+
+import java.util.List;
+
+/**
+ * Класс с 5 полями с ограничениями.
+ * Сгенерирован по шаблону: ограничения полей повторяются с периодом 5.
+ */
+public final class Shape5
+{
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field0;
+
+	@Number(min = 0, max = 1000)
+	private int field1;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field2;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field3;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field4;
+
+	/**
+	 * Конструктор для {@code Shape5}.
+	 *
+	 * @param valid {@code True} если значения полей должны быть корректными, иначе {@code false}.
+	 */
+	public Shape5(final boolean valid)
+	{
+		String string = valid ? "value" : "";
+		int number = valid ? 500 : -1;
+		double numberFloat = valid ? 0.5 : 2.0;
+		String hexadecimal = valid ? "08A6D9" : "value";
+		List<Integer> list = valid ? List.of(1, 2, 3) : List.of();
+
+		this.field0 = string;
+		this.field1 = number;
+		this.field2 = numberFloat;
+		this.field3 = hexadecimal;
+		this.field4 = list;
+	}
+}
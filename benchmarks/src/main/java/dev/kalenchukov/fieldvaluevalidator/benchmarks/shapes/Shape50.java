@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+
+import java.util.List;
+
+/**
+ * Класс с 50 полями с ограничениями.
+ * Сгенерирован по шаблону: ограничения полей повторяются с периодом 5.
+ */
+public final class Shape50
+{
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field0;
+
+	@Number(min = 0, max = 1000)
+	private int field1;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field2;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field3;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field4;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field5;
+
+	@Number(min = 0, max = 1000)
+	private int field6;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field7;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field8;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field9;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field10;
+
+	@Number(min = 0, max = 1000)
+	private int field11;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field12;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field13;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field14;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field15;
+
+	@Number(min = 0, max = 1000)
+	private int field16;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field17;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field18;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field19;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field20;
+
+	@Number(min = 0, max = 1000)
+	private int field21;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field22;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field23;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field24;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field25;
+
+	@Number(min = 0, max = 1000)
+	private int field26;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field27;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field28;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field29;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field30;
+
+	@Number(min = 0, max = 1000)
+	private int field31;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field32;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field33;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field34;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field35;
+
+	@Number(min = 0, max = 1000)
+	private int field36;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field37;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field38;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field39;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field40;
+
+	@Number(min = 0, max = 1000)
+	private int field41;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field42;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field43;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field44;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field45;
+
+	@Number(min = 0, max = 1000)
+	private int field46;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field47;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field48;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field49;
+
+	/**
+	 * Конструктор для {@code Shape50}.
+	 *
+	 * @param valid {@code True} если значения полей должны быть корректными, иначе {@code false}.
+	 */
+	public Shape50(final boolean valid)
+	{
+		String string = valid ? "value" : "";
+		int number = valid ? 500 : -1;
+		double numberFloat = valid ? 0.5 : 2.0;
+		String hexadecimal = valid ? "08A6D9" : "value";
+		List<Integer> list = valid ? List.of(1, 2, 3) : List.of();
+
+		this.field0 = string;
+		this.field1 = number;
+		this.field2 = numberFloat;
+		this.field3 = hexadecimal;
+		this.field4 = list;
+		this.field5 = string;
+		this.field6 = number;
+		this.field7 = numberFloat;
+		this.field8 = hexadecimal;
+		this.field9 = list;
+		this.field10 = string;
+		this.field11 = number;
+		this.field12 = numberFloat;
+		this.field13 = hexadecimal;
+		this.field14 = list;
+		this.field15 = string;
+		this.field16 = number;
+		this.field17 = numberFloat;
+		this.field18 = hexadecimal;
+		this.field19 = list;
+		this.field20 = string;
+		this.field21 = number;
+		this.field22 = numberFloat;
+		this.field23 = hexadecimal;
+		this.field24 = list;
+		this.field25 = string;
+		this.field26 = number;
+		this.field27 = numberFloat;
+		this.field28 = hexadecimal;
+		this.field29 = list;
+		this.field30 = string;
+		this.field31 = number;
+		this.field32 = numberFloat;
+		this.field33 = hexadecimal;
+		this.field34 = list;
+		this.field35 = string;
+		this.field36 = number;
+		this.field37 = numberFloat;
+		this.field38 = hexadecimal;
+		this.field39 = list;
+		this.field40 = string;
+		this.field41 = number;
+		this.field42 = numberFloat;
+		this.field43 = hexadecimal;
+		this.field44 = list;
+		this.field45 = string;
+		this.field46 = number;
+		this.field47 = numberFloat;
+		this.field48 = hexadecimal;
+		this.field49 = list;
+	}
+}
@@ -0,0 +1,2134 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks.shapes;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+
+import java.util.List;
+
+/**
+ * Класс с 500 полями с ограничениями.
+ * Сгенерирован по шаблону: ограничения полей повторяются с периодом 5.
+ */
+public final class Shape500
+{
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field0;
+
+	@Number(min = 0, max = 1000)
+	private int field1;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field2;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field3;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field4;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field5;
+
+	@Number(min = 0, max = 1000)
+	private int field6;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field7;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field8;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field9;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field10;
+
+	@Number(min = 0, max = 1000)
+	private int field11;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field12;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field13;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field14;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field15;
+
+	@Number(min = 0, max = 1000)
+	private int field16;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field17;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field18;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field19;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field20;
+
+	@Number(min = 0, max = 1000)
+	private int field21;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field22;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field23;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field24;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field25;
+
+	@Number(min = 0, max = 1000)
+	private int field26;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field27;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field28;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field29;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field30;
+
+	@Number(min = 0, max = 1000)
+	private int field31;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field32;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field33;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field34;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field35;
+
+	@Number(min = 0, max = 1000)
+	private int field36;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field37;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field38;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field39;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field40;
+
+	@Number(min = 0, max = 1000)
+	private int field41;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field42;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field43;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field44;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field45;
+
+	@Number(min = 0, max = 1000)
+	private int field46;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field47;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field48;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field49;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field50;
+
+	@Number(min = 0, max = 1000)
+	private int field51;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field52;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field53;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field54;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field55;
+
+	@Number(min = 0, max = 1000)
+	private int field56;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field57;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field58;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field59;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field60;
+
+	@Number(min = 0, max = 1000)
+	private int field61;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field62;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field63;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field64;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field65;
+
+	@Number(min = 0, max = 1000)
+	private int field66;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field67;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field68;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field69;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field70;
+
+	@Number(min = 0, max = 1000)
+	private int field71;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field72;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field73;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field74;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field75;
+
+	@Number(min = 0, max = 1000)
+	private int field76;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field77;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field78;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field79;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field80;
+
+	@Number(min = 0, max = 1000)
+	private int field81;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field82;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field83;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field84;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field85;
+
+	@Number(min = 0, max = 1000)
+	private int field86;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field87;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field88;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field89;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field90;
+
+	@Number(min = 0, max = 1000)
+	private int field91;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field92;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field93;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field94;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field95;
+
+	@Number(min = 0, max = 1000)
+	private int field96;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field97;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field98;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field99;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field100;
+
+	@Number(min = 0, max = 1000)
+	private int field101;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field102;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field103;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field104;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field105;
+
+	@Number(min = 0, max = 1000)
+	private int field106;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field107;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field108;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field109;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field110;
+
+	@Number(min = 0, max = 1000)
+	private int field111;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field112;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field113;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field114;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field115;
+
+	@Number(min = 0, max = 1000)
+	private int field116;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field117;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field118;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field119;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field120;
+
+	@Number(min = 0, max = 1000)
+	private int field121;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field122;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field123;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field124;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field125;
+
+	@Number(min = 0, max = 1000)
+	private int field126;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field127;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field128;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field129;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field130;
+
+	@Number(min = 0, max = 1000)
+	private int field131;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field132;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field133;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field134;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field135;
+
+	@Number(min = 0, max = 1000)
+	private int field136;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field137;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field138;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field139;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field140;
+
+	@Number(min = 0, max = 1000)
+	private int field141;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field142;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field143;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field144;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field145;
+
+	@Number(min = 0, max = 1000)
+	private int field146;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field147;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field148;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field149;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field150;
+
+	@Number(min = 0, max = 1000)
+	private int field151;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field152;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field153;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field154;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field155;
+
+	@Number(min = 0, max = 1000)
+	private int field156;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field157;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field158;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field159;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field160;
+
+	@Number(min = 0, max = 1000)
+	private int field161;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field162;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field163;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field164;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field165;
+
+	@Number(min = 0, max = 1000)
+	private int field166;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field167;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field168;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field169;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field170;
+
+	@Number(min = 0, max = 1000)
+	private int field171;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field172;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field173;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field174;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field175;
+
+	@Number(min = 0, max = 1000)
+	private int field176;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field177;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field178;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field179;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field180;
+
+	@Number(min = 0, max = 1000)
+	private int field181;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field182;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field183;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field184;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field185;
+
+	@Number(min = 0, max = 1000)
+	private int field186;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field187;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field188;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field189;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field190;
+
+	@Number(min = 0, max = 1000)
+	private int field191;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field192;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field193;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field194;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field195;
+
+	@Number(min = 0, max = 1000)
+	private int field196;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field197;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field198;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field199;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field200;
+
+	@Number(min = 0, max = 1000)
+	private int field201;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field202;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field203;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field204;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field205;
+
+	@Number(min = 0, max = 1000)
+	private int field206;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field207;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field208;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field209;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field210;
+
+	@Number(min = 0, max = 1000)
+	private int field211;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field212;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field213;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field214;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field215;
+
+	@Number(min = 0, max = 1000)
+	private int field216;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field217;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field218;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field219;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field220;
+
+	@Number(min = 0, max = 1000)
+	private int field221;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field222;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field223;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field224;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field225;
+
+	@Number(min = 0, max = 1000)
+	private int field226;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field227;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field228;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field229;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field230;
+
+	@Number(min = 0, max = 1000)
+	private int field231;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field232;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field233;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field234;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field235;
+
+	@Number(min = 0, max = 1000)
+	private int field236;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field237;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field238;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field239;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field240;
+
+	@Number(min = 0, max = 1000)
+	private int field241;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field242;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field243;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field244;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field245;
+
+	@Number(min = 0, max = 1000)
+	private int field246;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field247;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field248;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field249;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field250;
+
+	@Number(min = 0, max = 1000)
+	private int field251;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field252;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field253;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field254;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field255;
+
+	@Number(min = 0, max = 1000)
+	private int field256;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field257;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field258;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field259;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field260;
+
+	@Number(min = 0, max = 1000)
+	private int field261;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field262;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field263;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field264;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field265;
+
+	@Number(min = 0, max = 1000)
+	private int field266;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field267;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field268;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field269;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field270;
+
+	@Number(min = 0, max = 1000)
+	private int field271;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field272;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field273;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field274;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field275;
+
+	@Number(min = 0, max = 1000)
+	private int field276;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field277;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field278;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field279;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field280;
+
+	@Number(min = 0, max = 1000)
+	private int field281;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field282;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field283;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field284;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field285;
+
+	@Number(min = 0, max = 1000)
+	private int field286;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field287;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field288;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field289;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field290;
+
+	@Number(min = 0, max = 1000)
+	private int field291;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field292;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field293;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field294;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field295;
+
+	@Number(min = 0, max = 1000)
+	private int field296;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field297;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field298;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field299;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field300;
+
+	@Number(min = 0, max = 1000)
+	private int field301;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field302;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field303;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field304;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field305;
+
+	@Number(min = 0, max = 1000)
+	private int field306;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field307;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field308;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field309;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field310;
+
+	@Number(min = 0, max = 1000)
+	private int field311;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field312;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field313;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field314;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field315;
+
+	@Number(min = 0, max = 1000)
+	private int field316;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field317;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field318;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field319;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field320;
+
+	@Number(min = 0, max = 1000)
+	private int field321;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field322;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field323;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field324;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field325;
+
+	@Number(min = 0, max = 1000)
+	private int field326;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field327;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field328;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field329;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field330;
+
+	@Number(min = 0, max = 1000)
+	private int field331;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field332;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field333;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field334;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field335;
+
+	@Number(min = 0, max = 1000)
+	private int field336;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field337;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field338;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field339;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field340;
+
+	@Number(min = 0, max = 1000)
+	private int field341;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field342;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field343;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field344;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field345;
+
+	@Number(min = 0, max = 1000)
+	private int field346;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field347;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field348;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field349;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field350;
+
+	@Number(min = 0, max = 1000)
+	private int field351;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field352;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field353;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field354;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field355;
+
+	@Number(min = 0, max = 1000)
+	private int field356;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field357;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field358;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field359;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field360;
+
+	@Number(min = 0, max = 1000)
+	private int field361;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field362;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field363;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field364;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field365;
+
+	@Number(min = 0, max = 1000)
+	private int field366;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field367;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field368;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field369;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field370;
+
+	@Number(min = 0, max = 1000)
+	private int field371;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field372;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field373;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field374;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field375;
+
+	@Number(min = 0, max = 1000)
+	private int field376;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field377;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field378;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field379;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field380;
+
+	@Number(min = 0, max = 1000)
+	private int field381;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field382;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field383;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field384;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field385;
+
+	@Number(min = 0, max = 1000)
+	private int field386;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field387;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field388;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field389;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field390;
+
+	@Number(min = 0, max = 1000)
+	private int field391;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field392;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field393;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field394;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field395;
+
+	@Number(min = 0, max = 1000)
+	private int field396;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field397;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field398;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field399;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field400;
+
+	@Number(min = 0, max = 1000)
+	private int field401;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field402;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field403;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field404;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field405;
+
+	@Number(min = 0, max = 1000)
+	private int field406;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field407;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field408;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field409;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field410;
+
+	@Number(min = 0, max = 1000)
+	private int field411;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field412;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field413;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field414;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field415;
+
+	@Number(min = 0, max = 1000)
+	private int field416;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field417;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field418;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field419;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field420;
+
+	@Number(min = 0, max = 1000)
+	private int field421;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field422;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field423;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field424;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field425;
+
+	@Number(min = 0, max = 1000)
+	private int field426;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field427;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field428;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field429;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field430;
+
+	@Number(min = 0, max = 1000)
+	private int field431;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field432;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field433;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field434;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field435;
+
+	@Number(min = 0, max = 1000)
+	private int field436;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field437;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field438;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field439;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field440;
+
+	@Number(min = 0, max = 1000)
+	private int field441;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field442;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field443;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field444;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field445;
+
+	@Number(min = 0, max = 1000)
+	private int field446;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field447;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field448;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field449;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field450;
+
+	@Number(min = 0, max = 1000)
+	private int field451;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field452;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field453;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field454;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field455;
+
+	@Number(min = 0, max = 1000)
+	private int field456;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field457;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field458;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field459;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field460;
+
+	@Number(min = 0, max = 1000)
+	private int field461;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field462;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field463;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field464;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field465;
+
+	@Number(min = 0, max = 1000)
+	private int field466;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field467;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field468;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field469;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field470;
+
+	@Number(min = 0, max = 1000)
+	private int field471;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field472;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field473;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field474;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field475;
+
+	@Number(min = 0, max = 1000)
+	private int field476;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field477;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field478;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field479;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field480;
+
+	@Number(min = 0, max = 1000)
+	private int field481;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field482;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field483;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field484;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field485;
+
+	@Number(min = 0, max = 1000)
+	private int field486;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field487;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field488;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field489;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field490;
+
+	@Number(min = 0, max = 1000)
+	private int field491;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field492;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field493;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field494;
+
+	@NoNull
+	@Length(min = 1, max = 32)
+	private String field495;
+
+	@Number(min = 0, max = 1000)
+	private int field496;
+
+	@NumberFloat(min = 0.0, max = 1.0)
+	private double field497;
+
+	@Pattern(regexp = "[0-9A-F]+")
+	private String field498;
+
+	@Size(min = 1, max = 8)
+	private List<Integer> field499;
+
+	/**
+	 * Конструктор для {@code Shape500}.
+	 *
+	 * @param valid {@code True} если значения полей должны быть корректными, иначе {@code false}.
+	 */
+	public Shape500(final boolean valid)
+	{
+		String string = valid ? "value" : "";
+		int number = valid ? 500 : -1;
+		double numberFloat = valid ? 0.5 : 2.0;
+		String hexadecimal = valid ? "08A6D9" : "value";
+		List<Integer> list = valid ? List.of(1, 2, 3) : List.of();
+
+		this.field0 = string;
+		this.field1 = number;
+		this.field2 = numberFloat;
+		this.field3 = hexadecimal;
+		this.field4 = list;
+		this.field5 = string;
+		this.field6 = number;
+		this.field7 = numberFloat;
+		this.field8 = hexadecimal;
+		this.field9 = list;
+		this.field10 = string;
+		this.field11 = number;
+		this.field12 = numberFloat;
+		this.field13 = hexadecimal;
+		this.field14 = list;
+		this.field15 = string;
+		this.field16 = number;
+		this.field17 = numberFloat;
+		this.field18 = hexadecimal;
+		this.field19 = list;
+		this.field20 = string;
+		this.field21 = number;
+		this.field22 = numberFloat;
+		this.field23 = hexadecimal;
+		this.field24 = list;
+		this.field25 = string;
+		this.field26 = number;
+		this.field27 = numberFloat;
+		this.field28 = hexadecimal;
+		this.field29 = list;
+		this.field30 = string;
+		this.field31 = number;
+		this.field32 = numberFloat;
+		this.field33 = hexadecimal;
+		this.field34 = list;
+		this.field35 = string;
+		this.field36 = number;
+		this.field37 = numberFloat;
+		this.field38 = hexadecimal;
+		this.field39 = list;
+		this.field40 = string;
+		this.field41 = number;
+		this.field42 = numberFloat;
+		this.field43 = hexadecimal;
+		this.field44 = list;
+		this.field45 = string;
+		this.field46 = number;
+		this.field47 = numberFloat;
+		this.field48 = hexadecimal;
+		this.field49 = list;
+		this.field50 = string;
+		this.field51 = number;
+		this.field52 = numberFloat;
+		this.field53 = hexadecimal;
+		this.field54 = list;
+		this.field55 = string;
+		this.field56 = number;
+		this.field57 = numberFloat;
+		this.field58 = hexadecimal;
+		this.field59 = list;
+		this.field60 = string;
+		this.field61 = number;
+		this.field62 = numberFloat;
+		this.field63 = hexadecimal;
+		this.field64 = list;
+		this.field65 = string;
+		this.field66 = number;
+		this.field67 = numberFloat;
+		this.field68 = hexadecimal;
+		this.field69 = list;
+		this.field70 = string;
+		this.field71 = number;
+		this.field72 = numberFloat;
+		this.field73 = hexadecimal;
+		this.field74 = list;
+		this.field75 = string;
+		this.field76 = number;
+		this.field77 = numberFloat;
+		this.field78 = hexadecimal;
+		this.field79 = list;
+		this.field80 = string;
+		this.field81 = number;
+		this.field82 = numberFloat;
+		this.field83 = hexadecimal;
+		this.field84 = list;
+		this.field85 = string;
+		this.field86 = number;
+		this.field87 = numberFloat;
+		this.field88 = hexadecimal;
+		this.field89 = list;
+		this.field90 = string;
+		this.field91 = number;
+		this.field92 = numberFloat;
+		this.field93 = hexadecimal;
+		this.field94 = list;
+		this.field95 = string;
+		this.field96 = number;
+		this.field97 = numberFloat;
+		this.field98 = hexadecimal;
+		this.field99 = list;
+		this.field100 = string;
+		this.field101 = number;
+		this.field102 = numberFloat;
+		this.field103 = hexadecimal;
+		this.field104 = list;
+		this.field105 = string;
+		this.field106 = number;
+		this.field107 = numberFloat;
+		this.field108 = hexadecimal;
+		this.field109 = list;
+		this.field110 = string;
+		this.field111 = number;
+		this.field112 = numberFloat;
+		this.field113 = hexadecimal;
+		this.field114 = list;
+		this.field115 = string;
+		this.field116 = number;
+		this.field117 = numberFloat;
+		this.field118 = hexadecimal;
+		this.field119 = list;
+		this.field120 = string;
+		this.field121 = number;
+		this.field122 = numberFloat;
+		this.field123 = hexadecimal;
+		this.field124 = list;
+		this.field125 = string;
+		this.field126 = number;
+		this.field127 = numberFloat;
+		this.field128 = hexadecimal;
+		this.field129 = list;
+		this.field130 = string;
+		this.field131 = number;
+		this.field132 = numberFloat;
+		this.field133 = hexadecimal;
+		this.field134 = list;
+		this.field135 = string;
+		this.field136 = number;
+		this.field137 = numberFloat;
+		this.field138 = hexadecimal;
+		this.field139 = list;
+		this.field140 = string;
+		this.field141 = number;
+		this.field142 = numberFloat;
+		this.field143 = hexadecimal;
+		this.field144 = list;
+		this.field145 = string;
+		this.field146 = number;
+		this.field147 = numberFloat;
+		this.field148 = hexadecimal;
+		this.field149 = list;
+		this.field150 = string;
+		this.field151 = number;
+		this.field152 = numberFloat;
+		this.field153 = hexadecimal;
+		this.field154 = list;
+		this.field155 = string;
+		this.field156 = number;
+		this.field157 = numberFloat;
+		this.field158 = hexadecimal;
+		this.field159 = list;
+		this.field160 = string;
+		this.field161 = number;
+		this.field162 = numberFloat;
+		this.field163 = hexadecimal;
+		this.field164 = list;
+		this.field165 = string;
+		this.field166 = number;
+		this.field167 = numberFloat;
+		this.field168 = hexadecimal;
+		this.field169 = list;
+		this.field170 = string;
+		this.field171 = number;
+		this.field172 = numberFloat;
+		this.field173 = hexadecimal;
+		this.field174 = list;
+		this.field175 = string;
+		this.field176 = number;
+		this.field177 = numberFloat;
+		this.field178 = hexadecimal;
+		this.field179 = list;
+		this.field180 = string;
+		this.field181 = number;
+		this.field182 = numberFloat;
+		this.field183 = hexadecimal;
+		this.field184 = list;
+		this.field185 = string;
+		this.field186 = number;
+		this.field187 = numberFloat;
+		this.field188 = hexadecimal;
+		this.field189 = list;
+		this.field190 = string;
+		this.field191 = number;
+		this.field192 = numberFloat;
+		this.field193 = hexadecimal;
+		this.field194 = list;
+		this.field195 = string;
+		this.field196 = number;
+		this.field197 = numberFloat;
+		this.field198 = hexadecimal;
+		this.field199 = list;
+		this.field200 = string;
+		this.field201 = number;
+		this.field202 = numberFloat;
+		this.field203 = hexadecimal;
+		this.field204 = list;
+		this.field205 = string;
+		this.field206 = number;
+		this.field207 = numberFloat;
+		this.field208 = hexadecimal;
+		this.field209 = list;
+		this.field210 = string;
+		this.field211 = number;
+		this.field212 = numberFloat;
+		this.field213 = hexadecimal;
+		this.field214 = list;
+		this.field215 = string;
+		this.field216 = number;
+		this.field217 = numberFloat;
+		this.field218 = hexadecimal;
+		this.field219 = list;
+		this.field220 = string;
+		this.field221 = number;
+		this.field222 = numberFloat;
+		this.field223 = hexadecimal;
+		this.field224 = list;
+		this.field225 = string;
+		this.field226 = number;
+		this.field227 = numberFloat;
+		this.field228 = hexadecimal;
+		this.field229 = list;
+		this.field230 = string;
+		this.field231 = number;
+		this.field232 = numberFloat;
+		this.field233 = hexadecimal;
+		this.field234 = list;
+		this.field235 = string;
+		this.field236 = number;
+		this.field237 = numberFloat;
+		this.field238 = hexadecimal;
+		this.field239 = list;
+		this.field240 = string;
+		this.field241 = number;
+		this.field242 = numberFloat;
+		this.field243 = hexadecimal;
+		this.field244 = list;
+		this.field245 = string;
+		this.field246 = number;
+		this.field247 = numberFloat;
+		this.field248 = hexadecimal;
+		this.field249 = list;
+		this.field250 = string;
+		this.field251 = number;
+		this.field252 = numberFloat;
+		this.field253 = hexadecimal;
+		this.field254 = list;
+		this.field255 = string;
+		this.field256 = number;
+		this.field257 = numberFloat;
+		this.field258 = hexadecimal;
+		this.field259 = list;
+		this.field260 = string;
+		this.field261 = number;
+		this.field262 = numberFloat;
+		this.field263 = hexadecimal;
+		this.field264 = list;
+		this.field265 = string;
+		this.field266 = number;
+		this.field267 = numberFloat;
+		this.field268 = hexadecimal;
+		this.field269 = list;
+		this.field270 = string;
+		this.field271 = number;
+		this.field272 = numberFloat;
+		this.field273 = hexadecimal;
+		this.field274 = list;
+		this.field275 = string;
+		this.field276 = number;
+		this.field277 = numberFloat;
+		this.field278 = hexadecimal;
+		this.field279 = list;
+		this.field280 = string;
+		this.field281 = number;
+		this.field282 = numberFloat;
+		this.field283 = hexadecimal;
+		this.field284 = list;
+		this.field285 = string;
+		this.field286 = number;
+		this.field287 = numberFloat;
+		this.field288 = hexadecimal;
+		this.field289 = list;
+		this.field290 = string;
+		this.field291 = number;
+		this.field292 = numberFloat;
+		this.field293 = hexadecimal;
+		this.field294 = list;
+		this.field295 = string;
+		this.field296 = number;
+		this.field297 = numberFloat;
+		this.field298 = hexadecimal;
+		this.field299 = list;
+		this.field300 = string;
+		this.field301 = number;
+		this.field302 = numberFloat;
+		this.field303 = hexadecimal;
+		this.field304 = list;
+		this.field305 = string;
+		this.field306 = number;
+		this.field307 = numberFloat;
+		this.field308 = hexadecimal;
+		this.field309 = list;
+		this.field310 = string;
+		this.field311 = number;
+		this.field312 = numberFloat;
+		this.field313 = hexadecimal;
+		this.field314 = list;
+		this.field315 = string;
+		this.field316 = number;
+		this.field317 = numberFloat;
+		this.field318 = hexadecimal;
+		this.field319 = list;
+		this.field320 = string;
+		this.field321 = number;
+		this.field322 = numberFloat;
+		this.field323 = hexadecimal;
+		this.field324 = list;
+		this.field325 = string;
+		this.field326 = number;
+		this.field327 = numberFloat;
+		this.field328 = hexadecimal;
+		this.field329 = list;
+		this.field330 = string;
+		this.field331 = number;
+		this.field332 = numberFloat;
+		this.field333 = hexadecimal;
+		this.field334 = list;
+		this.field335 = string;
+		this.field336 = number;
+		this.field337 = numberFloat;
+		this.field338 = hexadecimal;
+		this.field339 = list;
+		this.field340 = string;
+		this.field341 = number;
+		this.field342 = numberFloat;
+		this.field343 = hexadecimal;
+		this.field344 = list;
+		this.field345 = string;
+		this.field346 = number;
+		this.field347 = numberFloat;
+		this.field348 = hexadecimal;
+		this.field349 = list;
+		this.field350 = string;
+		this.field351 = number;
+		this.field352 = numberFloat;
+		this.field353 = hexadecimal;
+		this.field354 = list;
+		this.field355 = string;
+		this.field356 = number;
+		this.field357 = numberFloat;
+		this.field358 = hexadecimal;
+		this.field359 = list;
+		this.field360 = string;
+		this.field361 = number;
+		this.field362 = numberFloat;
+		this.field363 = hexadecimal;
+		this.field364 = list;
+		this.field365 = string;
+		this.field366 = number;
+		this.field367 = numberFloat;
+		this.field368 = hexadecimal;
+		this.field369 = list;
+		this.field370 = string;
+		this.field371 = number;
+		this.field372 = numberFloat;
+		this.field373 = hexadecimal;
+		this.field374 = list;
+		this.field375 = string;
+		this.field376 = number;
+		this.field377 = numberFloat;
+		this.field378 = hexadecimal;
+		this.field379 = list;
+		this.field380 = string;
+		this.field381 = number;
+		this.field382 = numberFloat;
+		this.field383 = hexadecimal;
+		this.field384 = list;
+		this.field385 = string;
+		this.field386 = number;
+		this.field387 = numberFloat;
+		this.field388 = hexadecimal;
+		this.field389 = list;
+		this.field390 = string;
+		this.field391 = number;
+		this.field392 = numberFloat;
+		this.field393 = hexadecimal;
+		this.field394 = list;
+		this.field395 = string;
+		this.field396 = number;
+		this.field397 = numberFloat;
+		this.field398 = hexadecimal;
+		this.field399 = list;
+		this.field400 = string;
+		this.field401 = number;
+		this.field402 = numberFloat;
+		this.field403 = hexadecimal;
+		this.field404 = list;
+		this.field405 = string;
+		this.field406 = number;
+		this.field407 = numberFloat;
+		this.field408 = hexadecimal;
+		this.field409 = list;
+		this.field410 = string;
+		this.field411 = number;
+		this.field412 = numberFloat;
+		this.field413 = hexadecimal;
+		this.field414 = list;
+		this.field415 = string;
+		this.field416 = number;
+		this.field417 = numberFloat;
+		this.field418 = hexadecimal;
+		this.field419 = list;
+		this.field420 = string;
+		this.field421 = number;
+		this.field422 = numberFloat;
+		this.field423 = hexadecimal;
+		this.field424 = list;
+		this.field425 = string;
+		this.field426 = number;
+		this.field427 = numberFloat;
+		this.field428 = hexadecimal;
+		this.field429 = list;
+		this.field430 = string;
+		this.field431 = number;
+		this.field432 = numberFloat;
+		this.field433 = hexadecimal;
+		this.field434 = list;
+		this.field435 = string;
+		this.field436 = number;
+		this.field437 = numberFloat;
+		this.field438 = hexadecimal;
+		this.field439 = list;
+		this.field440 = string;
+		this.field441 = number;
+		this.field442 = numberFloat;
+		this.field443 = hexadecimal;
+		this.field444 = list;
+		this.field445 = string;
+		this.field446 = number;
+		this.field447 = numberFloat;
+		this.field448 = hexadecimal;
+		this.field449 = list;
+		this.field450 = string;
+		this.field451 = number;
+		this.field452 = numberFloat;
+		this.field453 = hexadecimal;
+		this.field454 = list;
+		this.field455 = string;
+		this.field456 = number;
+		this.field457 = numberFloat;
+		this.field458 = hexadecimal;
+		this.field459 = list;
+		this.field460 = string;
+		this.field461 = number;
+		this.field462 = numberFloat;
+		this.field463 = hexadecimal;
+		this.field464 = list;
+		this.field465 = string;
+		this.field466 = number;
+		this.field467 = numberFloat;
+		this.field468 = hexadecimal;
+		this.field469 = list;
+		this.field470 = string;
+		this.field471 = number;
+		this.field472 = numberFloat;
+		this.field473 = hexadecimal;
+		this.field474 = list;
+		this.field475 = string;
+		this.field476 = number;
+		this.field477 = numberFloat;
+		this.field478 = hexadecimal;
+		this.field479 = list;
+		this.field480 = string;
+		this.field481 = number;
+		this.field482 = numberFloat;
+		this.field483 = hexadecimal;
+		this.field484 = list;
+		this.field485 = string;
+		this.field486 = number;
+		this.field487 = numberFloat;
+		this.field488 = hexadecimal;
+		this.field489 = list;
+		this.field490 = string;
+		this.field491 = number;
+		this.field492 = numberFloat;
+		this.field493 = hexadecimal;
+		this.field494 = list;
+		this.field495 = string;
+		this.field496 = number;
+		this.field497 = numberFloat;
+		this.field498 = hexadecimal;
+		this.field499 = list;
+	}
+}
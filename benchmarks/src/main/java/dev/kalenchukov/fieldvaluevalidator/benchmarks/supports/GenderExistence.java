@@ -0,0 +1,22 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.benchmarks.supports;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс проверки существования пола.
+ */
+public class GenderExistence implements Existable<String>
+{
+	@Override
+	public boolean exists(@NotNull final String value)
+	{
+		return value.equals("MALE") || value.equals("FEMALE");
+	}
+}
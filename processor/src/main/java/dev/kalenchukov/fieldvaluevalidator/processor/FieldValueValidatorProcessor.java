@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.processor;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Класс процессора аннотаций, создающего проверяющих значений полей классов.
+ * Для каждого класса с полями, помеченными ограничениями, создаётся класс {@code <Класс>GeneratedValidator}
+ * в том же пакете, который читает значения полей напрямую и выполняет проверки без рефлексии.
+ * Созданные проверяющие регистрируются в {@code META-INF/services}
+ * и используются {@code FieldValueValidator} автоматически.
+ * Классы, которые не удаётся проверить без рефлексии, пропускаются с примечанием компилятора.
+ */
+@SupportedAnnotationTypes("dev.kalenchukov.fieldvaluevalidator.constraints.*")
+public final class FieldValueValidatorProcessor extends AbstractProcessor
+{
+	/**
+	 * Путь к файлу регистрации сгенерированных проверяющих.
+	 */
+	@NotNull
+	private static final String SERVICES = "META-INF/services/dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating";
+
+	/**
+	 * Полные названия созданных проверяющих.
+	 */
+	@NotNull
+	private final Set<@NotNull String> generated = new LinkedHashSet<>();
+
+	/**
+	 * Классы, для которых созданы проверяющие.
+	 */
+	@NotNull
+	private final List<@NotNull Element> originating = new ArrayList<>();
+
+	/**
+	 * @see AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@NotNull
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * @see AbstractProcessor#process(Set, RoundEnvironment)
+	 */
+	@Override
+	public boolean process(@NotNull final Set<? extends @NotNull TypeElement> annotations,
+						   @NotNull final RoundEnvironment roundEnvironment)
+	{
+		Objects.requireNonNull(annotations);
+		Objects.requireNonNull(roundEnvironment);
+
+		if (roundEnvironment.processingOver())
+		{
+			this.writeServices();
+
+			return false;
+		}
+
+		Set<TypeElement> types = new LinkedHashSet<>();
+
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement() instanceof TypeElement) {
+					types.add((TypeElement) element.getEnclosingElement());
+				}
+			}
+		}
+
+		for (TypeElement type : types) {
+			this.writeValidator(type);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Создаёт проверяющего для класса.
+	 *
+	 * @param type Класс.
+	 */
+	private void writeValidator(@NotNull final TypeElement type)
+	{
+		Objects.requireNonNull(type);
+
+		ValidatorWriter validatorWriter = new ValidatorWriter(this.processingEnv, type);
+		String source;
+
+		try
+		{
+			source = validatorWriter.write();
+		}
+		catch (ValidatorWriter.UnsupportedClassException exception)
+		{
+			this.processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.NOTE,
+				"Проверяющий не создан, поля класса будут проверяться с помощью рефлексии: " + exception.getMessage(),
+				type
+			);
+
+			return;
+		}
+
+		try
+		{
+			JavaFileObject file = this.processingEnv.getFiler().createSourceFile(validatorWriter.getQualifiedName(), type);
+
+			try (Writer writer = file.openWriter()) {
+				writer.write(source);
+			}
+		}
+		catch (IOException exception)
+		{
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), type);
+
+			return;
+		}
+
+		this.generated.add(validatorWriter.getQualifiedName());
+		this.originating.add(type);
+	}
+
+	/**
+	 * Регистрирует созданных проверяющих в {@code META-INF/services}.
+	 */
+	private void writeServices()
+	{
+		if (this.generated.isEmpty()) {
+			return;
+		}
+
+		try
+		{
+			FileObject file = this.processingEnv.getFiler().createResource(
+				StandardLocation.CLASS_OUTPUT,
+				"",
+				SERVICES,
+				this.originating.toArray(new Element[0])
+			);
+
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+			{
+				for (String name : this.generated) {
+					writer.write(name + "\n");
+				}
+			}
+		}
+		catch (IOException exception)
+		{
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, exception.getMessage());
+		}
+	}
+}
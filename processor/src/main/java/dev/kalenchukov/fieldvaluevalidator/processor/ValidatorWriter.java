@@ -0,0 +1,810 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.processor;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Класс создания исходного кода проверяющего значений полей одного класса.
+ * Проверки выполняются методами {@code Checks}, которые используются и при проверке с помощью рефлексии,
+ * а параметры ограничений подставляются в исходный код константами.
+ */
+final class ValidatorWriter
+{
+	/**
+	 * Пакет ограничений.
+	 */
+	@NotNull
+	private static final String CONSTRAINTS = "dev.kalenchukov.fieldvaluevalidator.constraints.";
+
+	/**
+	 * Класс проверок.
+	 */
+	@NotNull
+	private static final String CHECKS = "dev.kalenchukov.fieldvaluevalidator.generation.Checks";
+
+	/**
+	 * Окружение процессора аннотаций.
+	 */
+	@NotNull
+	private final Elements elements;
+
+	/**
+	 * Утилиты для работы с типами.
+	 */
+	@NotNull
+	private final Types types;
+
+	/**
+	 * Класс, для которого создаётся проверяющий.
+	 */
+	@NotNull
+	private final TypeElement type;
+
+	/**
+	 * Объявления констант проверяющего.
+	 */
+	@NotNull
+	private final StringBuilder constants = new StringBuilder();
+
+	/**
+	 * Инициализация доступа к закрытым полям класса.
+	 */
+	@NotNull
+	private final StringBuilder handles = new StringBuilder();
+
+	/**
+	 * Тело метода проверки.
+	 */
+	@NotNull
+	private final StringBuilder body = new StringBuilder();
+
+	/**
+	 * Количество объявленных констант.
+	 */
+	private int counter = 0;
+
+	/**
+	 * Конструктор для {@code ValidatorWriter}.
+	 *
+	 * @param processingEnvironment Окружение процессора аннотаций.
+	 * @param type Класс, для которого создаётся проверяющий.
+	 */
+	ValidatorWriter(@NotNull final ProcessingEnvironment processingEnvironment, @NotNull final TypeElement type)
+	{
+		Objects.requireNonNull(processingEnvironment);
+		Objects.requireNonNull(type);
+
+		this.elements = processingEnvironment.getElementUtils();
+		this.types = processingEnvironment.getTypeUtils();
+		this.type = type;
+	}
+
+	/**
+	 * Возвращает полное название проверяющего.
+	 *
+	 * @return Полное название проверяющего.
+	 */
+	@NotNull
+	public String getQualifiedName()
+	{
+		String packageName = this.getPackageName();
+
+		if (packageName.isEmpty()) {
+			return this.getSimpleName();
+		}
+
+		return packageName + "." + this.getSimpleName();
+	}
+
+	/**
+	 * Создаёт исходный код проверяющего.
+	 *
+	 * @return Исходный код проверяющего.
+	 * @throws UnsupportedClassException Если поля класса невозможно проверить без рефлексии.
+	 */
+	@NotNull
+	public String write() throws UnsupportedClassException
+	{
+		this.checkAccessible();
+
+		for (TypeElement current = this.type; current != null; current = this.getSuperclass(current))
+		{
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				this.writeField(current, field);
+			}
+		}
+
+		if (this.body.length() > 0) {
+			this.body.setLength(this.body.length() - 1);
+		}
+
+		String typeName = this.getTypeName();
+		StringBuilder source = new StringBuilder();
+
+		if (!this.getPackageName().isEmpty()) {
+			source.append("package ").append(this.getPackageName()).append(";\n\n");
+		}
+
+		source.append("/**\n")
+			.append(" * Проверяющий значений полей класса {@link ").append(typeName).append("}.\n")
+			.append(" * Создан процессором аннотаций FieldValueValidator.\n")
+			.append(" */\n")
+			.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+			.append("public final class ").append(this.getSimpleName())
+			.append(" implements dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating<")
+			.append(typeName).append(">\n")
+			.append("{\n")
+			.append(this.constants);
+
+		if (this.handles.length() > 0)
+		{
+			source.append("\tstatic\n")
+				.append("\t{\n")
+				.append("\t\ttry\n")
+				.append("\t\t{\n")
+				.append(this.handles)
+				.append("\t\t}\n")
+				.append("\t\tcatch (java.lang.ReflectiveOperationException exception)\n")
+				.append("\t\t{\n")
+				.append("\t\t\tthrow new java.lang.ExceptionInInitializerError(exception);\n")
+				.append("\t\t}\n")
+				.append("\t}\n\n");
+		}
+
+		source.append("\t@java.lang.Override\n")
+			.append("\tpublic java.lang.Class<").append(typeName).append("> getType()\n")
+			.append("\t{\n")
+			.append("\t\treturn ").append(typeName).append(".class;\n")
+			.append("\t}\n\n")
+			.append("\t@java.lang.Override\n")
+			.append("\tpublic void validate(").append(typeName).append(" object, ")
+			.append("dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext context)\n")
+			.append("\t{\n")
+			.append(this.body)
+			.append("\t}\n")
+			.append("}\n");
+
+		return source.toString();
+	}
+
+	/**
+	 * Проверяет, доступен ли класс из проверяющего в том же пакете.
+	 *
+	 * @throws UnsupportedClassException Если класс недоступен.
+	 */
+	private void checkAccessible() throws UnsupportedClassException
+	{
+		Element element = this.type;
+
+		while (element instanceof TypeElement)
+		{
+			TypeElement typeElement = (TypeElement) element;
+
+			if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL && typeElement.getNestingKind() != NestingKind.MEMBER) {
+				throw new UnsupportedClassException("класс '" + typeElement.getSimpleName() + "' локальный или анонимный");
+			}
+
+			if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+				throw new UnsupportedClassException("класс '" + typeElement.getSimpleName() + "' закрытый");
+			}
+
+			element = typeElement.getEnclosingElement();
+		}
+	}
+
+	/**
+	 * Создаёт проверку значения поля класса или его суперкласса.
+	 *
+	 * @param declaringType Класс, в котором объявлено поле.
+	 * @param field Поле класса.
+	 * @throws UnsupportedClassException Если значение поля невозможно проверить без рефлексии.
+	 */
+	private void writeField(@NotNull final TypeElement declaringType,
+							@NotNull final VariableElement field) throws UnsupportedClassException
+	{
+		Objects.requireNonNull(declaringType);
+		Objects.requireNonNull(field);
+
+		List<AnnotationMirror> constraints = new ArrayList<>();
+
+		for (AnnotationMirror annotation : field.getAnnotationMirrors())
+		{
+			if (this.getAnnotationName(annotation).startsWith(CONSTRAINTS)) {
+				constraints.add(annotation);
+			}
+		}
+
+		if (constraints.isEmpty()) {
+			return;
+		}
+
+		TypeMirror fieldType = this.types.erasure(field.asType());
+		StringBuilder checks = new StringBuilder();
+
+		for (AnnotationMirror constraint : constraints)
+		{
+			String check = this.writeCheck(field, fieldType, constraint);
+
+			if (check != null)
+			{
+				checks.append("\t\t\tkey = ").append(check).append(";\n\n")
+					.append("\t\t\tif (key != null && context.addViolation(")
+					.append(ValidatorWriter.quote(field.getSimpleName().toString())).append(", ")
+					.append(ValidatorWriter.quote(this.getString(constraint, "message"))).append(", ")
+					.append("key, ")
+					.append(this.writeParams(field, constraint)).append(")) {\n")
+					.append("\t\t\t\treturn;\n")
+					.append("\t\t\t}\n\n");
+			}
+		}
+
+		if (checks.length() == 0) {
+			return;
+		}
+
+		checks.setLength(checks.length() - 1);
+
+		this.body.append("\t\t{\n")
+			.append("\t\t\t").append(fieldType).append(" value = ").append(this.writeRead(declaringType, field, fieldType)).append(";\n")
+			.append("\t\t\tjava.lang.String key;\n\n")
+			.append(checks)
+			.append("\t\t}\n\n");
+	}
+
+	/**
+	 * Создаёт чтение значения поля класса или его суперкласса.
+	 * Компоненты записей читаются через методы доступа, не закрытые поля класса и суперклассов
+	 * того же пакета читаются напрямую, остальные поля читаются через {@link java.lang.invoke.VarHandle}.
+	 *
+	 * @param declaringType Класс, в котором объявлено поле.
+	 * @param field Поле класса.
+	 * @param fieldType Тип поля класса без параметров типа.
+	 * @return Выражение чтения значения поля класса.
+	 * @throws UnsupportedClassException Если класс, в котором объявлено поле, недоступен проверяющему.
+	 */
+	@NotNull
+	private String writeRead(@NotNull final TypeElement declaringType,
+							 @NotNull final VariableElement field,
+							 @NotNull final TypeMirror fieldType) throws UnsupportedClassException
+	{
+		Objects.requireNonNull(declaringType);
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(fieldType);
+
+		if (!this.isAccessible(declaringType)) {
+			throw new UnsupportedClassException("класс '" + declaringType.getSimpleName() + "' недоступен");
+		}
+
+		String name = field.getSimpleName().toString();
+		String declaringName = declaringType.getQualifiedName().toString();
+		boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+		boolean isSamePackage = this.elements.getPackageOf(declaringType).equals(this.elements.getPackageOf(this.type));
+
+		if (declaringType.getKind() == ElementKind.RECORD && !isStatic) {
+			return "object." + name + "()";
+		}
+
+		if (!field.getModifiers().contains(Modifier.PRIVATE) && isSamePackage)
+		{
+			if (isStatic) {
+				return declaringName + "." + name;
+			}
+
+			if (declaringType.equals(this.type)) {
+				return "object." + name;
+			}
+
+			return "((" + declaringName + ") object)." + name;
+		}
+
+		String handle = "FIELD_" + this.counter++;
+
+		this.constants.append("\tprivate static final java.lang.invoke.VarHandle ").append(handle).append(";\n\n");
+
+		this.handles.append("\t\t\t").append(handle).append(" = java.lang.invoke.MethodHandles.privateLookupIn(")
+			.append(declaringName).append(".class, java.lang.invoke.MethodHandles.lookup())\n")
+			.append("\t\t\t\t.").append(isStatic ? "findStaticVarHandle" : "findVarHandle").append("(")
+			.append(declaringName).append(".class, ")
+			.append(ValidatorWriter.quote(name)).append(", ")
+			.append(fieldType).append(".class);\n");
+
+		return "(" + fieldType + ") " + handle + (isStatic ? ".get()" : ".get(object)");
+	}
+
+	/**
+	 * Создаёт проверку значения поля класса ограничением.
+	 *
+	 * @param field Поле класса.
+	 * @param fieldType Тип поля класса без параметров типа.
+	 * @param constraint Ограничение.
+	 * @return Выражение проверки, или {@code null} если ограничение не проверяет значение поля.
+	 * @throws UnsupportedClassException Если значение поля невозможно проверить данным ограничением без рефлексии.
+	 */
+	@Nullable
+	private String writeCheck(@NotNull final VariableElement field,
+							  @NotNull final TypeMirror fieldType,
+							  @NotNull final AnnotationMirror constraint) throws UnsupportedClassException
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(fieldType);
+		Objects.requireNonNull(constraint);
+
+		String name = this.getAnnotationName(constraint).substring(CONSTRAINTS.length());
+		boolean primitive = fieldType.getKind().isPrimitive();
+
+		switch (name)
+		{
+			case "Cascade":
+				return null;
+
+			case "NoNull":
+				if (primitive) {
+					return null;
+				}
+
+				return CHECKS + ".noNull(value)";
+
+			case "NoEmpty":
+				if (this.isType(fieldType, "java.lang.String")) {
+					return "value == null ? null : " + CHECKS + ".noEmpty(value, " + this.getValue(constraint, "allowSpace") + ")";
+				}
+
+				break;
+
+			case "Length":
+				if (this.isType(fieldType, "java.lang.String"))
+				{
+					return "value == null ? null : " + CHECKS + ".length(value, "
+						+ this.getValue(constraint, "min") + ", " + this.getValue(constraint, "max") + ")";
+				}
+
+				break;
+
+			case "Size":
+				String size = null;
+
+				if (fieldType.getKind() == TypeKind.ARRAY) {
+					size = "value.length";
+				} else if (this.isSubtype(fieldType, "java.util.Collection") || this.isSubtype(fieldType, "java.util.Map")) {
+					size = "value.size()";
+				}
+
+				if (size != null)
+				{
+					return "value == null ? null : " + CHECKS + ".size(" + size + ", "
+						+ this.getValue(constraint, "min") + ", " + this.getValue(constraint, "max") + ")";
+				}
+
+				break;
+
+			case "Number":
+				String range = this.getLong(constraint, "min") + ", " + this.getLong(constraint, "max");
+
+				if (this.isKind(fieldType, TypeKind.BYTE, TypeKind.SHORT, TypeKind.INT, TypeKind.LONG)) {
+					return CHECKS + ".number(value, " + range + ")";
+				}
+
+				if (this.isType(fieldType, "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long")) {
+					return "value == null ? null : " + CHECKS + ".number(value.longValue(), " + range + ")";
+				}
+
+				break;
+
+			case "NumberFloat":
+				String rangeFloat = this.getDouble(constraint, "min") + ", " + this.getDouble(constraint, "max");
+
+				if (this.isKind(fieldType, TypeKind.FLOAT, TypeKind.DOUBLE)) {
+					return CHECKS + ".numberFloat(value, " + rangeFloat + ")";
+				}
+
+				if (this.isType(fieldType, "java.lang.Float", "java.lang.Double")) {
+					return "value == null ? null : " + CHECKS + ".numberFloat(value.doubleValue(), " + rangeFloat + ")";
+				}
+
+				break;
+
+			case "Pattern":
+				String regexp = this.getString(constraint, "regexp");
+
+				try
+				{
+					Pattern.compile(regexp);
+				}
+				catch (PatternSyntaxException exception)
+				{
+					throw new UnsupportedClassException(
+						"некорректное регулярное выражение поля '" + field.getSimpleName() + "'"
+					);
+				}
+
+				String pattern = "PATTERN_" + this.counter++;
+
+				this.constants.append("\tprivate static final java.util.regex.Pattern ").append(pattern)
+					.append(" = java.util.regex.Pattern.compile(").append(ValidatorWriter.quote(regexp)).append(");\n\n");
+
+				if (this.isType(fieldType, "java.lang.String")) {
+					return "value == null ? null : " + CHECKS + ".pattern(value, " + pattern + ")";
+				}
+
+				if (this.isType(fieldType, "java.lang.Character")) {
+					return "value == null ? null : " + CHECKS + ".pattern(java.lang.String.valueOf(value), " + pattern + ")";
+				}
+
+				if (this.isKind(fieldType, TypeKind.CHAR)) {
+					return CHECKS + ".pattern(java.lang.String.valueOf(value), " + pattern + ")";
+				}
+
+				break;
+
+			case "Language":
+				if (this.isType(fieldType, "java.lang.String")) {
+					return "value == null ? null : " + CHECKS + ".language(value)";
+				}
+
+				break;
+
+			default:
+				throw new UnsupportedClassException(
+					"ограничение '@" + name + "' поля '" + field.getSimpleName() + "' проверяется только с помощью рефлексии"
+				);
+		}
+
+		throw new UnsupportedClassException(
+			"тип поля '" + field.getSimpleName() + "' не поддерживается ограничением '@" + name + "'"
+		);
+	}
+
+	/**
+	 * Создаёт константу параметров нарушения.
+	 * Параметры совпадают с параметрами нарушений проверяющих.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Ограничение.
+	 * @return Название константы параметров нарушения.
+	 */
+	@NotNull
+	private String writeParams(@NotNull final VariableElement field, @NotNull final AnnotationMirror constraint)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		List<String> params = new ArrayList<>();
+
+		params.add("FIELD");
+		params.add(field.getSimpleName().toString());
+
+		switch (this.getAnnotationName(constraint).substring(CONSTRAINTS.length()))
+		{
+			case "Length":
+			case "Size":
+			case "Number":
+			case "NumberFloat":
+				params.add("MIN");
+				params.add(String.valueOf(this.getAnnotationValue(constraint, "min").getValue()));
+				params.add("MAX");
+				params.add(String.valueOf(this.getAnnotationValue(constraint, "max").getValue()));
+				break;
+
+			case "Pattern":
+				params.add("REGEXP");
+				params.add(this.getString(constraint, "regexp"));
+				break;
+
+			default:
+				break;
+		}
+
+		String name = "PARAMS_" + this.counter++;
+		StringJoiner values = new StringJoiner(", ");
+
+		for (String param : params) {
+			values.add(ValidatorWriter.quote(param));
+		}
+
+		this.constants.append("\tprivate static final java.util.Map<java.lang.String, java.lang.String> ").append(name)
+			.append(" = java.util.Map.of(").append(values).append(");\n\n");
+
+		return name;
+	}
+
+	/**
+	 * Возвращает суперкласс класса.
+	 *
+	 * @param typeElement Класс.
+	 * @return Суперкласс, или {@code null} если суперклассом является {@link Object}.
+	 */
+	@Nullable
+	private TypeElement getSuperclass(@NotNull final TypeElement typeElement)
+	{
+		TypeMirror superclass = typeElement.getSuperclass();
+
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+
+		TypeElement superElement = (TypeElement) this.types.asElement(superclass);
+
+		if (superElement.getQualifiedName().contentEquals("java.lang.Object")) {
+			return null;
+		}
+
+		return superElement;
+	}
+
+	/**
+	 * Определяет, доступен ли класс по имени из пакета проверяющего.
+	 *
+	 * @param typeElement Класс.
+	 * @return {@code True} если класс доступен, иначе {@code false}.
+	 */
+	private boolean isAccessible(@NotNull final TypeElement typeElement)
+	{
+		boolean isSamePackage = this.elements.getPackageOf(typeElement).equals(this.elements.getPackageOf(this.type));
+		Element element = typeElement;
+
+		while (element instanceof TypeElement)
+		{
+			Set<Modifier> modifiers = element.getModifiers();
+
+			if (modifiers.contains(Modifier.PRIVATE) || (!isSamePackage && !modifiers.contains(Modifier.PUBLIC))) {
+				return false;
+			}
+
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Определяет, является ли тип одним из заданных классов.
+	 *
+	 * @param typeMirror Тип.
+	 * @param names Полные названия классов.
+	 * @return {@code True} если тип является одним из классов, иначе {@code false}.
+	 */
+	private boolean isType(@NotNull final TypeMirror typeMirror, @NotNull final String @NotNull ... names)
+	{
+		if (typeMirror.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		String name = ((TypeElement) this.types.asElement(typeMirror)).getQualifiedName().toString();
+
+		return Arrays.asList(names).contains(name);
+	}
+
+	/**
+	 * Определяет, является ли тип подтипом заданного класса.
+	 *
+	 * @param typeMirror Тип.
+	 * @param name Полное название класса.
+	 * @return {@code True} если тип является подтипом класса, иначе {@code false}.
+	 */
+	private boolean isSubtype(@NotNull final TypeMirror typeMirror, @NotNull final String name)
+	{
+		TypeElement typeElement = this.elements.getTypeElement(name);
+
+		return typeMirror.getKind() == TypeKind.DECLARED
+			&& this.types.isSubtype(typeMirror, this.types.erasure(typeElement.asType()));
+	}
+
+	/**
+	 * Определяет, является ли тип одним из заданных примитивных типов.
+	 *
+	 * @param typeMirror Тип.
+	 * @param kinds Примитивные типы.
+	 * @return {@code True} если тип является одним из примитивных типов, иначе {@code false}.
+	 */
+	private boolean isKind(@NotNull final TypeMirror typeMirror, @NotNull final TypeKind @NotNull ... kinds)
+	{
+		return Arrays.asList(kinds).contains(typeMirror.getKind());
+	}
+
+	/**
+	 * Возвращает полное название ограничения.
+	 *
+	 * @param annotation Ограничение.
+	 * @return Полное название ограничения.
+	 */
+	@NotNull
+	private String getAnnotationName(@NotNull final AnnotationMirror annotation)
+	{
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	/**
+	 * Возвращает значение параметра ограничения с учётом значения по умолчанию.
+	 *
+	 * @param annotation Ограничение.
+	 * @param name Название параметра.
+	 * @return Значение параметра.
+	 */
+	@NotNull
+	private AnnotationValue getAnnotationValue(@NotNull final AnnotationMirror annotation, @NotNull final String name)
+	{
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+			: this.elements.getElementValuesWithDefaults(annotation).entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue();
+			}
+		}
+
+		throw new IllegalArgumentException(name);
+	}
+
+	/**
+	 * Возвращает значение параметра ограничения в виде литерала.
+	 *
+	 * @param annotation Ограничение.
+	 * @param name Название параметра.
+	 * @return Литерал значения параметра.
+	 */
+	@NotNull
+	private String getValue(@NotNull final AnnotationMirror annotation, @NotNull final String name)
+	{
+		return String.valueOf(this.getAnnotationValue(annotation, name).getValue());
+	}
+
+	/**
+	 * Возвращает значение параметра ограничения типа {@code long} в виде литерала.
+	 *
+	 * @param annotation Ограничение.
+	 * @param name Название параметра.
+	 * @return Литерал значения параметра.
+	 */
+	@NotNull
+	private String getLong(@NotNull final AnnotationMirror annotation, @NotNull final String name)
+	{
+		return this.getValue(annotation, name) + "L";
+	}
+
+	/**
+	 * Возвращает значение параметра ограничения типа {@code double} в виде литерала.
+	 *
+	 * @param annotation Ограничение.
+	 * @param name Название параметра.
+	 * @return Литерал значения параметра.
+	 */
+	@NotNull
+	private String getDouble(@NotNull final AnnotationMirror annotation, @NotNull final String name)
+	{
+		double value = (Double) this.getAnnotationValue(annotation, name).getValue();
+
+		if (Double.isNaN(value)) {
+			return "java.lang.Double.NaN";
+		}
+
+		if (Double.isInfinite(value)) {
+			return value > 0 ? "java.lang.Double.POSITIVE_INFINITY" : "java.lang.Double.NEGATIVE_INFINITY";
+		}
+
+		return Double.toString(value);
+	}
+
+	/**
+	 * Возвращает значение строкового параметра ограничения.
+	 *
+	 * @param annotation Ограничение.
+	 * @param name Название параметра.
+	 * @return Значение параметра.
+	 */
+	@NotNull
+	private String getString(@NotNull final AnnotationMirror annotation, @NotNull final String name)
+	{
+		return (String) this.getAnnotationValue(annotation, name).getValue();
+	}
+
+	/**
+	 * Возвращает название пакета класса.
+	 *
+	 * @return Название пакета, или пустую строку для пакета по умолчанию.
+	 */
+	@NotNull
+	private String getPackageName()
+	{
+		return this.elements.getPackageOf(this.type).getQualifiedName().toString();
+	}
+
+	/**
+	 * Возвращает название проверяющего.
+	 * Для вложенного класса названия внешних классов соединяются символом {@code _}.
+	 *
+	 * @return Название проверяющего.
+	 */
+	@NotNull
+	private String getSimpleName()
+	{
+		StringBuilder name = new StringBuilder(this.type.getSimpleName());
+		Element element = this.type.getEnclosingElement();
+
+		while (element instanceof TypeElement)
+		{
+			name.insert(0, element.getSimpleName() + "_");
+			element = element.getEnclosingElement();
+		}
+
+		return name + "GeneratedValidator";
+	}
+
+	/**
+	 * Возвращает полное название класса без параметров типа.
+	 *
+	 * @return Полное название класса.
+	 */
+	@NotNull
+	private String getTypeName()
+	{
+		return this.type.getQualifiedName().toString();
+	}
+
+	/**
+	 * Возвращает строковый литерал.
+	 * Символы вне ASCII заменяются escape-последовательностями, поэтому исходный код не зависит от кодировки.
+	 *
+	 * @param value Строка.
+	 * @return Строковый литерал.
+	 */
+	@NotNull
+	private static String quote(@NotNull final String value)
+	{
+		StringBuilder literal = new StringBuilder("\"");
+
+		for (char symbol : value.toCharArray())
+		{
+			switch (symbol)
+			{
+				case '"' -> literal.append("\\\"");
+				case '\\' -> literal.append("\\\\");
+				case '\n' -> literal.append("\\n");
+				case '\r' -> literal.append("\\r");
+				case '\t' -> literal.append("\\t");
+				default -> {
+					if (symbol < 0x20 || symbol > 0x7E) {
+						literal.append(String.format("\\u%04x", (int) symbol));
+					} else {
+						literal.append(symbol);
+					}
+				}
+			}
+		}
+
+		return literal.append('"').toString();
+	}
+
+	/**
+	 * Исключение для класса, поля которого невозможно проверить без рефлексии.
+	 */
+	static final class UnsupportedClassException extends Exception
+	{
+		/**
+		 * Конструктор для {@code UnsupportedClassException}.
+		 *
+		 * @param message Сообщение.
+		 */
+		UnsupportedClassException(@NotNull final String message)
+		{
+			super(message);
+
+			Objects.requireNonNull(message);
+		}
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.processor;
+
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class FieldValueValidatorProcessorTest
+{
+	private Path output;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		this.output = Files.createTempDirectory("processor");
+	}
+
+	@After
+	public void tearDown() throws IOException
+	{
+		try (var paths = Files.walk(this.output))
+		{
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Проверка совпадения нарушений созданного проверяющего и проверки с помощью рефлексии.
+	 */
+	@Test
+	public void TestGeneratedEqualsReflective() throws Exception
+	{
+		String source = """
+			package samples;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Cascade;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Language;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.NoEmpty;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.NumberFloat;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Pattern;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Size;
+			import java.util.List;
+
+			public class Order
+			{
+				@NoNull
+				@NoEmpty
+				@Length(min = 3, max = 5)
+				private String name = "";
+
+				@Number(min = 1, max = 10)
+				int count = 11;
+
+				@NumberFloat(min = 0.5, max = 1.5)
+				private Double price = 2.0;
+
+				@Size(min = 1, max = 2)
+				private List<String> lines = List.of("a", "b", "c");
+
+				@Pattern(regexp = "[0-9]+")
+				private String code = "Ж1";
+
+				@Language
+				private String language = "ru-RU";
+
+				@NoNull
+				private static Object shared = null;
+
+				@NumberFloat(min = 0, max = 1)
+				private float ratio = 0.5F;
+
+				@Cascade
+				private Order parent = null;
+			}
+			""";
+
+		this.compile(Map.of("samples.Order", source));
+
+		assertEquals(
+			"samples.OrderGeneratedValidator",
+			Files.readString(this.output.resolve(
+				"META-INF/services/dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating"
+			)).trim()
+		);
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new java.net.URL[]{this.output.toUri().toURL()}, this.getClass().getClassLoader()
+		))
+		{
+			Object order = classLoader.loadClass("samples.Order").getDeclaredConstructor().newInstance();
+			GeneratedValidating<Object> generated = this.newGenerated(classLoader, "samples.OrderGeneratedValidator");
+
+			assertEquals(order.getClass(), generated.getType());
+
+			this.assertSameViolations(order, generated);
+		}
+	}
+
+	/**
+	 * Проверка проверки полей суперклассов созданным проверяющим.
+	 */
+	@Test
+	public void TestGeneratedInheritedFields() throws Exception
+	{
+		String base = """
+			package samples.base;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
+
+			public class Entity
+			{
+				@NoNull
+				private Long id = null;
+
+				@Length(min = 3, max = 5)
+				protected String name = "ab";
+			}
+			""";
+
+		String source = """
+			package samples;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
+
+			public class Product extends samples.base.Entity
+			{
+				@Length(min = 3, max = 5)
+				String name = "abcdef";
+			}
+			""";
+
+		this.compile(Map.of("samples.base.Entity", base, "samples.Product", source));
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new java.net.URL[]{this.output.toUri().toURL()}, this.getClass().getClassLoader()
+		))
+		{
+			Object product = classLoader.loadClass("samples.Product").getDeclaredConstructor().newInstance();
+			GeneratedValidating<Object> generated = this.newGenerated(classLoader, "samples.ProductGeneratedValidator");
+
+			this.assertSameViolations(product, generated);
+		}
+	}
+
+	/**
+	 * Проверка чтения компонентов записи через методы доступа созданным проверяющим.
+	 */
+	@Test
+	public void TestGeneratedRecord() throws Exception
+	{
+		String source = """
+			package samples;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+
+			public record Point(@Number(min = 0, max = 10) int x, @Length(min = 3, max = 5) String label)
+			{
+				@Override
+				public String label()
+				{
+					return this.label.trim();
+				}
+			}
+			""";
+
+		this.compile(Map.of("samples.Point", source));
+
+		String generatedSource = Files.readString(this.output.resolve("samples/PointGeneratedValidator.java"));
+
+		assertTrue(generatedSource.contains("object.label()"));
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new java.net.URL[]{this.output.toUri().toURL()}, this.getClass().getClassLoader()
+		))
+		{
+			Object point = classLoader.loadClass("samples.Point")
+				.getDeclaredConstructor(int.class, String.class)
+				.newInstance(11, " ab ");
+			GeneratedValidating<Object> generated = this.newGenerated(classLoader, "samples.PointGeneratedValidator");
+
+			this.assertSameViolations(point, generated);
+		}
+	}
+
+	/**
+	 * Проверка пропуска класса с ограничением, которое проверяется только с помощью рефлексии.
+	 */
+	@Test
+	public void TestUnsupportedClassSkipped() throws Exception
+	{
+		String source = """
+			package samples;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Valid;
+			import dev.kalenchukov.fieldvaluevalidator.interfaces.Validable;
+
+			public class Customer
+			{
+				@NoNull
+				private String name;
+
+				@Valid(validator = Email.class)
+				private String email;
+
+				public static class Email implements Validable<String>
+				{
+					@Override
+					public boolean valid(String value)
+					{
+						return value.contains("@");
+					}
+				}
+			}
+			""";
+
+		this.compile(Map.of("samples.Customer", source));
+
+		assertFalse(Files.exists(this.output.resolve("samples/CustomerGeneratedValidator.class")));
+	}
+
+	/**
+	 * Проверка пропуска поля неподдерживаемого типа.
+	 */
+	@Test
+	public void TestUnsupportedTypeSkipped() throws Exception
+	{
+		String source = """
+			package samples;
+
+			import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
+
+			public class Counter
+			{
+				@Length(max = 10)
+				private Integer value;
+			}
+			""";
+
+		this.compile(Map.of("samples.Counter", source));
+
+		assertFalse(Files.exists(this.output.resolve("samples/CounterGeneratedValidator.class")));
+	}
+
+	/**
+	 * Проверяет совпадение нарушений созданного проверяющего и проверки с помощью рефлексии.
+	 *
+	 * @param object Проверяемый объект.
+	 * @param generated Созданный проверяющий.
+	 */
+	private void assertSameViolations(Object object, GeneratedValidating<Object> generated)
+	{
+		for (boolean pushy : new boolean[]{true, false})
+		{
+			FieldValueValidating fieldValueValidator = new FieldValueValidator();
+			fieldValueValidator.setPushy(pushy);
+
+			List<Violating> expected = fieldValueValidator.validate(object);
+			List<Violating> actual = new ArrayList<>();
+
+			generated.validate(object, new ValidationContext(
+				ResourceBundle.getBundle("localizations/violations", fieldValueValidator.getLocale()),
+				pushy,
+				actual
+			));
+
+			assertFalse(expected.isEmpty());
+			assertEquals(expected.size(), actual.size());
+
+			for (int i = 0; i < expected.size(); i++)
+			{
+				assertEquals(expected.get(i).getField(), actual.get(i).getField());
+				assertEquals(expected.get(i).getMessage(), actual.get(i).getMessage());
+				assertEquals(expected.get(i).getParams(), actual.get(i).getParams());
+			}
+		}
+	}
+
+	/**
+	 * Компилирует исходный код с процессором аннотаций.
+	 *
+	 * @param sources Исходный код классов.
+	 * <ul>
+	 * 		<li><b>key</b> - полное название класса.</li>
+	 * 		<li><b>value</b> - исходный код класса.</li>
+	 * </ul>
+	 */
+	private void compile(Map<String, String> sources) throws IOException
+	{
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		List<JavaFileObject> files = new ArrayList<>();
+
+		for (Map.Entry<String, String> source : sources.entrySet())
+		{
+			files.add(new SimpleJavaFileObject(
+				URI.create("string:///" + source.getKey().replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+				JavaFileObject.Kind.SOURCE
+			)
+			{
+				@Override
+				public CharSequence getCharContent(boolean ignoreEncodingErrors)
+				{
+					return source.getValue();
+				}
+			});
+		}
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+			diagnostics, Locale.ROOT, StandardCharsets.UTF_8
+		))
+		{
+			JavaCompiler.CompilationTask task = compiler.getTask(
+				null,
+				fileManager,
+				diagnostics,
+				List.of(
+					"-classpath", System.getProperty("java.class.path"),
+					"-d", this.output.toString()
+				),
+				null,
+				files
+			);
+
+			task.setProcessors(List.of(new FieldValueValidatorProcessor()));
+
+			boolean success = task.call();
+
+			assertTrue(diagnostics.getDiagnostics().toString(), success);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private GeneratedValidating<Object> newGenerated(ClassLoader classLoader, String name) throws Exception
+	{
+		return (GeneratedValidating<Object>) classLoader.loadClass(name).getDeclaredConstructor().newInstance();
+	}
+}
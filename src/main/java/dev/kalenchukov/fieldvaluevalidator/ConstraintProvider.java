@@ -0,0 +1,24 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Интерфейс для реализации поставщика ограничений.
+ * Реализации находятся с помощью {@link java.util.ServiceLoader} при создании {@link ConstraintRegistry}
+ * и объявляются в {@code META-INF/services} или директивой {@code provides} модуля.
+ */
+public interface ConstraintProvider
+{
+	/**
+	 * Регистрирует ограничения и их проверяющих.
+	 *
+	 * @param registry Реестр ограничений.
+	 */
+	void register(@NotNull ConstraintRegistry registry);
+}
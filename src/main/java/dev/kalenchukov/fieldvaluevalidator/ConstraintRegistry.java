@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+import dev.kalenchukov.fieldvaluevalidator.validators.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Класс реестра ограничений.
+ * Связывает аннотации ограничений с проверяющими. Реестр содержит ограничения библиотеки и ограничения
+ * поставщиков {@link ConstraintProvider}, найденных с помощью {@link ServiceLoader} при создании реестра.
+ * Ограничения регистрируются до создания {@link FieldValueValidator} с этим реестром.
+ */
+public final class ConstraintRegistry
+{
+	/**
+	 * Коллекция создателей проверяющих.
+	 * <ul>
+	 * 		<li><b>key</b> - аннотация ограничения.</li>
+	 * 		<li><b>value</b> - создатель проверяющего для локализации.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private final Map<@NotNull Class<? extends Annotation>, @NotNull Function<@NotNull Locale, @NotNull Validating>> factories;
+
+	/**
+	 * Конструктор для {@code ConstraintRegistry}.
+	 */
+	public ConstraintRegistry()
+	{
+		this.factories = new LinkedHashMap<>();
+
+		// Проверка присутствия обязательных параметров
+		this.register(NoNull.class, NoNullValidator::new);
+		// Проверка параметров на пустоту
+		this.register(NoEmpty.class, NoEmptyValidator::new);
+		// Проверка на количество переданных значений в каждом параметре
+		this.register(Size.class, SizeValidator::new);
+		// Проверка на минимальное и максимальное количество символов
+		this.register(Length.class, LengthValidator::new);
+		// Проверка на язык
+		this.register(Language.class, LanguageValidator::new);
+		// Проверка на минимальное и максимальное значение целого числа
+		this.register(Number.class, NumberValidator::new);
+		// Проверка на минимальное и максимальное значение дробного числа
+		this.register(NumberFloat.class, NumberFloatValidator::new);
+		// Проверка значения на соответствие шаблону регулярного выражения
+		this.register(Pattern.class, PatternValidator::new);
+		// Персонализированная проверка корректности значений параметров
+		this.register(Valid.class, ValidValidator::new);
+		// Проверка существования значений параметров
+		this.register(Exist.class, ExistValidator::new);
+
+		for (ConstraintProvider provider : ServiceLoader.load(ConstraintProvider.class)) {
+			provider.register(this);
+		}
+	}
+
+	/**
+	 * Регистрирует ограничение.
+	 * Проверяющий ранее зарегистрированного ограничения заменяется. Для повторяемого ограничения
+	 * проверяющий используется и для аннотации-контейнера, указанной в {@link Repeatable}.
+	 * Такой проверяющий должен получать ограничения поля методом
+	 * {@link java.lang.reflect.Field#getDeclaredAnnotationsByType(Class)}, чтобы проверять все повторения ограничения.
+	 * Проверяющий создаётся один раз для локализации и используется для всех проверок.
+	 *
+	 * @param constraint Аннотация ограничения.
+	 * @param factory Создатель проверяющего для локализации.
+	 * @return Реестр ограничений.
+	 * @throws IllegalArgumentException Если аннотация ограничения недоступна во время выполнения.
+	 */
+	@NotNull
+	public synchronized ConstraintRegistry register(@NotNull final Class<? extends Annotation> constraint,
+													@NotNull final Function<@NotNull Locale, @NotNull Validating> factory)
+	{
+		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(factory);
+
+		Retention retention = constraint.getDeclaredAnnotation(Retention.class);
+
+		if (retention == null || retention.value() != RetentionPolicy.RUNTIME) {
+			throw new IllegalArgumentException();
+		}
+
+		this.factories.put(constraint, factory);
+
+		return this;
+	}
+
+	/**
+	 * Определяет, зарегистрировано ли ограничение.
+	 *
+	 * @param constraint Аннотация ограничения.
+	 * @return {@code True} если ограничение зарегистрировано, иначе {@code false}.
+	 */
+	public synchronized boolean isRegistered(@NotNull final Class<? extends Annotation> constraint)
+	{
+		Objects.requireNonNull(constraint);
+
+		return this.factories.containsKey(constraint);
+	}
+
+	/**
+	 * Создаёт проверяющих зарегистрированных ограничений.
+	 *
+	 * @param locale Локализация.
+	 * @return Коллекцию проверяющих.
+	 * <ul>
+	 * 		<li><b>key</b> - аннотация ограничения или её аннотация-контейнер.</li>
+	 * 		<li><b>value</b> - проверяющий.</li>
+	 * </ul>
+	 */
+	@UnmodifiableView
+	@NotNull
+	synchronized Map<@NotNull Class<? extends Annotation>, @NotNull Validating> createValidators(@NotNull final Locale locale)
+	{
+		Objects.requireNonNull(locale);
+
+		Map<Class<? extends Annotation>, Validating> validators = new IdentityHashMap<>();
+
+		for (Map.Entry<Class<? extends Annotation>, Function<Locale, Validating>> entry : this.factories.entrySet())
+		{
+			Class<? extends Annotation> constraint = entry.getKey();
+			Validating validator = Objects.requireNonNull(entry.getValue().apply(locale));
+
+			validators.put(constraint, validator);
+
+			Repeatable repeatable = constraint.getDeclaredAnnotation(Repeatable.class);
+
+			if (repeatable != null) {
+				validators.putIfAbsent(repeatable.value(), validator);
+			}
+		}
+
+		return Collections.unmodifiableMap(validators);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс статистики использования кэша результатов проверки существования.
+ * Статистика является снимком на момент её получения.
+ */
+public final class ExistenceCacheStatistics
+{
+	/**
+	 * Количество попаданий.
+	 */
+	private final long hits;
+
+	/**
+	 * Количество промахов.
+	 */
+	private final long misses;
+
+	/**
+	 * Количество вытесненных значений.
+	 */
+	private final long evictions;
+
+	/**
+	 * Количество значений в кэше.
+	 */
+	private final int size;
+
+	/**
+	 * Конструктор для {@code ExistenceCacheStatistics}.
+	 *
+	 * @param hits Количество попаданий.
+	 * @param misses Количество промахов.
+	 * @param evictions Количество вытесненных значений.
+	 * @param size Количество значений в кэше.
+	 */
+	public ExistenceCacheStatistics(final long hits, final long misses, final long evictions, final int size)
+	{
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.size = size;
+	}
+
+	/**
+	 * Возвращает количество попаданий.
+	 *
+	 * @return Количество попаданий.
+	 */
+	public long getHits()
+	{
+		return this.hits;
+	}
+
+	/**
+	 * Возвращает количество промахов.
+	 *
+	 * @return Количество промахов.
+	 */
+	public long getMisses()
+	{
+		return this.misses;
+	}
+
+	/**
+	 * Возвращает количество вытесненных значений.
+	 *
+	 * @return Количество вытесненных значений.
+	 */
+	public long getEvictions()
+	{
+		return this.evictions;
+	}
+
+	/**
+	 * Возвращает количество значений в кэше.
+	 *
+	 * @return Количество значений.
+	 */
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return "ExistenceCacheStatistics{" + "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + '}';
+	}
+}
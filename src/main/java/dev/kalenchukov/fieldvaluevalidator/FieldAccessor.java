@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+
+/**
+ * Класс доступа к значению поля класса.
+ * Доступ к полю разрешается один раз при создании и не меняет доступность поля.
+ * Значения компонентов записей читаются через их методы доступа.
+ */
+final class FieldAccessor
+{
+	/**
+	 * Поле класса.
+	 */
+	@NotNull
+	private final Field field;
+
+	/**
+	 * Метод доступа к компоненту записи, или {@code null} если поле не является компонентом записи.
+	 */
+	@Nullable
+	private final Method componentAccessor;
+
+	/**
+	 * Получатель значения поля класса в виде объекта.
+	 */
+	@NotNull
+	private final MethodHandle getter;
+
+	/**
+	 * Получатель значения поля класса целочисленного примитивного типа.
+	 */
+	@Nullable
+	private final MethodHandle longGetter;
+
+	/**
+	 * Получатель значения поля класса дробного примитивного типа.
+	 */
+	@Nullable
+	private final MethodHandle doubleGetter;
+
+	/**
+	 * Конструктор для {@code FieldAccessor}.
+	 *
+	 * @param field Поле класса.
+	 * @throws InaccessibleObjectException Если доступ к полю класса невозможен.
+	 */
+	FieldAccessor(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		this.field = field;
+		this.componentAccessor = FieldAccessor.findComponentAccessor(field);
+
+		MethodHandle getter;
+
+		if (this.componentAccessor == null) {
+			getter = FieldAccessor.findGetter(field);
+		} else {
+			getter = FieldAccessor.findGetter(this.componentAccessor);
+		}
+
+		Class<?> type = field.getType();
+
+		this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+
+		if (type == byte.class || type == short.class || type == int.class || type == long.class) {
+			this.longGetter = getter.asType(MethodType.methodType(long.class, Object.class));
+		} else {
+			this.longGetter = null;
+		}
+
+		if (type == float.class || type == double.class) {
+			this.doubleGetter = getter.asType(MethodType.methodType(double.class, Object.class));
+		} else {
+			this.doubleGetter = null;
+		}
+	}
+
+	/**
+	 * Возвращает поле класса.
+	 *
+	 * @return Поле класса.
+	 */
+	@NotNull
+	public Field getField()
+	{
+		return this.field;
+	}
+
+	/**
+	 * Возвращает метод доступа к компоненту записи.
+	 *
+	 * @return Метод доступа к компоненту записи, или {@code null} если поле не является компонентом записи.
+	 */
+	@Nullable
+	public Method getComponentAccessor()
+	{
+		return this.componentAccessor;
+	}
+
+	/**
+	 * Возвращает значение поля класса.
+	 *
+	 * @param object Объект класса.
+	 * @return Значение поля класса.
+	 */
+	@Nullable
+	public Object get(@NotNull final Object object)
+	{
+		try
+		{
+			return (Object) this.getter.invokeExact(object);
+		}
+		catch (RuntimeException | Error exception)
+		{
+			throw exception;
+		}
+		catch (Throwable throwable)
+		{
+			throw new IllegalStateException(throwable);
+		}
+	}
+
+	/**
+	 * Возвращает значение поля класса целочисленного примитивного типа.
+	 *
+	 * @param object Объект класса.
+	 * @return Значение поля класса.
+	 * @throws UnsupportedOperationException Если поле класса не целочисленного примитивного типа.
+	 */
+	public long getLong(@NotNull final Object object)
+	{
+		if (this.longGetter == null) {
+			throw new UnsupportedOperationException();
+		}
+
+		try
+		{
+			return (long) this.longGetter.invokeExact(object);
+		}
+		catch (RuntimeException | Error exception)
+		{
+			throw exception;
+		}
+		catch (Throwable throwable)
+		{
+			throw new IllegalStateException(throwable);
+		}
+	}
+
+	/**
+	 * Возвращает значение поля класса дробного примитивного типа.
+	 *
+	 * @param object Объект класса.
+	 * @return Значение поля класса.
+	 * @throws UnsupportedOperationException Если поле класса не дробного примитивного типа.
+	 */
+	public double getDouble(@NotNull final Object object)
+	{
+		if (this.doubleGetter == null) {
+			throw new UnsupportedOperationException();
+		}
+
+		try
+		{
+			return (double) this.doubleGetter.invokeExact(object);
+		}
+		catch (RuntimeException | Error exception)
+		{
+			throw exception;
+		}
+		catch (Throwable throwable)
+		{
+			throw new IllegalStateException(throwable);
+		}
+	}
+
+	/**
+	 * Находит получателя значения поля класса.
+	 * Для статического поля класса получатель принимает и игнорирует объект класса.
+	 *
+	 * @param field Поле класса.
+	 * @return Получатель значения поля класса.
+	 * @throws InaccessibleObjectException Если модуль класса не открывает доступ к полю.
+	 */
+	@NotNull
+	private static MethodHandle findGetter(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Class<?> declaringClass = field.getDeclaringClass();
+
+		FieldAccessor.class.getModule().addReads(declaringClass.getModule());
+
+		MethodHandle getter;
+
+		try
+		{
+			getter = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup()).unreflectGetter(field);
+		}
+		catch (IllegalAccessException exception)
+		{
+			throw new InaccessibleObjectException(exception.getMessage());
+		}
+
+		if (Modifier.isStatic(field.getModifiers())) {
+			getter = MethodHandles.dropArguments(getter, 0, Object.class);
+		}
+
+		return getter;
+	}
+
+	/**
+	 * Возвращает метод доступа к компоненту записи, значение которого хранится в поле.
+	 *
+	 * @param field Поле класса.
+	 * @return Метод доступа к компоненту записи, или {@code null} если поле не является компонентом записи.
+	 */
+	@Nullable
+	private static Method findComponentAccessor(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		Class<?> declaringClass = field.getDeclaringClass();
+
+		if (!declaringClass.isRecord() || Modifier.isStatic(field.getModifiers())) {
+			return null;
+		}
+
+		for (RecordComponent component : declaringClass.getRecordComponents())
+		{
+			if (component.getName().equals(field.getName())) {
+				return component.getAccessor();
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Возвращает получателя значения компонента записи через метод доступа.
+	 * Открытый метод доступа открытой записи вызывается без глубокой рефлексии,
+	 * поэтому пакет записи не обязательно открывать для проверяющего.
+	 *
+	 * @param componentAccessor Метод доступа к компоненту записи.
+	 * @return Получателя значения компонента записи.
+	 * @throws InaccessibleObjectException Если доступ к методу доступа невозможен.
+	 */
+	@NotNull
+	private static MethodHandle findGetter(@NotNull final Method componentAccessor)
+	{
+		Objects.requireNonNull(componentAccessor);
+
+		Class<?> declaringClass = componentAccessor.getDeclaringClass();
+
+		FieldAccessor.class.getModule().addReads(declaringClass.getModule());
+
+		try
+		{
+			return MethodHandles.lookup().unreflect(componentAccessor);
+		}
+		catch (IllegalAccessException exception)
+		{
+			try
+			{
+				return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup()).unreflect(componentAccessor);
+			}
+			catch (IllegalAccessException privateException)
+			{
+				throw new InaccessibleObjectException(privateException.getMessage());
+			}
+		}
+	}
+}
@@ -6,11 +6,17 @@
 
 package dev.kalenchukov.fieldvaluevalidator;
 
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Интерфейс для реализации класса по проверке корректности значений полей класса.
@@ -47,8 +53,69 @@ public interface FieldValueValidating
 	 */
 	void setPushy(@NotNull Boolean pushy);
 
+	/**
+	 * Возвращает максимальную глубину каскадной проверки.
+	 *
+	 * @return Максимальная глубина каскадной проверки.
+	 */
+	int getMaxDepth();
+
+	/**
+	 * Устанавливает максимальную глубину каскадной проверки.
+	 * Объекты, на которые ссылаются поля с ограничением {@code Cascade}, проверяются до заданной глубины
+	 * вложенности, объекты глубже не проверяются. Значение {@code 0} отключает каскадную проверку.
+	 * По умолчанию {@code 32}.
+	 *
+	 * @param maxDepth Максимальная глубина каскадной проверки.
+	 * @throws IllegalArgumentException Если {@code maxDepth} меньше {@code 0}.
+	 */
+	void setMaxDepth(int maxDepth);
+
+	/**
+	 * Определяет, создаются ли проверяющие классов во время выполнения.
+	 *
+	 * @return {@code True} если проверяющие создаются во время выполнения, иначе {@code false}.
+	 */
+	@NotNull
+	Boolean isBytecodeGeneration();
+
+	/**
+	 * Устанавливает создание проверяющих классов во время выполнения.
+	 * Для класса, у которого нет проверяющего, созданного процессором аннотаций, при первой проверке
+	 * создаётся скрытый класс, читающий значения полей без рефлексии. Если проверяющего создать
+	 * невозможно, например для класса с ограничением {@code Exist} или класса из модуля,
+	 * закрытого для проверяющего, поля класса проверяются с помощью рефлексии.
+	 *
+	 * @param bytecodeGeneration Создание проверяющих во время выполнения.
+	 */
+	void setBytecodeGeneration(@NotNull Boolean bytecodeGeneration);
+
+	/**
+	 * Определяет, запоминаются ли результаты проверки неизменяемых объектов.
+	 *
+	 * @return {@code True} если результаты проверки запоминаются, иначе {@code false}.
+	 */
+	@NotNull
+	Boolean isMemoization();
+
+	/**
+	 * Устанавливает запоминание результатов проверки неизменяемых объектов.
+	 * Результат проверки методом {@link #validate(Object)} объекта класса, отмеченного
+	 * {@link dev.kalenchukov.fieldvaluevalidator.constraints.Immutable}, запоминается для этого объекта,
+	 * и повторная проверка того же объекта возвращает запомненную коллекцию нарушений без проверки полей.
+	 * Объекты сравниваются по ссылке и не удерживаются от сборки мусора. Запомненные результаты
+	 * не используются после смены локализации, настырности или максимальной глубины каскадной проверки
+	 * и удаляются при отключении запоминания.
+	 * По умолчанию запоминание отключено.
+	 *
+	 * @param memoization Запоминание результатов проверки.
+	 */
+	void setMemoization(@NotNull Boolean memoization);
+
 	/**
 	 * Проверяет поля класса на корректность.
+	 * Проверяются поля класса и его суперклассов: сначала поля самого класса, затем поля суперклассов.
+	 * После полей объекта проверяются объекты, на которые ссылаются поля с ограничением {@code Cascade}.
 	 *
 	 * @param object Объект класса в котором поля необходимо проверить на корректность.
 	 * @return Коллекцию нарушений.
@@ -56,4 +123,193 @@ public interface FieldValueValidating
 	@UnmodifiableView
 	@NotNull
 	List<@NotNull Violating> validate(@NotNull Object object);
+
+	/**
+	 * Проверяет поля класса на корректность в группах проверки.
+	 * Проверяются только ограничения, в параметре {@code groups} которых указана одна из групп
+	 * или её суперинтерфейс. Ограничения без групп относятся к группе
+	 * {@link dev.kalenchukov.fieldvaluevalidator.constraints.Default}. Если группы не указаны,
+	 * проверяются ограничения группы {@code Default}.
+	 * Объекты, на которые ссылаются поля с ограничением {@code Cascade}, проверяются в тех же группах.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param groups Группы проверки.
+	 * @return Коллекцию нарушений.
+	 */
+	@UnmodifiableView
+	@NotNull
+	List<@NotNull Violating> validate(@NotNull Object object, @NotNull Class<?> @NotNull ... groups);
+
+	/**
+	 * Проверяет на корректность заданные поля класса.
+	 * Проверяются ограничения группы {@link dev.kalenchukov.fieldvaluevalidator.constraints.Default}
+	 * только у полей с заданными названиями. Объекты, на которые ссылаются заданные поля
+	 * с ограничением {@code Cascade}, проверяются полностью.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param names Названия полей.
+	 * @return Коллекцию нарушений.
+	 * @throws IllegalArgumentException Если в классе или его суперклассах нет поля с одним из названий.
+	 */
+	@UnmodifiableView
+	@NotNull
+	List<@NotNull Violating> validateFields(@NotNull Object object, @NotNull String @NotNull ... names);
+
+	/**
+	 * Повторно проверяет поля класса на корректность.
+	 * Для объекта сохраняется снимок значений и нарушений полей, который не удерживает объект
+	 * от сборки мусора. При следующей повторной проверке того же объекта ограничения поля не проверяются,
+	 * если значение поля не изменилось, а используются нарушения из снимка. Неизменность определяется
+	 * только для значений {@code null}, строк, перечислений, примитивных типов и их обёрток, поля других
+	 * типов проверяются каждый раз. Объекты, на которые ссылаются поля с ограничением {@code Cascade},
+	 * проверяются каждый раз полностью. Снимок сбрасывается при смене локализации или настырности.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @return Коллекцию нарушений.
+	 */
+	@UnmodifiableView
+	@NotNull
+	List<@NotNull Violating> revalidate(@NotNull Object object);
+
+	/**
+	 * Определяет корректность значений полей класса.
+	 * Проверка прекращается на первом нарушении, нарушения и их сообщения не создаются.
+	 * Проверка не выделяет память, кроме проверки ограничением {@code Pattern}
+	 * и обхода объектов, на которые ссылаются поля с ограничением {@code Cascade}.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @return {@code True} если значения всех полей класса корректны, иначе {@code false}.
+	 */
+	boolean isValid(@NotNull Object object);
+
+	/**
+	 * Проверяет поля объектов на корректность.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @return Коллекцию нарушений объектов с нарушениями.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull Iterable<@NotNull ?> objects);
+
+	/**
+	 * Проверяет поля объектов на корректность.
+	 * Проверка прекращается после обнаружения заданного количества объектов с нарушениями.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @param limit Максимальное количество объектов с нарушениями.
+	 * @return Коллекцию нарушений объектов с нарушениями.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 * @throws IllegalArgumentException Если {@code limit} меньше {@code 1}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull Iterable<@NotNull ?> objects, int limit);
+
+	/**
+	 * Проверяет поля объектов на корректность.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @return Коллекцию нарушений объектов с нарушениями.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull Stream<@NotNull ?> objects);
+
+	/**
+	 * Проверяет поля объектов на корректность.
+	 * Проверка прекращается после обнаружения заданного количества объектов с нарушениями,
+	 * оставшиеся объекты из потока не извлекаются. Объекты с пакетной проверкой существования
+	 * извлекаются частями, поэтому из потока может быть извлечено больше объектов, чем проверено.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @param limit Максимальное количество объектов с нарушениями.
+	 * @return Коллекцию нарушений объектов с нарушениями.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 * @throws IllegalArgumentException Если {@code limit} меньше {@code 1}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull Stream<@NotNull ?> objects, int limit);
+
+	/**
+	 * Проверяет поля объектов на корректность параллельно в общем пуле {@link java.util.concurrent.ForkJoinPool}.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @return Коллекцию нарушений объектов с нарушениями в порядке следования объектов.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAllParallel(@NotNull List<@NotNull ?> objects);
+
+	/**
+	 * Проверяет поля объектов на корректность параллельно с помощью исполнителя.
+	 * Объекты разбиваются на части, каждая из которых проверяется отдельной задачей.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @param executor Исполнитель задач проверки.
+	 * @return Коллекцию нарушений объектов с нарушениями в порядке следования объектов.
+	 * <ul>
+	 * 		<li><b>key</b> - порядковый номер объекта начиная с {@code 0}.</li>
+	 * 		<li><b>value</b> - коллекция нарушений объекта.</li>
+	 * </ul>
+	 */
+	@UnmodifiableView
+	@NotNull
+	Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAllParallel(@NotNull List<@NotNull ?> objects,
+																				@NotNull Executor executor);
+
+	/**
+	 * Асинхронно проверяет поля класса на корректность.
+	 * Проверки существования выполняются параллельно в общем для всех проверяющих пуле потоков,
+	 * остальные проверки выполняются в вызывающем потоке.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @return Результат проверки: коллекция нарушений.
+	 */
+	@NotNull
+	CompletableFuture<@UnmodifiableView @NotNull List<@NotNull Violating>> validateAsync(@NotNull Object object);
+
+	/**
+	 * Асинхронно проверяет поля класса на корректность.
+	 * Проверки существования выполняются параллельно с помощью исполнителя,
+	 * остальные проверки выполняются в вызывающем потоке.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param executor Исполнитель проверок существования.
+	 * @return Результат проверки: коллекция нарушений.
+	 */
+	@NotNull
+	CompletableFuture<@UnmodifiableView @NotNull List<@NotNull Violating>> validateAsync(@NotNull Object object,
+																						@NotNull Executor executor);
+
+	/**
+	 * Возвращает статистику использования кэша результатов проверки существования.
+	 * Кэш создаётся при первой проверке ограничением {@code Exist} с заданным временем жизни результатов
+	 * и сбрасывается при смене локализации. Статистика кэшей ограничений с разными параметрами
+	 * кэширования суммируется.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @return Статистику использования кэша, или {@code null} если кэш для класса проверки не создавался.
+	 */
+	@Nullable
+	ExistenceCacheStatistics getExistenceCacheStatistics(@NotNull Class<? extends Existable<?>> existence);
 }
@@ -7,19 +7,32 @@
 package dev.kalenchukov.fieldvaluevalidator;
 
 import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
-import dev.kalenchukov.fieldvaluevalidator.validators.Validating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext;
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
 import dev.kalenchukov.fieldvaluevalidator.validators.*;
 import org.apache.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * Класс проверки корректности значений полей класса.
+ * После настройки один экземпляр может использоваться для проверки из нескольких потоков одновременно.
  */
 public class FieldValueValidator implements FieldValueValidating
 {
@@ -35,18 +48,116 @@ public class FieldValueValidator implements FieldValueValidating
 	@NotNull
 	private Boolean pushy = true;
 
+	/**
+	 * Максимальная глубина каскадной проверки.
+	 */
+	private int maxDepth = 32;
+
+	/**
+	 * Признак создания проверяющих классов во время выполнения.
+	 */
+	@NotNull
+	private Boolean bytecodeGeneration = false;
+
+	/**
+	 * Признак запоминания результатов проверки неизменяемых объектов.
+	 */
+	@NotNull
+	private Boolean memoization = false;
+
 	/**
 	 * Логгер для данного класса.
 	 */
 	@NotNull
 	private static final Logger LOG = Logger.getLogger(FieldValueValidator.class);
 
+	/**
+	 * Количество частей на один процессор при параллельной проверке.
+	 */
+	private static final int PARALLEL_CHUNKS_PER_PROCESSOR = 4;
+
+	/**
+	 * Минимальное количество объектов в части при параллельной проверке.
+	 */
+	private static final int PARALLEL_MIN_CHUNK_SIZE = 256;
+
+	/**
+	 * Максимальное количество объектов в пакете проверки существования при пакетной проверке.
+	 */
+	private static final int EXISTENCE_BATCH_SIZE = 1024;
+
 	/**
 	 * локализованные тексты логирования.
 	 */
 	@NotNull
 	private ResourceBundle localeLogs = ResourceBundle.getBundle("localizations/logs", this.locale);
 
+	/**
+	 * Локализованные тексты нарушений.
+	 */
+	@NotNull
+	private ResourceBundle localeViolations = ResourceBundle.getBundle("localizations/violations", this.locale);
+
+	/**
+	 * Реестр ограничений.
+	 */
+	@NotNull
+	private final ConstraintRegistry registry;
+
+	/**
+	 * Коллекция проверяющих.
+	 */
+	@NotNull
+	private Map<@NotNull Class<? extends Annotation>, @NotNull Validating> validators;
+
+	/**
+	 * Планы проверки классов.
+	 */
+	@NotNull
+	private ClassValue<@NotNull ValidationPlan> plans;
+
+	/**
+	 * Планы проверки классов по группам проверки.
+	 */
+	@NotNull
+	private ClassValue<@NotNull ConcurrentMap<@NotNull PlanSelection, @NotNull ValidationPlan>> selectedPlans;
+
+	/**
+	 * Снимки полей объектов, проверенных повторной проверкой.
+	 */
+	@NotNull
+	private final WeakIdentityMap<@NotNull Snapshot> snapshots = new WeakIdentityMap<>();
+
+	/**
+	 * Запомненные результаты проверки неизменяемых объектов.
+	 */
+	@NotNull
+	private final WeakIdentityMap<@NotNull Memo> memos = new WeakIdentityMap<>();
+
+	/**
+	 * Конструктор для {@code FieldValueValidator}.
+	 * Используются ограничения библиотеки и ограничения поставщиков {@link ConstraintProvider}.
+	 */
+	public FieldValueValidator()
+	{
+		this(RegistryHolder.REGISTRY);
+	}
+
+	/**
+	 * Конструктор для {@code FieldValueValidator}.
+	 *
+	 * @param registry Реестр ограничений.
+	 */
+	public FieldValueValidator(@NotNull final ConstraintRegistry registry)
+	{
+		Objects.requireNonNull(registry);
+
+		this.registry = registry;
+		this.validators = registry.createValidators(this.locale);
+		this.plans = this.createPlans();
+		this.selectedPlans = this.createSelectedPlans();
+	}
+
 	/**
 	 * @see FieldValueValidating#setLocale(Locale)
 	 */
@@ -60,6 +171,10 @@ public class FieldValueValidator implements FieldValueValidating
 			this.locale = locale;
 
 			this.localeLogs = ResourceBundle.getBundle("localizations/logs", this.locale);
+			this.localeViolations = ResourceBundle.getBundle("localizations/violations", this.locale);
+			this.validators = this.registry.createValidators(this.locale);
+			this.plans = this.createPlans();
+			this.selectedPlans = this.createSelectedPlans();
 		}
 	}
 
@@ -94,6 +209,79 @@ public class FieldValueValidator implements FieldValueValidating
 		this.pushy = pushy;
 	}
 
+	/**
+	 * @see FieldValueValidating#getMaxDepth()
+	 */
+	@Override
+	public int getMaxDepth()
+	{
+		return this.maxDepth;
+	}
+
+	/**
+	 * @see FieldValueValidating#setMaxDepth(int)
+	 */
+	@Override
+	public void setMaxDepth(final int maxDepth)
+	{
+		if (maxDepth < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * @see FieldValueValidating#isBytecodeGeneration()
+	 */
+	@NotNull
+	@Override
+	public Boolean isBytecodeGeneration()
+	{
+		return this.bytecodeGeneration;
+	}
+
+	/**
+	 * @see FieldValueValidating#setBytecodeGeneration(Boolean)
+	 */
+	@Override
+	public void setBytecodeGeneration(@NotNull final Boolean bytecodeGeneration)
+	{
+		Objects.requireNonNull(bytecodeGeneration);
+
+		if (!this.bytecodeGeneration.equals(bytecodeGeneration))
+		{
+			this.bytecodeGeneration = bytecodeGeneration;
+			this.plans = this.createPlans();
+			this.selectedPlans = this.createSelectedPlans();
+		}
+	}
+
+	/**
+	 * @see FieldValueValidating#isMemoization()
+	 */
+	@NotNull
+	@Override
+	public Boolean isMemoization()
+	{
+		return this.memoization;
+	}
+
+	/**
+	 * @see FieldValueValidating#setMemoization(Boolean)
+	 */
+	@Override
+	public void setMemoization(@NotNull final Boolean memoization)
+	{
+		Objects.requireNonNull(memoization);
+
+		if (!this.memoization.equals(memoization))
+		{
+			this.memoization = memoization;
+			this.memos.clear();
+		}
+	}
+
 	/**
 	 * @see FieldValueValidating#validate(Object)
 	 */
@@ -104,130 +292,1397 @@ public class FieldValueValidator implements FieldValueValidating
 	{
 		Objects.requireNonNull(object);
 
-		LOG.debug(String.format(
-			this.localeLogs.getString("00001"),
-			object.getClass().getName()
-		));
-
-		List<Violating> violations = new ArrayList<>();
+		ValidationPlan plan = this.plans.get(object.getClass());
+		boolean memoized = this.memoization && plan.isImmutable();
 
-		for (Field field : object.getClass().getDeclaredFields())
+		if (memoized)
 		{
-			violations.addAll(
-				this.validateField(object, field)
-			);
+			Memo memo = this.memos.get(object);
 
-			if (!this.pushy && violations.size() > 0) {
-				break;
+			if (memo != null && memo.isCompatible(plan, this.pushy, this.maxDepth)) {
+				return memo.getViolations();
 			}
 		}
 
-		LOG.debug(String.format(
-			this.localeLogs.getString("00002"),
-			object.getClass().getName()
-		));
+		List<Violating> violations = new ArrayList<>();
+
+		this.validateObject(object, plan, violations, null, LOG.isDebugEnabled());
+
+		List<Violating> result = Collections.unmodifiableList(violations);
+
+		if (memoized) {
+			this.memos.put(object, new Memo(plan, this.pushy, this.maxDepth, result));
+		}
+
+		return result;
+	}
+
+	/**
+	 * @see FieldValueValidating#validate(Object, Class[])
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public List<@NotNull Violating> validate(@NotNull final Object object, @NotNull final Class<?> @NotNull ... groups)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(groups);
+
+		PlanSelection selection = PlanSelection.DEFAULT;
+
+		if (groups.length > 0) {
+			selection = new PlanSelection(List.of(groups), null);
+		}
+
+		List<Violating> violations = new ArrayList<>();
+
+		this.validateObject(object, this.getPlan(object.getClass(), selection), violations, null, LOG.isDebugEnabled());
 
 		return Collections.unmodifiableList(violations);
 	}
 
 	/**
-	 * Проверяет поле класса на корректность.
-	 *
-	 * @param object Объект класса в котором поля необходимо проверить на корректность.
-	 * @param field Поле класса.
-	 * @return Коллекцию нарушений.
+	 * @see FieldValueValidating#validateFields(Object, String[])
 	 */
+	@UnmodifiableView
 	@NotNull
-	private List<@NotNull Violating> validateField(@NotNull final Object object, @NotNull final Field field)
+	@Override
+	public List<@NotNull Violating> validateFields(@NotNull final Object object, @NotNull final String @NotNull ... names)
 	{
 		Objects.requireNonNull(object);
-		Objects.requireNonNull(field);
+		Objects.requireNonNull(names);
 
+		PlanSelection selection = new PlanSelection(List.of(Default.class), Set.of(names));
 		List<Violating> violations = new ArrayList<>();
 
-		Map<@NotNull String, @NotNull Validating> validators = this.loadValidators();
+		this.validateObject(object, this.getPlan(object.getClass(), selection), violations, null, LOG.isDebugEnabled());
+
+		return Collections.unmodifiableList(violations);
+	}
+
+	/**
+	 * @see FieldValueValidating#revalidate(Object)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public List<@NotNull Violating> revalidate(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		boolean debug = LOG.isDebugEnabled();
+		ValidationPlan plan = this.plans.get(object.getClass());
+		List<ValidationPlan.FieldPlan> fieldPlans = plan.getFields();
+		Snapshot previous = this.snapshots.get(object);
+
+		if (previous != null && !previous.isCompatible(plan, this.pushy)) {
+			previous = null;
+		}
+
+		Snapshot snapshot = new Snapshot(plan, this.pushy, fieldPlans.size());
 
-		for (Annotation constraintField : field.getDeclaredAnnotations())
+		for (int index = 0; index < fieldPlans.size(); index++)
 		{
-			Class<? extends Annotation> constraintType = constraintField.annotationType();
-			Validating constraintValidator = validators.get(constraintType.getName());
+			ValidationPlan.FieldPlan fieldPlan = fieldPlans.get(index);
+			Object value = Snapshot.toValue(fieldPlan.getAccessor().get(object));
+
+			if (previous != null && previous.isSame(index, value))
+			{
+				snapshot.set(index, value, previous.getViolations(index));
 
-			if (constraintValidator == null) {
 				continue;
 			}
 
-			try
-			{
-				LOG.debug(String.format(
-					this.localeLogs.getString("00003"),
-					field.getName(),
-					constraintType.getSimpleName()
-				));
+			List<Violating> fieldViolations = new ArrayList<>();
 
-				field.setAccessible(true);
+			this.validateField(object, fieldPlan, fieldViolations, null, debug);
 
-				Violating violation = constraintValidator.valid(field, field.get(object));
+			snapshot.set(index, value, List.copyOf(fieldViolations));
+		}
 
-				field.setAccessible(false);
+		this.snapshots.put(object, snapshot);
 
-				if (violation == null)
-				{
-					LOG.debug(this.localeLogs.getString("00004"));
-				}
-				else
-				{
-					LOG.debug(this.localeLogs.getString("00006"));
+		List<Violating> violations = new ArrayList<>();
 
-					violations.add(violation);
+		for (int index = 0; index < fieldPlans.size(); index++)
+		{
+			violations.addAll(snapshot.getViolations(index));
 
-					if (!this.pushy) {
-						break;
-					}
-				}
-			}
-			catch (IllegalAccessException exception)
-			{
-				exception.printStackTrace();
+			if (!this.pushy && violations.size() > 0) {
+				break;
 			}
 		}
 
-		return violations;
+		if (!plan.getCascades().isEmpty()) {
+			this.validateCascades(object, plan, violations, debug);
+		}
+
+		return Collections.unmodifiableList(violations);
 	}
 
 	/**
-	 * Загружает коллекцию проверяющих.
-	 *
-	 * @return Коллекцию проверяющих.
+	 * @see FieldValueValidating#isValid(Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		ValidationPlan plan = this.plans.get(object.getClass());
+
+		if (!this.isValidFields(object, plan)) {
+			return false;
+		}
+
+		if (plan.getCascades().isEmpty()) {
+			return true;
+		}
+
+		return this.isValidCascades(object, plan);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAll(Iterable)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull final Iterable<@NotNull ?> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAll(objects.iterator(), 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAll(Iterable, int)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull final Iterable<@NotNull ?> objects,
+																			  final int limit)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAll(objects.iterator(), 0, limit);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAll(Stream)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull final Stream<@NotNull ?> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAll(objects.iterator(), 0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAll(Stream, int)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull final Stream<@NotNull ?> objects,
+																			  final int limit)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAll(objects.iterator(), 0, limit);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAllParallel(List)
+	 */
+	@UnmodifiableView
+	@NotNull
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAllParallel(@NotNull final List<@NotNull ?> objects)
+	{
+		Objects.requireNonNull(objects);
+
+		return this.validateAllParallel(objects, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAllParallel(List, Executor)
 	 */
 	@UnmodifiableView
 	@NotNull
-	private Map<@NotNull String, @NotNull Validating> loadValidators()
-	{
-		Map<String, Validating> validators = new LinkedHashMap<>();
-
-		// Проверка присутствия обязательных параметров
-		validators.put(NoNull.class.getName(), new NoNullValidator(this.locale));
-		// Проверка параметров на пустоту
-		validators.put(NoEmpty.class.getName(), new NoEmptyValidator(this.locale));
-		// Проверка на количество переданных значений в каждом параметре
-		validators.put(Size.class.getName(), new SizeValidator(this.locale));
-		// Проверка на минимальное и максимальное количество символов
-		validators.put(Length.class.getName(), new LengthValidator(this.locale));
-		// Проверка на язык
-		validators.put(Language.class.getName(), new LanguageValidator(this.locale));
-		// Проверка на минимальное и максимальное значение целого числа
-		validators.put(Number.class.getName(), new NumberValidator(this.locale));
-		// Проверка на минимальное и максимальное значение дробного числа
-		validators.put(NumberFloat.class.getName(), new NumberFloatValidator(this.locale));
-		// Проверка значения на соответствие шаблону регулярного выражения
-		validators.put(Pattern.class.getName(), new PatternValidator(this.locale));
-		// Персонализированная проверка корректности значений параметров
-		validators.put(Valid.class.getName(), new ValidValidator(this.locale));
-		validators.put(Valid.ManyValid.class.getName(), new ValidValidator(this.locale));
-		// Проверка существования значений параметров
-		validators.put(Exist.class.getName(), new ExistValidator(this.locale));
-		validators.put(Exist.ManyExist.class.getName(), new ExistValidator(this.locale));
-
-		return Collections.unmodifiableMap(validators);
+	@Override
+	public Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAllParallel(@NotNull final List<@NotNull ?> objects,
+																					   @NotNull final Executor executor)
+	{
+		Objects.requireNonNull(objects);
+		Objects.requireNonNull(executor);
+
+		int size = objects.size();
+		int chunks = Math.min(
+			Runtime.getRuntime().availableProcessors() * PARALLEL_CHUNKS_PER_PROCESSOR,
+			(size + PARALLEL_MIN_CHUNK_SIZE - 1) / PARALLEL_MIN_CHUNK_SIZE
+		);
+
+		if (chunks <= 1) {
+			return this.validateAll(objects.iterator(), 0, Integer.MAX_VALUE);
+		}
+
+		int chunkSize = (size + chunks - 1) / chunks;
+		List<CompletableFuture<Map<Integer, List<Violating>>>> futures = new ArrayList<>(chunks);
+
+		for (int from = 0; from < size; from += chunkSize)
+		{
+			int start = from;
+			int end = Math.min(from + chunkSize, size);
+
+			futures.add(CompletableFuture.supplyAsync(
+				() -> this.validateAll(objects.subList(start, end).iterator(), start, Integer.MAX_VALUE),
+				executor
+			));
+		}
+
+		Map<Integer, List<Violating>> result = new LinkedHashMap<>();
+
+		try
+		{
+			for (CompletableFuture<Map<Integer, List<Violating>>> future : futures) {
+				result.putAll(future.join());
+			}
+		}
+		catch (CompletionException exception)
+		{
+			Throwable cause = exception.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw exception;
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAsync(Object)
+	 */
+	@NotNull
+	@Override
+	public CompletableFuture<@UnmodifiableView @NotNull List<@NotNull Violating>> validateAsync(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		return this.validateAsync(object, AsyncExecutorHolder.EXECUTOR);
+	}
+
+	/**
+	 * @see FieldValueValidating#validateAsync(Object, Executor)
+	 */
+	@NotNull
+	@Override
+	public CompletableFuture<@UnmodifiableView @NotNull List<@NotNull Violating>> validateAsync(@NotNull final Object object,
+																							   @NotNull final Executor executor)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(executor);
+
+		ValidationPlan plan = this.plans.get(object.getClass());
+
+		if (plan.getGenerated() != null)
+		{
+			try
+			{
+				return CompletableFuture.completedFuture(this.validate(object));
+			}
+			catch (RuntimeException exception)
+			{
+				return CompletableFuture.failedFuture(exception);
+			}
+		}
+
+		boolean debug = LOG.isDebugEnabled();
+		boolean pushy = this.pushy;
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.localeLogs.getString("00001"),
+				object.getClass().getName()
+			));
+		}
+
+		List<CompletableFuture<Violating>> results = new ArrayList<>();
+		List<Violating> cascaded = new ArrayList<>();
+
+		try
+		{
+			boolean stopped = false;
+
+			for (ValidationPlan.FieldPlan fieldPlan : plan.getFields())
+			{
+				Field field = fieldPlan.getField();
+				FieldAccessor accessor = fieldPlan.getAccessor();
+
+				for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+				{
+					if (debug)
+					{
+						LOG.debug(String.format(
+							this.localeLogs.getString("00003"),
+							field.getName(),
+							constraintPlan.getType().getSimpleName()
+						));
+					}
+
+					Validating validator = constraintPlan.getValidator();
+
+					if (validator instanceof AsyncValidating)
+					{
+						results.add(
+							((AsyncValidating) validator).validAsync(field, accessor.get(object), executor)
+						);
+
+						continue;
+					}
+
+					Violating violation = this.validateConstraint(object, field, accessor, constraintPlan, null);
+
+					results.add(CompletableFuture.completedFuture(violation));
+
+					if (violation != null && !pushy)
+					{
+						stopped = true;
+						break;
+					}
+				}
+
+				if (stopped) {
+					break;
+				}
+			}
+
+			if (!stopped && !plan.getCascades().isEmpty()) {
+				this.validateCascades(object, plan, cascaded, debug);
+			}
+		}
+		catch (RuntimeException exception)
+		{
+			return CompletableFuture.failedFuture(exception);
+		}
+
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply((ignored) -> {
+			List<Violating> violations = new ArrayList<>();
+
+			for (CompletableFuture<Violating> result : results)
+			{
+				Violating violation = result.join();
+
+				if (violation != null)
+				{
+					violations.add(violation);
+
+					if (!pushy) {
+						break;
+					}
+				}
+			}
+
+			if (pushy || violations.isEmpty()) {
+				violations.addAll(cascaded);
+			}
+
+			if (debug)
+			{
+				LOG.debug(String.format(
+					this.localeLogs.getString("00002"),
+					object.getClass().getName()
+				));
+			}
+
+			return Collections.unmodifiableList(violations);
+		});
+	}
+
+	/**
+	 * @see FieldValueValidating#getExistenceCacheStatistics(Class)
+	 */
+	@Nullable
+	@Override
+	public ExistenceCacheStatistics getExistenceCacheStatistics(@NotNull final Class<? extends Existable<?>> existence)
+	{
+		Objects.requireNonNull(existence);
+
+		Validating validator = this.validators.get(Exist.class);
+
+		if (validator instanceof ExistValidator) {
+			return ((ExistValidator) validator).getCacheStatistics(existence);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет поля объектов на корректность.
+	 * План проверки запрашивается повторно только при смене класса объекта,
+	 * а коллекция для накопления нарушений используется для всех объектов.
+	 * Объекты с пакетной проверкой существования накапливаются и проверяются частями
+	 * по {@link #EXISTENCE_BATCH_SIZE} объектов, чтобы существование значений проверялось одним обращением.
+	 *
+	 * @param objects Объекты в которых поля необходимо проверить на корректность.
+	 * @param index Порядковый номер первого объекта.
+	 * @param limit Максимальное количество объектов с нарушениями.
+	 * @return Коллекцию нарушений объектов с нарушениями.
+	 * @throws IllegalArgumentException Если {@code limit} меньше {@code 1}.
+	 */
+	@UnmodifiableView
+	@NotNull
+	private Map<@NotNull Integer, @NotNull List<@NotNull Violating>> validateAll(@NotNull final Iterator<@NotNull ?> objects,
+																			   final int index,
+																			   final int limit)
+	{
+		Objects.requireNonNull(objects);
+
+		if (limit < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		boolean debug = LOG.isDebugEnabled();
+
+		if (debug) {
+			LOG.debug(this.localeLogs.getString("00007"));
+		}
+
+		ClassValue<ValidationPlan> plans = this.plans;
+		Map<Integer, List<Violating>> result = new LinkedHashMap<>();
+		List<Violating> violations = new ArrayList<>();
+		List<Object> window = new ArrayList<>();
+		List<ValidationPlan> windowPlans = new ArrayList<>();
+
+		Class<?> type = null;
+		ValidationPlan plan = null;
+		int current = index;
+
+		while (result.size() < limit && objects.hasNext())
+		{
+			Object object = Objects.requireNonNull(objects.next());
+
+			if (object.getClass() != type)
+			{
+				type = object.getClass();
+				plan = plans.get(type);
+			}
+
+			if (plan.hasBatchExistence() || !window.isEmpty())
+			{
+				window.add(object);
+				windowPlans.add(plan);
+
+				if (window.size() == EXISTENCE_BATCH_SIZE) {
+					current = this.validateWindow(window, windowPlans, current, limit, result, violations, debug);
+				}
+
+				continue;
+			}
+
+			this.validateObject(object, plan, violations, null, debug);
+
+			if (!violations.isEmpty())
+			{
+				result.put(current, List.copyOf(violations));
+
+				violations.clear();
+			}
+
+			current++;
+		}
+
+		if (!window.isEmpty()) {
+			current = this.validateWindow(window, windowPlans, current, limit, result, violations, debug);
+		}
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.localeLogs.getString("00008"),
+				current - index,
+				result.size()
+			));
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Проверяет поля накопленных объектов на корректность с пакетной проверкой существования.
+	 * Существование значений проверяется одним обращением для каждого класса проверки существования,
+	 * после чего объекты проверяются по одному.
+	 *
+	 * @param window Накопленные объекты.
+	 * @param windowPlans Планы проверки классов накопленных объектов.
+	 * @param index Порядковый номер первого накопленного объекта.
+	 * @param limit Максимальное количество объектов с нарушениями.
+	 * @param result Коллекция нарушений объектов с нарушениями.
+	 * @param violations Коллекция для накопления нарушений объекта.
+	 * @param debug Признак логирования отладочных сообщений.
+	 * @return Порядковый номер объекта, следующего за последним проверенным.
+	 */
+	private int validateWindow(@NotNull final List<@NotNull Object> window,
+							   @NotNull final List<@NotNull ValidationPlan> windowPlans,
+							   final int index,
+							   final int limit,
+							   @NotNull final Map<@NotNull Integer, @NotNull List<@NotNull Violating>> result,
+							   @NotNull final List<@NotNull Violating> violations,
+							   final boolean debug)
+	{
+		Objects.requireNonNull(window);
+		Objects.requireNonNull(windowPlans);
+		Objects.requireNonNull(result);
+		Objects.requireNonNull(violations);
+
+		ExistenceBatch batch = ExistValidator.createBatch();
+		ExistValidator existValidator = null;
+
+		for (int i = 0; i < window.size(); i++)
+		{
+			if (!windowPlans.get(i).hasBatchExistence()) {
+				continue;
+			}
+
+			for (ValidationPlan.FieldPlan fieldPlan : windowPlans.get(i).getFields())
+			{
+				if (!fieldPlan.isBatchExistence()) {
+					continue;
+				}
+
+				for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+				{
+					if (constraintPlan.getValidator() instanceof ExistValidator)
+					{
+						existValidator = (ExistValidator) constraintPlan.getValidator();
+						existValidator.collect(fieldPlan.getField(), fieldPlan.getAccessor().get(window.get(i)), batch);
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (existValidator != null) {
+			existValidator.lookup(batch);
+		}
+
+		int current = index;
+
+		for (int i = 0; i < window.size() && result.size() < limit; i++)
+		{
+			this.validateObject(window.get(i), windowPlans.get(i), violations, batch, debug);
+
+			if (!violations.isEmpty())
+			{
+				result.put(current, List.copyOf(violations));
+
+				violations.clear();
+			}
+
+			current++;
+		}
+
+		window.clear();
+		windowPlans.clear();
+
+		return current;
+	}
+
+	/**
+	 * Проверяет поля объекта и объектов, на которые ссылаются поля с каскадной проверкой, на корректность.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param plan План проверки класса объекта.
+	 * @param violations Коллекция, в которую добавляются нарушения.
+	 * @param batch Пакет с результатами проверки существования, или {@code null} если проверка не пакетная.
+	 * @param debug Признак логирования отладочных сообщений.
+	 */
+	private void validateObject(@NotNull final Object object,
+								@NotNull final ValidationPlan plan,
+								@NotNull final List<@NotNull Violating> violations,
+								@Nullable final ExistenceBatch batch,
+								final boolean debug)
+	{
+		this.validateFields(object, plan, violations, batch, debug);
+
+		if (!plan.getCascades().isEmpty()) {
+			this.validateCascades(object, plan, violations, debug);
+		}
+	}
+
+	/**
+	 * Проверяет объекты, на которые ссылаются поля с каскадной проверкой, на корректность.
+	 * Граф объектов обходится в глубину без рекурсии, каждый объект проверяется один раз,
+	 * поэтому циклические ссылки не приводят к зацикливанию. Название поля нарушения
+	 * во вложенном объекте содержит путь к объекту, например {@code lines[3].price}.
+	 *
+	 * @param object Объект, с которого начинается каскадная проверка.
+	 * @param plan План проверки класса объекта.
+	 * @param violations Коллекция, в которую добавляются нарушения.
+	 * @param debug Признак логирования отладочных сообщений.
+	 */
+	private void validateCascades(@NotNull final Object object,
+								  @NotNull final ValidationPlan plan,
+								  @NotNull final List<@NotNull Violating> violations,
+								  final boolean debug)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(plan);
+		Objects.requireNonNull(violations);
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<CascadeNode> nodes = new ArrayDeque<>();
+		List<Violating> nested = new ArrayList<>();
+		PlanSelection selection = plan.getSelection().getNested();
+
+		visited.add(object);
+		this.pushCascades(nodes, object, plan, null);
+
+		while (!nodes.isEmpty())
+		{
+			if (!this.pushy && violations.size() > 0) {
+				break;
+			}
+
+			CascadeNode node = nodes.pop();
+
+			if (!visited.add(node.getObject())) {
+				continue;
+			}
+
+			ValidationPlan nodePlan = this.getPlan(node.getObject().getClass(), selection);
+
+			this.validateFields(node.getObject(), nodePlan, nested, null, debug);
+
+			if (!nested.isEmpty())
+			{
+				String path = node.getPath();
+
+				for (Violating violation : nested) {
+					violations.add(FieldValueValidator.prefix(path, violation));
+				}
+
+				nested.clear();
+			}
+
+			this.pushCascades(nodes, node.getObject(), nodePlan, node);
+		}
+	}
+
+	/**
+	 * Добавляет в стек объекты, на которые ссылаются поля объекта с каскадной проверкой.
+	 * Объекты добавляются в обратном порядке, чтобы проверяться в порядке следования полей.
+	 *
+	 * @param nodes Стек объектов каскадной проверки.
+	 * @param object Объект.
+	 * @param plan План проверки класса объекта.
+	 * @param parent Объект каскадной проверки, или {@code null} для проверяемого объекта.
+	 */
+	private void pushCascades(@NotNull final Deque<@NotNull CascadeNode> nodes,
+							  @NotNull final Object object,
+							  @NotNull final ValidationPlan plan,
+							  @Nullable final CascadeNode parent)
+	{
+		int depth = parent == null ? 1 : parent.getDepth() + 1;
+
+		if (depth > this.maxDepth || plan.getCascades().isEmpty()) {
+			return;
+		}
+
+		List<CascadeNode> children = new ArrayList<>();
+
+		for (FieldAccessor accessor : plan.getCascades())
+		{
+			Object value = accessor.get(object);
+			String name = accessor.getField().getName();
+
+			if (value instanceof Object[])
+			{
+				Object[] elements = (Object[]) value;
+
+				for (int index = 0; index < elements.length; index++)
+				{
+					if (elements[index] != null) {
+						children.add(new CascadeNode(elements[index], parent, name + "[" + index + "]"));
+					}
+				}
+			}
+			else if (value instanceof Iterable)
+			{
+				int index = 0;
+
+				for (Object element : (Iterable<?>) value)
+				{
+					if (element != null) {
+						children.add(new CascadeNode(element, parent, name + "[" + index + "]"));
+					}
+
+					index++;
+				}
+			}
+			else if (value instanceof Map)
+			{
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+				{
+					if (entry.getValue() != null) {
+						children.add(new CascadeNode(entry.getValue(), parent, name + "[" + entry.getKey() + "]"));
+					}
+				}
+			}
+			else if (value != null)
+			{
+				children.add(new CascadeNode(value, parent, name));
+			}
+		}
+
+		for (int index = children.size() - 1; index >= 0; index--) {
+			nodes.push(children.get(index));
+		}
+	}
+
+	/**
+	 * Добавляет к названию поля нарушения путь к вложенному объекту.
+	 *
+	 * @param path Путь к вложенному объекту.
+	 * @param violation Нарушение во вложенном объекте.
+	 * @return Нарушение с путём к полю.
+	 */
+	@NotNull
+	private static Violating prefix(@NotNull final String path, @NotNull final Violating violation)
+	{
+		String field = path + "." + violation.getField();
+
+		if (violation instanceof Violation) {
+			return new Violation(field, (Violation) violation);
+		}
+
+		return new Violation(field, violation.getMessage(), violation.getParams());
+	}
+
+	/**
+	 * Проверяет поля объекта на корректность.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param plan План проверки класса объекта.
+	 * @param violations Коллекция, в которую добавляются нарушения.
+	 * @param batch Пакет с результатами проверки существования, или {@code null} если проверка не пакетная.
+	 * @param debug Признак логирования отладочных сообщений.
+	 */
+	private void validateFields(@NotNull final Object object,
+								@NotNull final ValidationPlan plan,
+								@NotNull final List<@NotNull Violating> violations,
+								@Nullable final ExistenceBatch batch,
+								final boolean debug)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(plan);
+		Objects.requireNonNull(violations);
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.localeLogs.getString("00001"),
+				object.getClass().getName()
+			));
+		}
+
+		GeneratedValidating<Object> generated = plan.getGenerated();
+
+		if (generated == null)
+		{
+			for (ValidationPlan.FieldPlan fieldPlan : plan.getFields())
+			{
+				this.validateField(object, fieldPlan, violations, batch, debug);
+
+				if (!this.pushy && violations.size() > 0) {
+					break;
+				}
+			}
+		}
+		else
+		{
+			generated.validate(object, new ValidationContext(this.localeViolations, this.pushy, violations));
+		}
+
+		if (debug)
+		{
+			LOG.debug(String.format(
+				this.localeLogs.getString("00002"),
+				object.getClass().getName()
+			));
+		}
+	}
+
+	/**
+	 * Проверяет поле класса на корректность.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param fieldPlan План проверки поля класса.
+	 * @param violations Коллекция, в которую добавляются нарушения.
+	 * @param batch Пакет с результатами проверки существования, или {@code null} если проверка не пакетная.
+	 * @param debug Признак логирования отладочных сообщений.
+	 */
+	private void validateField(@NotNull final Object object,
+							   @NotNull final ValidationPlan.FieldPlan fieldPlan,
+							   @NotNull final List<@NotNull Violating> violations,
+							   @Nullable final ExistenceBatch batch,
+							   final boolean debug)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(fieldPlan);
+		Objects.requireNonNull(violations);
+
+		Field field = fieldPlan.getField();
+		FieldAccessor accessor = fieldPlan.getAccessor();
+
+		for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+		{
+			if (debug)
+			{
+				LOG.debug(String.format(
+					this.localeLogs.getString("00003"),
+					field.getName(),
+					constraintPlan.getType().getSimpleName()
+				));
+			}
+
+			Violating violation = this.validateConstraint(object, field, accessor, constraintPlan, batch);
+
+			if (violation == null)
+			{
+				if (debug) {
+					LOG.debug(this.localeLogs.getString("00004"));
+				}
+			}
+			else
+			{
+				if (debug) {
+					LOG.debug(this.localeLogs.getString("00006"));
+				}
+
+				violations.add(violation);
+
+				if (!this.pushy) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Определяет корректность значений полей объекта без создания нарушений.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param plan План проверки класса объекта.
+	 * @return {@code True} если значения всех полей объекта корректны, иначе {@code false}.
+	 */
+	private boolean isValidFields(@NotNull final Object object, @NotNull final ValidationPlan plan)
+	{
+		List<ValidationPlan.FieldPlan> fields = plan.getFields();
+
+		for (int fieldIndex = 0; fieldIndex < fields.size(); fieldIndex++)
+		{
+			ValidationPlan.FieldPlan fieldPlan = fields.get(fieldIndex);
+			List<ValidationPlan.ConstraintPlan> constraints = fieldPlan.getConstraints();
+			Field field = fieldPlan.getField();
+			FieldAccessor accessor = fieldPlan.getAccessor();
+
+			for (int constraintIndex = 0; constraintIndex < constraints.size(); constraintIndex++)
+			{
+				ValidationPlan.ConstraintPlan constraint = constraints.get(constraintIndex);
+				Validating validator = constraint.getValidator();
+
+				boolean valid = switch (constraint.getAccess())
+				{
+					case LONG -> ((PrimitiveValidating) validator).isValidLong(field, accessor.getLong(object));
+					case DOUBLE -> ((PrimitiveValidating) validator).isValidDouble(field, accessor.getDouble(object));
+					case OBJECT -> validator.isValid(field, accessor.get(object));
+				};
+
+				if (!valid) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Определяет корректность объектов, на которые ссылаются поля с каскадной проверкой, без создания нарушений.
+	 * Граф объектов обходится так же, как при каскадной проверке, до первого нарушения.
+	 *
+	 * @param object Объект, с которого начинается каскадная проверка.
+	 * @param plan План проверки класса объекта.
+	 * @return {@code True} если значения полей всех вложенных объектов корректны, иначе {@code false}.
+	 */
+	private boolean isValidCascades(@NotNull final Object object, @NotNull final ValidationPlan plan)
+	{
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<CascadeNode> nodes = new ArrayDeque<>();
+		PlanSelection selection = plan.getSelection().getNested();
+
+		visited.add(object);
+		this.pushCascades(nodes, object, plan, null);
+
+		while (!nodes.isEmpty())
+		{
+			CascadeNode node = nodes.pop();
+
+			if (!visited.add(node.getObject())) {
+				continue;
+			}
+
+			ValidationPlan nodePlan = this.getPlan(node.getObject().getClass(), selection);
+
+			if (!this.isValidFields(node.getObject(), nodePlan)) {
+				return false;
+			}
+
+			this.pushCascades(nodes, node.getObject(), nodePlan, node);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Проверяет значение поля класса одним проверяющим.
+	 * Значения полей примитивных типов передаются проверяющим, поддерживающим их, без упаковки.
+	 *
+	 * @param object Объект класса в котором поле необходимо проверить на корректность.
+	 * @param field Поле класса.
+	 * @param accessor Доступ к значению поля класса.
+	 * @param constraint План проверки ограничения.
+	 * @param batch Пакет с результатами проверки существования, или {@code null} если проверка не пакетная.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private Violating validateConstraint(@NotNull final Object object,
+										 @NotNull final Field field,
+										 @NotNull final FieldAccessor accessor,
+										 @NotNull final ValidationPlan.ConstraintPlan constraint,
+										 @Nullable final ExistenceBatch batch)
+	{
+		Validating validator = constraint.getValidator();
+
+		switch (constraint.getAccess())
+		{
+			case LONG:
+				return ((PrimitiveValidating) validator).validLong(field, accessor.getLong(object));
+			case DOUBLE:
+				return ((PrimitiveValidating) validator).validDouble(field, accessor.getDouble(object));
+			default:
+				break;
+		}
+
+		if (batch != null && validator instanceof ExistValidator) {
+			return ((ExistValidator) validator).valid(field, accessor.get(object), batch);
+		}
+
+		return validator.valid(field, accessor.get(object));
+	}
+
+	/**
+	 * Создаёт планы проверки классов.
+	 *
+	 * @return Планы проверки классов.
+	 */
+	@NotNull
+	private ClassValue<@NotNull ValidationPlan> createPlans()
+	{
+		Map<Class<? extends Annotation>, Validating> validators = this.validators;
+		boolean bytecodeGeneration = this.bytecodeGeneration;
+
+		return new ClassValue<>()
+		{
+			@NotNull
+			@Override
+			protected ValidationPlan computeValue(@NotNull final Class<?> type)
+			{
+				return new ValidationPlan(type, validators, bytecodeGeneration);
+			}
+		};
+	}
+
+	/**
+	 * Создаёт планы проверки классов по группам проверки.
+	 *
+	 * @return Планы проверки классов по группам проверки.
+	 */
+	@NotNull
+	private ClassValue<@NotNull ConcurrentMap<@NotNull PlanSelection, @NotNull ValidationPlan>> createSelectedPlans()
+	{
+		return new ClassValue<>()
+		{
+			@NotNull
+			@Override
+			protected ConcurrentMap<PlanSelection, ValidationPlan> computeValue(@NotNull final Class<?> type)
+			{
+				return new ConcurrentHashMap<>();
+			}
+		};
+	}
+
+	/**
+	 * Возвращает план проверки класса.
+	 *
+	 * @param type Класс.
+	 * @param selection Выбор проверяемых ограничений.
+	 * @return План проверки класса.
+	 * @throws IllegalArgumentException Если в классе нет выбранного поля.
+	 */
+	@NotNull
+	private ValidationPlan getPlan(@NotNull final Class<?> type, @NotNull final PlanSelection selection)
+	{
+		if (selection.getNames() != null) {
+			return this.getPlan(type, selection.getNested()).select(selection.getNames());
+		}
+
+		if (selection.equals(PlanSelection.DEFAULT)) {
+			return this.plans.get(type);
+		}
+
+		Map<Class<? extends Annotation>, Validating> validators = this.validators;
+		boolean bytecodeGeneration = this.bytecodeGeneration;
+
+		return this.selectedPlans.get(type).computeIfAbsent(
+			selection, (key) -> new ValidationPlan(type, validators, bytecodeGeneration, key)
+		);
+	}
+
+	/**
+	 * Класс объекта каскадной проверки.
+	 * Путь к объекту строится по ссылкам на родительские объекты только при нарушениях в объекте.
+	 */
+	private static final class CascadeNode
+	{
+		/**
+		 * Объект.
+		 */
+		@NotNull
+		private final Object object;
+
+		/**
+		 * Родительский объект каскадной проверки, или {@code null} для объекта, на который ссылается проверяемый объект.
+		 */
+		@Nullable
+		private final CascadeNode parent;
+
+		/**
+		 * Название поля, ссылающегося на объект, с индексом или ключом элемента.
+		 */
+		@NotNull
+		private final String name;
+
+		/**
+		 * Глубина вложенности объекта.
+		 */
+		private final int depth;
+
+		/**
+		 * Конструктор для {@code CascadeNode}.
+		 *
+		 * @param object Объект.
+		 * @param parent Родительский объект каскадной проверки, или {@code null} для объекта, на который ссылается проверяемый объект.
+		 * @param name Название поля, ссылающегося на объект, с индексом или ключом элемента.
+		 */
+		private CascadeNode(@NotNull final Object object, @Nullable final CascadeNode parent, @NotNull final String name)
+		{
+			Objects.requireNonNull(object);
+			Objects.requireNonNull(name);
+
+			this.object = object;
+			this.parent = parent;
+			this.name = name;
+			this.depth = parent == null ? 1 : parent.depth + 1;
+		}
+
+		/**
+		 * Возвращает объект.
+		 *
+		 * @return Объект.
+		 */
+		@NotNull
+		public Object getObject()
+		{
+			return this.object;
+		}
+
+		/**
+		 * Возвращает путь к объекту.
+		 *
+		 * @return Путь к объекту.
+		 */
+		@NotNull
+		public String getPath()
+		{
+			Deque<String> names = new ArrayDeque<>();
+
+			for (CascadeNode node = this; node != null; node = node.parent) {
+				names.push(node.name);
+			}
+
+			return String.join(".", names);
+		}
+
+		/**
+		 * Возвращает глубину вложенности объекта.
+		 *
+		 * @return Глубина вложенности объекта.
+		 */
+		public int getDepth()
+		{
+			return this.depth;
+		}
+	}
+
+	/**
+	 * Класс снимка полей объекта для повторной проверки.
+	 * Хранит значения полей неизменяемых типов и нарушения каждого поля, полученные при предыдущей проверке.
+	 * Значения остальных типов не хранятся, так как их содержимое может измениться без замены ссылки,
+	 * поэтому такие поля проверяются при каждой повторной проверке.
+	 */
+	private static final class Snapshot
+	{
+		/**
+		 * Значение поля, которое не хранится в снимке.
+		 */
+		@NotNull
+		private static final Object MUTABLE = new Object();
+
+		/**
+		 * Неизменяемые типы значений полей, значения которых хранятся в снимке.
+		 */
+		@NotNull
+		private static final Set<@NotNull Class<?>> IMMUTABLE_TYPES = Set.of(
+			String.class, Boolean.class, Character.class, Byte.class, Short.class,
+			Integer.class, Long.class, Float.class, Double.class
+		);
+
+		/**
+		 * План проверки класса, по которому получены нарушения.
+		 */
+		@NotNull
+		private final ValidationPlan plan;
+
+		/**
+		 * Настырность проверки, с которой получены нарушения.
+		 */
+		private final boolean pushy;
+
+		/**
+		 * Значения полей в порядке полей плана проверки.
+		 */
+		@Nullable
+		private final Object @NotNull [] values;
+
+		/**
+		 * Нарушения полей в порядке полей плана проверки.
+		 */
+		@NotNull
+		private final List<@Nullable List<@NotNull Violating>> violations;
+
+		/**
+		 * Конструктор для {@code Snapshot}.
+		 *
+		 * @param plan План проверки класса.
+		 * @param pushy Настырность проверки.
+		 * @param size Количество полей плана проверки.
+		 */
+		private Snapshot(@NotNull final ValidationPlan plan, final boolean pushy, final int size)
+		{
+			Objects.requireNonNull(plan);
+
+			this.plan = plan;
+			this.pushy = pushy;
+			this.values = new Object[size];
+			this.violations = new ArrayList<>(Collections.nCopies(size, null));
+		}
+
+		/**
+		 * Возвращает значение поля для хранения в снимке.
+		 *
+		 * @param value Значение поля.
+		 * @return Значение поля, или {@link #MUTABLE} если значение не хранится в снимке.
+		 */
+		@Nullable
+		public static Object toValue(@Nullable final Object value)
+		{
+			if (value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass())) {
+				return value;
+			}
+
+			return MUTABLE;
+		}
+
+		/**
+		 * Определяет, получены ли нарушения снимка с тем же планом проверки и настырностью.
+		 *
+		 * @param plan План проверки класса.
+		 * @param pushy Настырность проверки.
+		 * @return {@code True} если нарушения снимка можно использовать, иначе {@code false}.
+		 */
+		public boolean isCompatible(@NotNull final ValidationPlan plan, final boolean pushy)
+		{
+			return this.plan == plan && this.pushy == pushy;
+		}
+
+		/**
+		 * Определяет, совпадает ли значение поля со значением в снимке.
+		 *
+		 * @param index Индекс поля в плане проверки.
+		 * @param value Значение поля для хранения в снимке.
+		 * @return {@code True} если значение поля не изменилось, иначе {@code false}.
+		 */
+		public boolean isSame(final int index, @Nullable final Object value)
+		{
+			return value != MUTABLE && Objects.equals(this.values[index], value);
+		}
+
+		/**
+		 * Возвращает нарушения поля.
+		 *
+		 * @param index Индекс поля в плане проверки.
+		 * @return Нарушения поля.
+		 */
+		@NotNull
+		public List<@NotNull Violating> getViolations(final int index)
+		{
+			return Objects.requireNonNull(this.violations.get(index));
+		}
+
+		/**
+		 * Устанавливает значение и нарушения поля.
+		 *
+		 * @param index Индекс поля в плане проверки.
+		 * @param value Значение поля для хранения в снимке.
+		 * @param violations Нарушения поля.
+		 */
+		public void set(final int index, @Nullable final Object value, @NotNull final List<@NotNull Violating> violations)
+		{
+			Objects.requireNonNull(violations);
+
+			this.values[index] = value;
+			this.violations.set(index, violations);
+		}
+	}
+
+	/**
+	 * Класс запомненного результата проверки неизменяемого объекта.
+	 */
+	private static final class Memo
+	{
+		/**
+		 * План проверки класса, по которому получен результат.
+		 */
+		@NotNull
+		private final ValidationPlan plan;
+
+		/**
+		 * Настырность проверки, с которой получен результат.
+		 */
+		private final boolean pushy;
+
+		/**
+		 * Максимальная глубина каскадной проверки, с которой получен результат.
+		 */
+		private final int maxDepth;
+
+		/**
+		 * Нарушения объекта.
+		 */
+		@NotNull
+		private final List<@NotNull Violating> violations;
+
+		/**
+		 * Конструктор для {@code Memo}.
+		 *
+		 * @param plan План проверки класса.
+		 * @param pushy Настырность проверки.
+		 * @param maxDepth Максимальная глубина каскадной проверки.
+		 * @param violations Нарушения объекта.
+		 */
+		private Memo(@NotNull final ValidationPlan plan,
+					 final boolean pushy,
+					 final int maxDepth,
+					 @NotNull final List<@NotNull Violating> violations)
+		{
+			Objects.requireNonNull(plan);
+			Objects.requireNonNull(violations);
+
+			this.plan = plan;
+			this.pushy = pushy;
+			this.maxDepth = maxDepth;
+			this.violations = violations;
+		}
+
+		/**
+		 * Определяет, получен ли результат с тем же планом проверки, настырностью и глубиной каскадной проверки.
+		 *
+		 * @param plan План проверки класса.
+		 * @param pushy Настырность проверки.
+		 * @param maxDepth Максимальная глубина каскадной проверки.
+		 * @return {@code True} если результат можно использовать, иначе {@code false}.
+		 */
+		public boolean isCompatible(@NotNull final ValidationPlan plan, final boolean pushy, final int maxDepth)
+		{
+			return this.plan == plan && this.pushy == pushy && this.maxDepth == maxDepth;
+		}
+
+		/**
+		 * Возвращает нарушения объекта.
+		 *
+		 * @return Нарушения объекта.
+		 */
+		@UnmodifiableView
+		@NotNull
+		public List<@NotNull Violating> getViolations()
+		{
+			return this.violations;
+		}
+	}
+
+	/**
+	 * Класс исполнителя асинхронных проверок по умолчанию.
+	 * Исполнитель создаётся при первой асинхронной проверке.
+	 */
+	private static final class AsyncExecutorHolder
+	{
+		/**
+		 * Исполнитель асинхронных проверок.
+		 * Проверки существования блокируют поток, поэтому используются отдельные потоки-демоны
+		 * вместо общего пула {@link ForkJoinPool}.
+		 */
+		@NotNull
+		private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool((runnable) -> {
+			Thread thread = new Thread(runnable, "field-value-validator-async");
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
+	/**
+	 * Класс реестра ограничений по умолчанию, создаваемого при первом обращении.
+	 */
+	private static final class RegistryHolder
+	{
+		/**
+		 * Реестр ограничений по умолчанию.
+		 */
+		@NotNull
+		private static final ConstraintRegistry REGISTRY = new ConstraintRegistry();
 	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Класс сгенерированных проверяющих значений полей классов.
+ * Сгенерированные проверяющие находятся с помощью {@link ServiceLoader} при первом обращении.
+ */
+final class GeneratedValidators
+{
+	/**
+	 * Конструктор для {@code GeneratedValidators}.
+	 */
+	private GeneratedValidators() {}
+
+	/**
+	 * Возвращает сгенерированного проверяющего для класса.
+	 *
+	 * @param type Класс.
+	 * @return Сгенерированного проверяющего, или {@code null} если для класса нет сгенерированного проверяющего.
+	 */
+	@Nullable
+	public static GeneratedValidating<?> get(@NotNull final Class<?> type)
+	{
+		Objects.requireNonNull(type);
+
+		return Holder.VALIDATORS.get(type);
+	}
+
+	/**
+	 * Загружает сгенерированных проверяющих.
+	 * Проверяющие, которые не удалось загрузить, пропускаются, и их классы проверяются с помощью рефлексии.
+	 *
+	 * @return Коллекцию сгенерированных проверяющих.
+	 * <ul>
+	 * 		<li><b>key</b> - проверяемый класс.</li>
+	 * 		<li><b>value</b> - сгенерированный проверяющий.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private static Map<@NotNull Class<?>, @NotNull GeneratedValidating<?>> load()
+	{
+		Map<Class<?>, GeneratedValidating<?>> validators = new HashMap<>();
+
+		// Литерал класса параметризованного типа не может быть параметризован, приведение безопасно.
+		@SuppressWarnings("unchecked")
+		Class<GeneratedValidating<?>> service = (Class<GeneratedValidating<?>>) (Class<?>) GeneratedValidating.class;
+
+		Iterator<GeneratedValidating<?>> iterator = ServiceLoader.load(service).iterator();
+
+		while (true)
+		{
+			try
+			{
+				if (!iterator.hasNext()) {
+					break;
+				}
+
+				GeneratedValidating<?> validator = iterator.next();
+
+				validators.putIfAbsent(validator.getType(), validator);
+			}
+			catch (ServiceConfigurationError error)
+			{
+				// Класс будет проверен с помощью рефлексии
+			}
+		}
+
+		return Map.copyOf(validators);
+	}
+
+	/**
+	 * Класс сгенерированных проверяющих, загружаемых при первом обращении.
+	 */
+	private static final class Holder
+	{
+		/**
+		 * Сгенерированные проверяющие.
+		 */
+		@NotNull
+		private static final Map<@NotNull Class<?>, @NotNull GeneratedValidating<?>> VALIDATORS = GeneratedValidators.load();
+	}
+}
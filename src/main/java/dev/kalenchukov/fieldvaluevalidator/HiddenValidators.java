@@ -0,0 +1,639 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext;
+import dev.kalenchukov.fieldvaluevalidator.hidden.FieldConstraint;
+import dev.kalenchukov.fieldvaluevalidator.validators.ExistValidator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Класс проверяющих значений полей классов, создаваемых во время выполнения.
+ * Для класса создаётся скрытый класс в его пакете, который читает значения полей напрямую,
+ * без рефлексии, и передаёт их ограничениям {@link FieldConstraint}.
+ * Метод проверки не содержит переходов, поэтому байт-код не требует таблицы фреймов стека.
+ */
+final class HiddenValidators
+{
+	/**
+	 * Версия формата файла класса.
+	 */
+	private static final int VERSION = 60;
+
+	/**
+	 * Максимальное количество ограничений, при котором размер метода проверки не превышает допустимый.
+	 */
+	private static final int MAX_CONSTRAINTS = 2048;
+
+	/**
+	 * Название поля ограничений созданного проверяющего.
+	 */
+	@NotNull
+	private static final String CONSTRAINTS = "constraints";
+
+	/**
+	 * Дескриптор поля ограничений созданного проверяющего.
+	 */
+	@NotNull
+	private static final String CONSTRAINTS_DESCRIPTOR = FieldConstraint[].class.descriptorString();
+
+	/**
+	 * Внутреннее название класса ограничения.
+	 */
+	@NotNull
+	private static final String CONSTRAINT = HiddenValidators.internalName(FieldConstraint.class);
+
+	/**
+	 * Дескриптор класса контекста проверки объекта.
+	 */
+	@NotNull
+	private static final String CONTEXT_DESCRIPTOR = ValidationContext.class.descriptorString();
+
+	/**
+	 * Флаг {@code ACC_SUPER} класса.
+	 */
+	private static final int ACC_SUPER = 0x0020;
+
+	// Инструкции байт-кода
+	private static final int ALOAD_0 = 0x2A;
+	private static final int ALOAD_1 = 0x2B;
+	private static final int ALOAD_2 = 0x2C;
+	private static final int AALOAD = 0x32;
+	private static final int SIPUSH = 0x11;
+	private static final int LDC_W = 0x13;
+	private static final int I2L = 0x85;
+	private static final int F2D = 0x8D;
+	private static final int ARETURN = 0xB0;
+	private static final int RETURN = 0xB1;
+	private static final int GETSTATIC = 0xB2;
+	private static final int GETFIELD = 0xB4;
+	private static final int PUTFIELD = 0xB5;
+	private static final int INVOKEVIRTUAL = 0xB6;
+	private static final int INVOKESPECIAL = 0xB7;
+	private static final int INVOKESTATIC = 0xB8;
+	private static final int CHECKCAST = 0xC0;
+
+	/**
+	 * Конструктор для {@code HiddenValidators}.
+	 */
+	private HiddenValidators() {}
+
+	/**
+	 * Создаёт проверяющего для класса.
+	 *
+	 * @param type Класс.
+	 * @param fields Планы проверки полей класса.
+	 * @return Созданного проверяющего, или {@code null} если поля класса проверяются только с помощью рефлексии.
+	 */
+	@Nullable
+	public static GeneratedValidating<?> define(@NotNull final Class<?> type,
+												@NotNull final List<ValidationPlan.FieldPlan> fields)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(fields);
+
+		if (!HiddenValidators.isSupported(type, fields)) {
+			return null;
+		}
+
+		List<FieldConstraint> constraints = new ArrayList<>();
+		byte[] bytes = HiddenValidators.write(type, fields, constraints);
+
+		try
+		{
+			HiddenValidators.class.getModule().addReads(type.getModule());
+
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+
+			if (!lookup.hasFullPrivilegeAccess()) {
+				return null;
+			}
+
+			Class<?> hidden = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+				.lookupClass();
+
+			Object validator = hidden.getConstructor(FieldConstraint[].class)
+				.newInstance((Object) constraints.toArray(new FieldConstraint[0]));
+
+			if (validator instanceof GeneratedValidating) {
+				return (GeneratedValidating<?>) validator;
+			}
+		}
+		catch (ReflectiveOperationException | LinkageError | SecurityException exception)
+		{
+			return null;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Определяет, можно ли создать проверяющего для класса.
+	 * Проверки существования выполняются пакетно и асинхронно только при проверке с помощью рефлексии.
+	 *
+	 * @param type Класс.
+	 * @param fields Планы проверки полей класса.
+	 * @return {@code True} если проверяющего можно создать, иначе {@code false}.
+	 */
+	private static boolean isSupported(@NotNull final Class<?> type,
+									   @NotNull final List<ValidationPlan.FieldPlan> fields)
+	{
+		if (type.isHidden() || type.isArray() || type.isPrimitive() || fields.isEmpty()) {
+			return false;
+		}
+
+		int count = 0;
+
+		for (ValidationPlan.FieldPlan fieldPlan : fields)
+		{
+			Field field = fieldPlan.getField();
+
+			if (!HiddenValidators.isAccessible(type, field) || field.getType().isHidden()) {
+				return false;
+			}
+
+			for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				if (constraintPlan.getValidator() instanceof ExistValidator) {
+					return false;
+				}
+
+				count++;
+			}
+		}
+
+		return count <= MAX_CONSTRAINTS;
+	}
+
+	/**
+	 * Определяет, доступно ли поле класса или его суперкласса скрытому классу в пакете класса.
+	 * Скрытый класс входит в гнездо класса, поэтому ему доступны все поля самого класса,
+	 * а из полей суперклассов только не закрытые поля классов того же пакета.
+	 *
+	 * @param type Класс.
+	 * @param field Поле класса или его суперкласса.
+	 * @return {@code True} если поле доступно, иначе {@code false}.
+	 */
+	private static boolean isAccessible(@NotNull final Class<?> type, @NotNull final Field field)
+	{
+		Class<?> declaringClass = field.getDeclaringClass();
+
+		if (declaringClass == type) {
+			return true;
+		}
+
+		return !Modifier.isPrivate(field.getModifiers())
+			&& declaringClass.getClassLoader() == type.getClassLoader()
+			&& declaringClass.getPackageName().equals(type.getPackageName());
+	}
+
+	/**
+	 * Создаёт байт-код проверяющего.
+	 *
+	 * @param type Класс.
+	 * @param fields Планы проверки полей класса.
+	 * @param constraints Коллекция, в которую добавляются ограничения в порядке их проверки.
+	 * @return Байт-код проверяющего.
+	 */
+	private static byte @NotNull [] write(@NotNull final Class<?> type,
+										  @NotNull final List<ValidationPlan.FieldPlan> fields,
+										  @NotNull final List<@NotNull FieldConstraint> constraints)
+	{
+		ConstantPool pool = new ConstantPool();
+
+		String name = HiddenValidators.internalName(type) + "$$FieldValueValidator";
+		int thisClass = pool.type(name);
+		int constraintsField = pool.field(name, CONSTRAINTS, CONSTRAINTS_DESCRIPTOR);
+
+		Bytes init = new Bytes();
+		init.u1(ALOAD_0).u1(INVOKESPECIAL).u2(pool.method("java/lang/Object", "<init>", "()V"));
+		init.u1(ALOAD_0).u1(ALOAD_1).u1(PUTFIELD).u2(constraintsField);
+		init.u1(RETURN);
+
+		Bytes getType = new Bytes();
+		getType.u1(LDC_W).u2(pool.type(HiddenValidators.internalName(type)));
+		getType.u1(ARETURN);
+
+		Bytes validate = new Bytes();
+
+		for (ValidationPlan.FieldPlan fieldPlan : fields)
+		{
+			Field field = fieldPlan.getField();
+			String owner = HiddenValidators.internalName(field.getDeclaringClass());
+			String descriptor = field.getType().descriptorString();
+			Bytes read = new Bytes();
+
+			if (Modifier.isStatic(field.getModifiers()))
+			{
+				read.u1(GETSTATIC).u2(pool.field(owner, field.getName(), descriptor));
+			}
+			else
+			{
+				read.u1(ALOAD_1).u1(CHECKCAST).u2(pool.type(HiddenValidators.internalName(type)));
+
+				if (fieldPlan.getAccessor().getComponentAccessor() == null) {
+					read.u1(GETFIELD).u2(pool.field(owner, field.getName(), descriptor));
+				} else {
+					read.u1(INVOKEVIRTUAL).u2(pool.method(owner, field.getName(), "()" + descriptor));
+				}
+			}
+
+			for (ValidationPlan.ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				FieldConstraint constraint = new FieldConstraint(field, constraintPlan.getValidator());
+
+				validate.u1(ALOAD_0).u1(GETFIELD).u2(constraintsField);
+				validate.u1(SIPUSH).u2(constraints.size()).u1(AALOAD);
+				validate.bytes(read);
+
+				String argument = HiddenValidators.convert(validate, pool, field.getType(), constraint.isPrimitive());
+
+				validate.u1(ALOAD_2).u1(INVOKEVIRTUAL)
+					.u2(pool.method(CONSTRAINT, "check", "(" + argument + CONTEXT_DESCRIPTOR + ")V"));
+
+				constraints.add(constraint);
+			}
+		}
+
+		validate.u1(RETURN);
+
+		Bytes methods = new Bytes();
+		HiddenValidators.method(methods, pool, "<init>", "(" + CONSTRAINTS_DESCRIPTOR + ")V", 2, 2, init);
+		HiddenValidators.method(methods, pool, "getType", "()Ljava/lang/Class;", 1, 1, getType);
+		HiddenValidators.method(methods, pool, "validate", "(Ljava/lang/Object;" + CONTEXT_DESCRIPTOR + ")V", 5, 3, validate);
+
+		int superClass = pool.type("java/lang/Object");
+		int interfaceClass = pool.type(HiddenValidators.internalName(GeneratedValidating.class));
+		int fieldName = pool.utf8(CONSTRAINTS);
+		int fieldDescriptor = pool.utf8(CONSTRAINTS_DESCRIPTOR);
+
+		Bytes bytes = new Bytes();
+		bytes.u4(0xCAFEBABE).u2(0).u2(VERSION);
+		bytes.u2(pool.count()).bytes(pool.bytes());
+		bytes.u2(Modifier.PUBLIC | Modifier.FINAL | ACC_SUPER).u2(thisClass).u2(superClass);
+		bytes.u2(1).u2(interfaceClass);
+		bytes.u2(1).u2(Modifier.PRIVATE | Modifier.FINAL).u2(fieldName).u2(fieldDescriptor).u2(0);
+		bytes.u2(3).bytes(methods);
+		bytes.u2(0);
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Добавляет преобразование значения поля класса к типу параметра метода проверки ограничения.
+	 * Значения целочисленных и дробных примитивных типов передаются проверяющим, поддерживающим их,
+	 * без упаковки, значения остальных примитивных типов упаковываются.
+	 *
+	 * @param code Байт-код метода проверки.
+	 * @param pool Пул констант.
+	 * @param fieldType Тип поля класса.
+	 * @param primitive Признак проверки значения без упаковки.
+	 * @return Дескриптор типа параметра метода проверки ограничения.
+	 */
+	@NotNull
+	private static String convert(@NotNull final Bytes code,
+								  @NotNull final ConstantPool pool,
+								  @NotNull final Class<?> fieldType,
+								  final boolean primitive)
+	{
+		if (!fieldType.isPrimitive()) {
+			return "Ljava/lang/Object;";
+		}
+
+		if (primitive)
+		{
+			if (fieldType == byte.class || fieldType == short.class || fieldType == int.class)
+			{
+				code.u1(I2L);
+
+				return "J";
+			}
+
+			if (fieldType == long.class) {
+				return "J";
+			}
+
+			if (fieldType == float.class)
+			{
+				code.u1(F2D);
+
+				return "D";
+			}
+
+			if (fieldType == double.class) {
+				return "D";
+			}
+		}
+
+		Class<?> wrapper = MethodType.methodType(fieldType).wrap().returnType();
+
+		code.u1(INVOKESTATIC).u2(pool.method(
+			HiddenValidators.internalName(wrapper),
+			"valueOf",
+			"(" + fieldType.descriptorString() + ")" + wrapper.descriptorString()
+		));
+
+		return "Ljava/lang/Object;";
+	}
+
+	/**
+	 * Добавляет открытый метод.
+	 *
+	 * @param methods Байт-код методов.
+	 * @param pool Пул констант.
+	 * @param name Название метода.
+	 * @param descriptor Дескриптор метода.
+	 * @param maxStack Максимальная глубина стека операндов.
+	 * @param maxLocals Количество локальных переменных.
+	 * @param code Байт-код тела метода.
+	 */
+	private static void method(@NotNull final Bytes methods,
+							   @NotNull final ConstantPool pool,
+							   @NotNull final String name,
+							   @NotNull final String descriptor,
+							   final int maxStack,
+							   final int maxLocals,
+							   @NotNull final Bytes code)
+	{
+		methods.u2(Modifier.PUBLIC).u2(pool.utf8(name)).u2(pool.utf8(descriptor));
+		methods.u2(1).u2(pool.utf8("Code")).u4(12 + code.size());
+		methods.u2(maxStack).u2(maxLocals).u4(code.size()).bytes(code);
+		methods.u2(0).u2(0);
+	}
+
+	/**
+	 * Возвращает внутреннее название класса.
+	 *
+	 * @param type Класс.
+	 * @return Внутреннее название класса.
+	 */
+	@NotNull
+	private static String internalName(@NotNull final Class<?> type)
+	{
+		return type.getName().replace('.', '/');
+	}
+
+	/**
+	 * Класс байт-кода.
+	 */
+	private static final class Bytes extends ByteArrayOutputStream
+	{
+		/**
+		 * Добавляет один байт.
+		 *
+		 * @param value Значение.
+		 * @return Байт-код.
+		 */
+		@NotNull
+		public Bytes u1(final int value)
+		{
+			this.write(value);
+
+			return this;
+		}
+
+		/**
+		 * Добавляет два байта.
+		 *
+		 * @param value Значение.
+		 * @return Байт-код.
+		 */
+		@NotNull
+		public Bytes u2(final int value)
+		{
+			return this.u1(value >>> 8).u1(value);
+		}
+
+		/**
+		 * Добавляет четыре байта.
+		 *
+		 * @param value Значение.
+		 * @return Байт-код.
+		 */
+		@NotNull
+		public Bytes u4(final int value)
+		{
+			return this.u2(value >>> 16).u2(value);
+		}
+
+		/**
+		 * Добавляет байт-код.
+		 *
+		 * @param bytes Байт-код.
+		 * @return Байт-код.
+		 */
+		@NotNull
+		public Bytes bytes(@NotNull final ByteArrayOutputStream bytes)
+		{
+			this.write(bytes.toByteArray(), 0, bytes.size());
+
+			return this;
+		}
+	}
+
+	/**
+	 * Класс пула констант.
+	 * Одинаковые константы добавляются в пул один раз.
+	 */
+	private static final class ConstantPool
+	{
+		/**
+		 * Индексы констант.
+		 */
+		@NotNull
+		private final Map<@NotNull String, @NotNull Integer> indexes = new HashMap<>();
+
+		/**
+		 * Байт-код констант.
+		 */
+		@NotNull
+		private final Bytes bytes = new Bytes();
+
+		/**
+		 * Индекс следующей константы.
+		 */
+		private int count = 1;
+
+		/**
+		 * Возвращает количество констант, увеличенное на единицу.
+		 *
+		 * @return Количество констант, увеличенное на единицу.
+		 */
+		public int count()
+		{
+			return this.count;
+		}
+
+		/**
+		 * Возвращает байт-код констант.
+		 *
+		 * @return Байт-код констант.
+		 */
+		@NotNull
+		public Bytes bytes()
+		{
+			return this.bytes;
+		}
+
+		/**
+		 * Добавляет строку.
+		 *
+		 * @param value Строка.
+		 * @return Индекс константы.
+		 */
+		public int utf8(@NotNull final String value)
+		{
+			Integer index = this.indexes.get("U" + value);
+
+			if (index != null) {
+				return index;
+			}
+
+			ByteArrayOutputStream utf = new ByteArrayOutputStream();
+
+			try (DataOutputStream data = new DataOutputStream(utf))
+			{
+				data.writeUTF(value);
+			}
+			catch (IOException exception)
+			{
+				throw new UncheckedIOException(exception);
+			}
+
+			this.bytes.u1(1).bytes(utf);
+
+			return this.add("U" + value);
+		}
+
+		/**
+		 * Добавляет класс.
+		 *
+		 * @param name Внутреннее название класса.
+		 * @return Индекс константы.
+		 */
+		public int type(@NotNull final String name)
+		{
+			Integer index = this.indexes.get("C" + name);
+
+			if (index != null) {
+				return index;
+			}
+
+			int nameIndex = this.utf8(name);
+
+			this.bytes.u1(7).u2(nameIndex);
+
+			return this.add("C" + name);
+		}
+
+		/**
+		 * Добавляет ссылку на поле.
+		 *
+		 * @param owner Внутреннее название класса поля.
+		 * @param name Название поля.
+		 * @param descriptor Дескриптор поля.
+		 * @return Индекс константы.
+		 */
+		public int field(@NotNull final String owner, @NotNull final String name, @NotNull final String descriptor)
+		{
+			return this.member(9, owner, name, descriptor);
+		}
+
+		/**
+		 * Добавляет ссылку на метод класса.
+		 *
+		 * @param owner Внутреннее название класса метода.
+		 * @param name Название метода.
+		 * @param descriptor Дескриптор метода.
+		 * @return Индекс константы.
+		 */
+		public int method(@NotNull final String owner, @NotNull final String name, @NotNull final String descriptor)
+		{
+			return this.member(10, owner, name, descriptor);
+		}
+
+		/**
+		 * Добавляет ссылку на член класса.
+		 *
+		 * @param tag Тип константы.
+		 * @param owner Внутреннее название класса.
+		 * @param name Название члена класса.
+		 * @param descriptor Дескриптор члена класса.
+		 * @return Индекс константы.
+		 */
+		private int member(final int tag,
+						   @NotNull final String owner,
+						   @NotNull final String name,
+						   @NotNull final String descriptor)
+		{
+			String key = tag + owner + "." + name + ":" + descriptor;
+			Integer index = this.indexes.get(key);
+
+			if (index != null) {
+				return index;
+			}
+
+			int ownerIndex = this.type(owner);
+			int nameAndType = this.nameAndType(name, descriptor);
+
+			this.bytes.u1(tag).u2(ownerIndex).u2(nameAndType);
+
+			return this.add(key);
+		}
+
+		/**
+		 * Добавляет название и дескриптор члена класса.
+		 *
+		 * @param name Название члена класса.
+		 * @param descriptor Дескриптор члена класса.
+		 * @return Индекс константы.
+		 */
+		private int nameAndType(@NotNull final String name, @NotNull final String descriptor)
+		{
+			String key = "N" + name + ":" + descriptor;
+			Integer index = this.indexes.get(key);
+
+			if (index != null) {
+				return index;
+			}
+
+			int nameIndex = this.utf8(name);
+			int descriptorIndex = this.utf8(descriptor);
+
+			this.bytes.u1(12).u2(nameIndex).u2(descriptorIndex);
+
+			return this.add(key);
+		}
+
+		/**
+		 * Запоминает индекс добавленной константы.
+		 *
+		 * @param key Ключ константы.
+		 * @return Индекс константы.
+		 */
+		private int add(@NotNull final String key)
+		{
+			int index = this.count++;
+
+			this.indexes.put(key, index);
+
+			return index;
+		}
+	}
+}
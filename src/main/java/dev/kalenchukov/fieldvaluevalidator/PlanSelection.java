@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Default;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Класс выбора проверяемых ограничений.
+ * Определяет группы проверки и названия проверяемых полей.
+ * Для набора групп проверки строится отдельный план проверки класса, порядок групп не учитывается.
+ * Выбор полей только отбирает поля из плана проверки групп.
+ */
+final class PlanSelection
+{
+	/**
+	 * Выбор всех полей в группе проверки по умолчанию.
+	 */
+	@NotNull
+	public static final PlanSelection DEFAULT = new PlanSelection(Set.of(Default.class), null);
+
+	/**
+	 * Группы проверки.
+	 */
+	@NotNull
+	private final Set<@NotNull Class<?>> groups;
+
+	/**
+	 * Названия проверяемых полей, или {@code null} если проверяются все поля.
+	 */
+	@Nullable
+	private final Set<@NotNull String> names;
+
+	/**
+	 * Конструктор для {@code PlanSelection}.
+	 *
+	 * @param groups Группы проверки.
+	 * @param names Названия проверяемых полей, или {@code null} если проверяются все поля.
+	 */
+	PlanSelection(@NotNull final Collection<@NotNull Class<?>> groups, @Nullable final Set<@NotNull String> names)
+	{
+		Objects.requireNonNull(groups);
+
+		this.groups = Set.copyOf(groups);
+		this.names = names == null ? null : Set.copyOf(names);
+	}
+
+	/**
+	 * Возвращает выбор для объектов, на которые ссылаются поля с каскадной проверкой.
+	 * Вложенные объекты проверяются в тех же группах, но полностью.
+	 *
+	 * @return Выбор для вложенных объектов.
+	 */
+	@NotNull
+	public PlanSelection getNested()
+	{
+		if (this.names == null) {
+			return this;
+		}
+
+		if (this.groups.equals(DEFAULT.groups)) {
+			return DEFAULT;
+		}
+
+		return new PlanSelection(this.groups, null);
+	}
+
+	/**
+	 * Возвращает выбор полей в тех же группах проверки.
+	 *
+	 * @param names Названия проверяемых полей.
+	 * @return Выбор полей.
+	 */
+	@NotNull
+	public PlanSelection select(@NotNull final Set<@NotNull String> names)
+	{
+		Objects.requireNonNull(names);
+
+		return new PlanSelection(this.groups, names);
+	}
+
+	/**
+	 * Возвращает названия проверяемых полей.
+	 *
+	 * @return Названия проверяемых полей, или {@code null} если проверяются все поля.
+	 */
+	@Nullable
+	public Set<@NotNull String> getNames()
+	{
+		return this.names;
+	}
+
+	/**
+	 * Определяет, выбрано ли поле класса для проверки.
+	 *
+	 * @param field Поле класса.
+	 * @return {@code True} если поле класса проверяется, иначе {@code false}.
+	 */
+	public boolean isSelected(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		return this.names == null || this.names.contains(field.getName());
+	}
+
+	/**
+	 * Определяет, выбрано ли ограничение для проверки.
+	 * Аннотация-контейнер повторяемого ограничения выбрана, если выбрано хотя бы одно из её ограничений.
+	 *
+	 * @param constraint Ограничение.
+	 * @return {@code True} если ограничение проверяется, иначе {@code false}.
+	 */
+	public boolean isSelected(@NotNull final Annotation constraint)
+	{
+		return this.getSelected(constraint).length > 0;
+	}
+
+	/**
+	 * Возвращает выбранные для проверки повторения ограничения.
+	 * Ограничение выбрано, если одна из его групп совпадает с группой проверки или является её суперинтерфейсом.
+	 *
+	 * @param constraint Ограничение или аннотация-контейнер повторяемого ограничения.
+	 * @return Выбранные повторения ограничения, для ограничения без повторений - само ограничение или пустой массив.
+	 */
+	@NotNull
+	public Annotation @NotNull [] getSelected(@NotNull final Annotation constraint)
+	{
+		Objects.requireNonNull(constraint);
+
+		Annotation[] repetitions = PlanSelection.getRepetitions(constraint);
+		List<Annotation> selected = new ArrayList<>(repetitions.length);
+
+		for (Annotation repetition : repetitions)
+		{
+			if (this.isSelectedRepetition(repetition)) {
+				selected.add(repetition);
+			}
+		}
+
+		return selected.toArray(new Annotation[0]);
+	}
+
+	/**
+	 * Возвращает повторения ограничения.
+	 *
+	 * @param constraint Ограничение или аннотация-контейнер повторяемого ограничения.
+	 * @return Ограничения аннотации-контейнера, или само ограничение.
+	 */
+	@NotNull
+	public static Annotation @NotNull [] getRepetitions(@NotNull final Annotation constraint)
+	{
+		Objects.requireNonNull(constraint);
+
+		Object value = PlanSelection.invoke(constraint, "value");
+
+		if (value instanceof Annotation[] && ((Annotation[]) value).length > 0) {
+			return (Annotation[]) value;
+		}
+
+		return new Annotation[] {constraint};
+	}
+
+	/**
+	 * Определяет, выбрано ли для проверки одно повторение ограничения.
+	 *
+	 * @param constraint Ограничение.
+	 * @return {@code True} если ограничение проверяется, иначе {@code false}.
+	 */
+	private boolean isSelectedRepetition(@NotNull final Annotation constraint)
+	{
+		Object groups = PlanSelection.invoke(constraint, "groups");
+
+		if (!(groups instanceof Class<?>[]) || ((Class<?>[]) groups).length == 0) {
+			return this.isSelected(Default.class);
+		}
+
+		for (Class<?> group : (Class<?>[]) groups)
+		{
+			if (this.isSelected(group)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Определяет, проверяются ли ограничения группы.
+	 *
+	 * @param group Группа ограничения.
+	 * @return {@code True} если ограничения группы проверяются, иначе {@code false}.
+	 */
+	private boolean isSelected(@NotNull final Class<?> group)
+	{
+		for (Class<?> selected : this.groups)
+		{
+			if (group.isAssignableFrom(selected)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Возвращает значение параметра ограничения.
+	 *
+	 * @param constraint Ограничение.
+	 * @param name Название параметра.
+	 * @return Значение параметра, или {@code null} если у ограничения нет доступного параметра с таким названием.
+	 */
+	@Nullable
+	private static Object invoke(@NotNull final Annotation constraint, @NotNull final String name)
+	{
+		try
+		{
+			Method method = constraint.annotationType().getMethod(name);
+
+			return method.invoke(constraint);
+		}
+		catch (ReflectiveOperationException | RuntimeException exception)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(@Nullable final Object object)
+	{
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof PlanSelection)) {
+			return false;
+		}
+
+		PlanSelection selection = (PlanSelection) object;
+
+		return this.groups.equals(selection.groups) && Objects.equals(this.names, selection.names);
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(this.groups, this.names);
+	}
+}
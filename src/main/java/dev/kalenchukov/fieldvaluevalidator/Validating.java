@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Интерфейс для реализации проверяющего.
+ * Проверка не должна изменять состояние проверяющего, чтобы один экземпляр
+ * можно было использовать из нескольких потоков одновременно.
+ */
+public interface Validating
+{
+	/**
+	 * Проверяет корректность значения поля класса.
+	 *
+	 * @param field Поле класса.
+	 * @param value Значение поля класса.
+	 * @return Неизменяемое нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	Violating valid(@NotNull Field field, @Nullable Object value);
+
+	/**
+	 * Определяет корректность значения поля класса.
+	 * В отличие от {@link #valid(Field, Object)} нарушение не создаётся.
+	 *
+	 * @param field Поле класса.
+	 * @param value Значение поля класса.
+	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 */
+	default boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		return this.valid(field, value) == null;
+	}
+
+	/**
+	 * Привязывает проверяющего к полю класса.
+	 * Вызывается один раз при создании плана проверки класса. По объявленному типу поля класса
+	 * проверяющий заранее выбирает способ проверки и возвращает проверяющего значений только этого поля.
+	 *
+	 * @param field Поле класса.
+	 * @return Проверяющий значений поля класса.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 */
+	@NotNull
+	default Validating bind(@NotNull final Field field)
+	{
+		return this;
+	}
+}
@@ -0,0 +1,647 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Cascade;
+import dev.kalenchukov.fieldvaluevalidator.constraints.Immutable;
+import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.validators.AbstractValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.ExistValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.PrimitiveValidating;
+import dev.kalenchukov.fieldvaluevalidator.validators.RepeatableValidating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+
+/**
+ * Класс плана проверки значений полей класса.
+ * План строится один раз для класса и содержит только поля с ограничениями, включая поля суперклассов.
+ */
+final class ValidationPlan
+{
+	/**
+	 * Планы проверки полей класса.
+	 */
+	@NotNull
+	private final List<@NotNull FieldPlan> fields;
+
+	/**
+	 * Доступ к значениям полей с каскадной проверкой.
+	 */
+	@NotNull
+	private final List<@NotNull FieldAccessor> cascades;
+
+	/**
+	 * Признак наличия полей с пакетной проверкой существования.
+	 */
+	private final boolean batchExistence;
+
+	/**
+	 * Признак неизменяемого класса.
+	 */
+	private final boolean immutable;
+
+	/**
+	 * Выбор проверяемых ограничений, по которому построен план.
+	 */
+	@NotNull
+	private final PlanSelection selection;
+
+	/**
+	 * Названия всех полей класса.
+	 */
+	@NotNull
+	private final Set<@NotNull String> names;
+
+	/**
+	 * Сгенерированный проверяющий класса.
+	 * Создаётся процессором аннотаций при компиляции или во время выполнения.
+	 */
+	@Nullable
+	private final GeneratedValidating<Object> generated;
+
+	/**
+	 * Конструктор для {@code ValidationPlan}.
+	 *
+	 * @param type Класс, для которого строится план проверки.
+	 * @param validators Коллекция проверяющих.
+	 * <ul>
+	 * 		<li><b>key</b> - аннотация ограничения.</li>
+	 * 		<li><b>value</b> - проверяющий.</li>
+	 * </ul>
+	 * @param bytecodeGeneration Признак создания проверяющего во время выполнения.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается его ограничением.
+	 */
+	ValidationPlan(@NotNull final Class<?> type,
+				   @NotNull final Map<@NotNull Class<? extends Annotation>, @NotNull Validating> validators,
+				   final boolean bytecodeGeneration)
+	{
+		this(type, validators, bytecodeGeneration, PlanSelection.DEFAULT);
+	}
+
+	/**
+	 * Конструктор для {@code ValidationPlan}.
+	 * В план попадают только выбранные поля класса и ограничения выбранных групп проверки.
+	 *
+	 * @param type Класс, для которого строится план проверки.
+	 * @param validators Коллекция проверяющих.
+	 * <ul>
+	 * 		<li><b>key</b> - аннотация ограничения.</li>
+	 * 		<li><b>value</b> - проверяющий.</li>
+	 * </ul>
+	 * @param bytecodeGeneration Признак создания проверяющего во время выполнения.
+	 * @param selection Выбор проверяемых ограничений.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается его ограничением.
+	 * @throws IllegalArgumentException Если в классе нет выбранного поля.
+	 */
+	ValidationPlan(@NotNull final Class<?> type,
+				   @NotNull final Map<@NotNull Class<? extends Annotation>, @NotNull Validating> validators,
+				   final boolean bytecodeGeneration,
+				   @NotNull final PlanSelection selection)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(validators);
+		Objects.requireNonNull(selection);
+
+		List<FieldPlan> fields = new ArrayList<>();
+		List<FieldAccessor> cascades = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		boolean batchExistence = false;
+		boolean complete = true;
+
+		for (Field field : ValidationPlan.getFields(type))
+		{
+			names.add(field.getName());
+
+			List<ConstraintPlan> constraints = new ArrayList<>();
+			boolean batchField = false;
+
+			for (Annotation constraintField : field.getDeclaredAnnotations())
+			{
+				Class<? extends Annotation> constraintType = constraintField.annotationType();
+				Validating validator = validators.get(constraintType);
+
+				if (validator == null) {
+					continue;
+				}
+
+				Annotation[] selected = selection.getSelected(constraintField);
+
+				if (!selection.isSelected(field) || selected.length == 0)
+				{
+					complete = false;
+
+					continue;
+				}
+
+				Validating bound;
+
+				if (validator instanceof RepeatableValidating)
+				{
+					bound = ((RepeatableValidating) validator).bind(field, selected);
+				}
+				else
+				{
+					bound = validator.bind(field);
+				}
+
+				if (selected.length < PlanSelection.getRepetitions(constraintField).length) {
+					complete = false;
+				}
+
+				constraints.add(new ConstraintPlan(constraintType, bound, ValidationPlan.getAccess(field, bound)));
+
+				if (bound instanceof ExistValidator && ((ExistValidator) bound).isBatch(field)) {
+					batchField = true;
+				}
+			}
+
+			Cascade cascadeField = field.getDeclaredAnnotation(Cascade.class);
+			boolean cascade = cascadeField != null && selection.isSelected(field) && selection.isSelected(cascadeField);
+
+			if (constraints.isEmpty() && !cascade) {
+				continue;
+			}
+
+			FieldAccessor accessor = new FieldAccessor(field);
+
+			if (!constraints.isEmpty()) {
+				fields.add(new FieldPlan(accessor, constraints, batchField));
+			}
+
+			if (cascade) {
+				cascades.add(accessor);
+			}
+
+			batchExistence |= batchField;
+		}
+
+		if (selection.getNames() != null && !names.containsAll(selection.getNames())) {
+			throw new IllegalArgumentException();
+		}
+
+		this.fields = Collections.unmodifiableList(fields);
+		this.cascades = Collections.unmodifiableList(cascades);
+		this.batchExistence = batchExistence;
+		this.immutable = type.isAnnotationPresent(Immutable.class);
+		this.selection = selection;
+		this.names = Collections.unmodifiableSet(names);
+		GeneratedValidating<?> generated = null;
+
+		if (complete && ValidationPlan.isLibraryConstraints(this.fields)) {
+			generated = GeneratedValidators.get(type);
+		}
+
+		if (generated == null && bytecodeGeneration) {
+			generated = HiddenValidators.define(type, this.fields);
+		}
+
+		this.generated = ValidationPlan.cast(generated);
+	}
+
+	/**
+	 * Конструктор для {@code ValidationPlan}, проверяющего только выбранные поля класса.
+	 * Планы проверки полей берутся из плана {@code plan} без повторной привязки проверяющих.
+	 * Результат проверки части полей не запоминается, а сгенерированный проверяющий,
+	 * проверяющий все поля класса, не используется.
+	 *
+	 * @param plan План проверки класса.
+	 * @param names Названия проверяемых полей.
+	 */
+	private ValidationPlan(@NotNull final ValidationPlan plan, @NotNull final Set<@NotNull String> names)
+	{
+		PlanSelection selection = plan.selection.select(names);
+		List<FieldPlan> fields = new ArrayList<>();
+		List<FieldAccessor> cascades = new ArrayList<>();
+		boolean batchExistence = false;
+
+		for (FieldPlan fieldPlan : plan.fields)
+		{
+			if (selection.isSelected(fieldPlan.getField()))
+			{
+				fields.add(fieldPlan);
+				batchExistence |= fieldPlan.isBatchExistence();
+			}
+		}
+
+		for (FieldAccessor cascade : plan.cascades)
+		{
+			if (selection.isSelected(cascade.getField())) {
+				cascades.add(cascade);
+			}
+		}
+
+		this.fields = Collections.unmodifiableList(fields);
+		this.cascades = Collections.unmodifiableList(cascades);
+		this.batchExistence = batchExistence;
+		this.immutable = false;
+		this.selection = selection;
+		this.names = plan.names;
+		this.generated = null;
+	}
+
+	/**
+	 * Возвращает план проверки только выбранных полей класса.
+	 * План не кэшируется: набор полей может задаваться при каждой проверке.
+	 *
+	 * @param names Названия проверяемых полей.
+	 * @return План проверки выбранных полей класса.
+	 * @throws IllegalArgumentException Если в классе нет выбранного поля.
+	 */
+	@NotNull
+	public ValidationPlan select(@NotNull final Set<@NotNull String> names)
+	{
+		Objects.requireNonNull(names);
+
+		if (!this.names.containsAll(names)) {
+			throw new IllegalArgumentException();
+		}
+
+		return new ValidationPlan(this, names);
+	}
+
+	/**
+	 * Возвращает выбор проверяемых ограничений, по которому построен план.
+	 *
+	 * @return Выбор проверяемых ограничений.
+	 */
+	@NotNull
+	public PlanSelection getSelection()
+	{
+		return this.selection;
+	}
+
+	/**
+	 * Возвращает планы проверки полей класса.
+	 *
+	 * @return Коллекцию планов проверки полей класса.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull FieldPlan> getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * Возвращает доступ к значениям полей с каскадной проверкой.
+	 *
+	 * @return Коллекцию доступа к значениям полей с каскадной проверкой.
+	 */
+	@UnmodifiableView
+	@NotNull
+	public List<@NotNull FieldAccessor> getCascades()
+	{
+		return this.cascades;
+	}
+
+	/**
+	 * Определяет, отмечен ли класс как неизменяемый.
+	 *
+	 * @return {@code True} если класс неизменяемый, иначе {@code false}.
+	 */
+	public boolean isImmutable()
+	{
+		return this.immutable;
+	}
+
+	/**
+	 * Определяет, есть ли в классе поля с пакетной проверкой существования.
+	 *
+	 * @return {@code True} если есть поля с пакетной проверкой существования, иначе {@code false}.
+	 */
+	public boolean hasBatchExistence()
+	{
+		return this.batchExistence;
+	}
+
+	/**
+	 * Возвращает сгенерированного проверяющего класса.
+	 *
+	 * @return Сгенерированного проверяющего, или {@code null} если поля класса проверяются с помощью рефлексии.
+	 */
+	@Nullable
+	public GeneratedValidating<Object> getGenerated()
+	{
+		return this.generated;
+	}
+
+	/**
+	 * Определяет, проверяются ли поля класса только ограничениями библиотеки с их проверяющими.
+	 * Проверяющие, созданные процессором аннотаций, не учитывают ограничения,
+	 * зарегистрированные в {@link ConstraintRegistry}, и их проверяющих.
+	 *
+	 * @param fields Планы проверки полей класса.
+	 * @return {@code True} если используются только ограничения библиотеки, иначе {@code false}.
+	 */
+	private static boolean isLibraryConstraints(@NotNull final List<@NotNull FieldPlan> fields)
+	{
+		for (FieldPlan fieldPlan : fields)
+		{
+			for (ConstraintPlan constraintPlan : fieldPlan.getConstraints())
+			{
+				if (!constraintPlan.getType().getPackageName().equals(Cascade.class.getPackageName())) {
+					return false;
+				}
+
+				if (!constraintPlan.getValidator().getClass().getPackageName().equals(AbstractValidator.class.getPackageName())) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Определяет способ чтения значения поля класса для проверяющего.
+	 * Значения целочисленных и дробных примитивных типов передаются проверяющим, поддерживающим их, без упаковки.
+	 *
+	 * @param field Поле класса.
+	 * @param validator Проверяющий.
+	 * @return Способ чтения значения поля класса.
+	 */
+	@NotNull
+	private static Access getAccess(@NotNull final Field field, @NotNull final Validating validator)
+	{
+		if (!(validator instanceof PrimitiveValidating)) {
+			return Access.OBJECT;
+		}
+
+		Class<?> type = field.getType();
+
+		if (type == byte.class || type == short.class || type == int.class || type == long.class) {
+			return Access.LONG;
+		}
+
+		if (type == float.class || type == double.class) {
+			return Access.DOUBLE;
+		}
+
+		return Access.OBJECT;
+	}
+
+	/**
+	 * Возвращает поля класса и его суперклассов.
+	 * Сначала следуют поля самого класса, затем поля суперклассов от ближайшего к дальнему.
+	 *
+	 * @param type Класс.
+	 * @return Коллекцию полей класса и его суперклассов.
+	 */
+	@NotNull
+	private static List<@NotNull Field> getFields(@NotNull final Class<?> type)
+	{
+		List<Field> fields = new ArrayList<>();
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+		{
+			if (current.isRecord()) {
+				fields.addAll(ValidationPlan.getRecordFields(current));
+			} else {
+				fields.addAll(Arrays.asList(current.getDeclaredFields()));
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Возвращает поля записи.
+	 * Сначала следуют поля компонентов в порядке объявления компонентов, затем статические поля.
+	 *
+	 * @param type Запись.
+	 * @return Коллекцию полей записи.
+	 */
+	@NotNull
+	private static List<@NotNull Field> getRecordFields(@NotNull final Class<?> type)
+	{
+		Map<String, Field> declaredFields = new LinkedHashMap<>();
+
+		for (Field field : type.getDeclaredFields()) {
+			declaredFields.put(field.getName(), field);
+		}
+
+		List<Field> fields = new ArrayList<>();
+
+		for (RecordComponent component : type.getRecordComponents())
+		{
+			Field field = declaredFields.remove(component.getName());
+
+			if (field != null) {
+				fields.add(field);
+			}
+		}
+
+		fields.addAll(declaredFields.values());
+
+		return fields;
+	}
+
+	/**
+	 * Приводит сгенерированного проверяющего к типу проверяемого объекта.
+	 * Сгенерированный проверяющий выбирается по классу объекта, поэтому приведение безопасно.
+	 *
+	 * @param generated Сгенерированный проверяющий.
+	 * @return Сгенерированный проверяющий.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static GeneratedValidating<Object> cast(@Nullable final GeneratedValidating<?> generated)
+	{
+		return (GeneratedValidating<Object>) generated;
+	}
+
+	/**
+	 * Класс плана проверки поля класса.
+	 */
+	static final class FieldPlan
+	{
+		/**
+		 * Доступ к значению поля класса.
+		 */
+		@NotNull
+		private final FieldAccessor accessor;
+
+		/**
+		 * Планы проверки ограничений поля класса.
+		 */
+		@NotNull
+		private final List<@NotNull ConstraintPlan> constraints;
+
+		/**
+		 * Признак пакетной проверки существования значения поля класса.
+		 */
+		private final boolean batchExistence;
+
+		/**
+		 * Конструктор для {@code FieldPlan}.
+		 *
+		 * @param accessor Доступ к значению поля класса.
+		 * @param constraints Планы проверки ограничений поля класса.
+		 * @param batchExistence Признак пакетной проверки существования значения поля класса.
+		 */
+		private FieldPlan(@NotNull final FieldAccessor accessor,
+						  @NotNull final List<@NotNull ConstraintPlan> constraints,
+						  final boolean batchExistence)
+		{
+			Objects.requireNonNull(accessor);
+			Objects.requireNonNull(constraints);
+
+			this.accessor = accessor;
+			this.constraints = Collections.unmodifiableList(constraints);
+			this.batchExistence = batchExistence;
+		}
+
+		/**
+		 * Возвращает поле класса.
+		 *
+		 * @return Поле класса.
+		 */
+		@NotNull
+		public Field getField()
+		{
+			return this.accessor.getField();
+		}
+
+		/**
+		 * Возвращает доступ к значению поля класса.
+		 *
+		 * @return Доступ к значению поля класса.
+		 */
+		@NotNull
+		public FieldAccessor getAccessor()
+		{
+			return this.accessor;
+		}
+
+		/**
+		 * Возвращает планы проверки ограничений поля класса.
+		 *
+		 * @return Коллекцию планов проверки ограничений.
+		 */
+		@UnmodifiableView
+		@NotNull
+		public List<@NotNull ConstraintPlan> getConstraints()
+		{
+			return this.constraints;
+		}
+
+		/**
+		 * Определяет, проверяется ли существование значения поля класса пакетом.
+		 *
+		 * @return {@code True} если существование значения поля класса проверяется пакетом, иначе {@code false}.
+		 */
+		public boolean isBatchExistence()
+		{
+			return this.batchExistence;
+		}
+	}
+
+	/**
+	 * Класс плана проверки ограничения поля класса.
+	 */
+	static final class ConstraintPlan
+	{
+		/**
+		 * Тип ограничения.
+		 */
+		@NotNull
+		private final Class<? extends Annotation> type;
+
+		/**
+		 * Проверяющий.
+		 */
+		@NotNull
+		private final Validating validator;
+
+		/**
+		 * Способ чтения значения поля класса для проверяющего.
+		 */
+		@NotNull
+		private final Access access;
+
+		/**
+		 * Конструктор для {@code ConstraintPlan}.
+		 *
+		 * @param type Тип ограничения.
+		 * @param validator Проверяющий.
+		 * @param access Способ чтения значения поля класса для проверяющего.
+		 */
+		private ConstraintPlan(@NotNull final Class<? extends Annotation> type,
+							   @NotNull final Validating validator,
+							   @NotNull final Access access)
+		{
+			Objects.requireNonNull(type);
+			Objects.requireNonNull(validator);
+			Objects.requireNonNull(access);
+
+			this.type = type;
+			this.validator = validator;
+			this.access = access;
+		}
+
+		/**
+		 * Возвращает способ чтения значения поля класса для проверяющего.
+		 *
+		 * @return Способ чтения значения поля класса.
+		 */
+		@NotNull
+		public Access getAccess()
+		{
+			return this.access;
+		}
+
+		/**
+		 * Возвращает тип ограничения.
+		 *
+		 * @return Тип ограничения.
+		 */
+		@NotNull
+		public Class<? extends Annotation> getType()
+		{
+			return this.type;
+		}
+
+		/**
+		 * Возвращает проверяющего для ограничения.
+		 *
+		 * @return Проверяющий.
+		 */
+		@NotNull
+		public Validating getValidator()
+		{
+			return this.validator;
+		}
+	}
+
+	/**
+	 * Способ чтения значения поля класса для проверяющего.
+	 */
+	enum Access
+	{
+		/**
+		 * Значение читается в виде объекта и передаётся в {@link Validating#valid(Field, Object)}.
+		 */
+		OBJECT,
+
+		/**
+		 * Значение читается без упаковки и передаётся в {@link PrimitiveValidating#validLong(Field, long)}.
+		 */
+		LONG,
+
+		/**
+		 * Значение читается без упаковки и передаётся в {@link PrimitiveValidating#validDouble(Field, double)}.
+		 */
+		DOUBLE
+	}
+}
@@ -8,14 +8,16 @@ package dev.kalenchukov.fieldvaluevalidator;
 
 import dev.kalenchukov.stringformat.StringFormat;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Класс нарушения.
+ * Нарушение неизменяемо и может передаваться между потоками.
+ * Сообщение о нарушении формируется при первом обращении к нему.
  */
 public final class Violation implements Violating
 {
@@ -26,10 +28,16 @@ public final class Violation implements Violating
 	private final String field;
 
 	/**
-	 * Сообщение о нарушении.
+	 * Шаблон сообщения о нарушении.
 	 */
 	@NotNull
-	private final String message;
+	private final String template;
+
+	/**
+	 * Сообщение о нарушении по умолчанию.
+	 */
+	@Nullable
+	private final String defaultMessage;
 
 	/**
 	 * Параметры нарушения.
@@ -37,6 +45,13 @@ public final class Violation implements Violating
 	@NotNull
 	private final Map<@NotNull String, @NotNull String> params;
 
+	/**
+	 * Сообщение о нарушении.
+	 * Формируется при первом обращении к {@link #getMessage()}.
+	 */
+	@Nullable
+	private volatile String message;
+
 	/**
 	 * Конструктор для {@code Violation}.
 	 *
@@ -57,8 +72,56 @@ public final class Violation implements Violating
 		Objects.requireNonNull(params);
 
 		this.field = field;
-		this.message = StringFormat.format(message, params);
-		this.params = params;
+		this.template = message;
+		this.defaultMessage = null;
+		this.params = Map.copyOf(params);
+	}
+
+	/**
+	 * Конструктор для {@code Violation}.
+	 *
+	 * @param field Название поля класса.
+	 * @param message Сообщение о нарушении, которое может содержать переменную {@code %DEFAULT_MESSAGE%}.
+	 * @param defaultMessage Сообщение о нарушении по умолчанию.
+	 * @param params Параметры нарушения.
+	 * <ul>
+	 * 		<li><b>key</b> - название.</li>
+	 * 		<li><b>value</b> - значение.</li>
+	 * </ul>
+	 */
+	public Violation(@NotNull final String field,
+					 @NotNull final String message,
+					 @NotNull final String defaultMessage,
+					 @NotNull final Map<@NotNull String, @NotNull String> params)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(message);
+		Objects.requireNonNull(defaultMessage);
+		Objects.requireNonNull(params);
+
+		this.field = field;
+		this.template = message;
+		this.defaultMessage = defaultMessage;
+		this.params = Map.copyOf(params);
+	}
+
+	/**
+	 * Конструктор для {@code Violation} с другим названием поля.
+	 * Используется для нарушений во вложенных объектах, название поля которых содержит путь к объекту.
+	 *
+	 * @param field Название поля класса.
+	 * @param violation Нарушение.
+	 */
+	Violation(@NotNull final String field, @NotNull final Violation violation)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(violation);
+
+		this.field = field;
+		this.template = violation.template;
+		this.defaultMessage = violation.defaultMessage;
+		this.params = violation.params;
+		this.message = violation.message;
 	}
 
 	/**
@@ -76,7 +139,22 @@ public final class Violation implements Violating
 	@NotNull
 	public String getMessage()
 	{
-		return this.message;
+		String message = this.message;
+
+		if (message == null)
+		{
+			message = this.template;
+
+			if (this.defaultMessage != null) {
+				message = StringFormat.format(message, "DEFAULT_MESSAGE", this.defaultMessage);
+			}
+
+			message = StringFormat.format(message, this.params);
+
+			this.message = message;
+		}
+
+		return message;
 	}
 
 	/**
@@ -86,13 +164,13 @@ public final class Violation implements Violating
 	@NotNull
 	public Map<@NotNull String, @NotNull String> getParams()
 	{
-		return Collections.unmodifiableMap(this.params);
+		return this.params;
 	}
 
 	@NotNull
 	@Override
 	public String toString()
 	{
-		return "Violation{" + "field='" + field + '\'' + ", message='" + message + '\'' + ", params=" + params + '}';
+		return "Violation{" + "field='" + field + '\'' + ", message='" + this.getMessage() + '\'' + ", params=" + params + '}';
 	}
 }
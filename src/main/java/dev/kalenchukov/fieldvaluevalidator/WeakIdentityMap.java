@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс коллекции значений, привязанных к объектам.
+ * Объекты сравниваются по ссылке, а не методом {@code equals}, и не удерживаются коллекцией:
+ * после сборки объекта сборщиком мусора его значение удаляется при следующем добавлении или удалении значения.
+ * Коллекция потокобезопасна, получение значения выполняется без блокировок.
+ *
+ * @param <V> Тип значений.
+ */
+final class WeakIdentityMap<V>
+{
+	/**
+	 * Значения объектов.
+	 * <ul>
+	 * 		<li><b>key</b> - слабая ссылка на объект.</li>
+	 * 		<li><b>value</b> - значение объекта.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull Key, @NotNull V> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Очередь ссылок на собранные объекты.
+	 */
+	@NotNull
+	private final ReferenceQueue<@NotNull Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Возвращает значение объекта.
+	 *
+	 * @param object Объект.
+	 * @return Значение объекта, или {@code null} если значения нет.
+	 */
+	@Nullable
+	public V get(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		return this.entries.get(new Key(object, null));
+	}
+
+	/**
+	 * Добавляет значение объекта.
+	 *
+	 * @param object Объект.
+	 * @param value Значение объекта.
+	 */
+	public void put(@NotNull final Object object, @NotNull final V value)
+	{
+		Objects.requireNonNull(object);
+		Objects.requireNonNull(value);
+
+		this.expunge();
+		this.entries.put(new Key(object, this.queue), value);
+	}
+
+	/**
+	 * Удаляет значение объекта.
+	 *
+	 * @param object Объект.
+	 */
+	public void remove(@NotNull final Object object)
+	{
+		Objects.requireNonNull(object);
+
+		this.expunge();
+		this.entries.remove(new Key(object, null));
+	}
+
+	/**
+	 * Удаляет все значения.
+	 */
+	public void clear()
+	{
+		this.entries.clear();
+
+		while (this.queue.poll() != null) {
+			// Ссылки очищенной коллекции больше не нужны.
+		}
+	}
+
+	/**
+	 * Возвращает количество значений.
+	 *
+	 * @return Количество значений.
+	 */
+	public int size()
+	{
+		this.expunge();
+
+		return this.entries.size();
+	}
+
+	/**
+	 * Удаляет значения собранных объектов.
+	 */
+	private void expunge()
+	{
+		Reference<?> reference;
+
+		while ((reference = this.queue.poll()) != null) {
+			this.entries.remove(reference);
+		}
+	}
+
+	/**
+	 * Класс слабой ссылки на объект, сравниваемой по ссылке на объект.
+	 */
+	private static final class Key extends WeakReference<Object>
+	{
+		/**
+		 * Хэш-код объекта.
+		 */
+		private final int hash;
+
+		/**
+		 * Конструктор для {@code Key}.
+		 *
+		 * @param object Объект.
+		 * @param queue Очередь ссылок на собранные объекты, или {@code null} для ссылки, используемой при поиске.
+		 */
+		private Key(@NotNull final Object object, @Nullable final ReferenceQueue<@NotNull Object> queue)
+		{
+			super(object, queue);
+
+			this.hash = System.identityHashCode(object);
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(@Nullable final Object object)
+		{
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Object referent = this.get();
+
+			return referent != null && referent == ((Key) object).get();
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode()
+		{
+			return this.hash;
+		}
+	}
+}
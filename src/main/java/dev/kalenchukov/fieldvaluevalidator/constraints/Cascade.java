@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.constraints;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Каскадная проверка объекта, на который ссылается поле.
+ * Если значением поля является массив объектов или коллекция, проверяются её элементы,
+ * если значением поля является {@link java.util.Map}, проверяются её значения.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Cascade
+{
+	/**
+	 * Задаёт группы проверки, в которых проверяется объект.
+	 * Поле без групп относится к группе {@link Default}.
+	 *
+	 * @return Группы проверки.
+	 */
+	@NotNull
+	Class<?> @NotNull [] groups() default {};
+}
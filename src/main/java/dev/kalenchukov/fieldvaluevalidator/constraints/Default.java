@@ -0,0 +1,14 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.constraints;
+
+/**
+ * Группа проверки по умолчанию.
+ * К группе относятся ограничения без групп, она проверяется методом
+ * {@link dev.kalenchukov.fieldvaluevalidator.FieldValueValidating#validate(Object)}.
+ */
+public interface Default {}
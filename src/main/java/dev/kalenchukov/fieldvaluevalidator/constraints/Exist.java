@@ -27,6 +27,33 @@ public @interface Exist
 	@NotNull
 	Class<? extends Existable<?>> existence();
 
+	/**
+	 * Задаёт максимальное время проверки существования в миллисекундах при асинхронной проверке.
+	 * Значение {@code 0} снимает ограничение.
+	 *
+	 * @return Максимальное время проверки существования в миллисекундах.
+	 */
+	long timeout() default 0;
+
+	/**
+	 * Задаёт время жизни результатов проверки существования в кэше в миллисекундах.
+	 * Значение {@code 0} отключает кэширование.
+	 * Кэш общий для всех ограничений с одним классом проверки существования и одинаковыми
+	 * параметрами кэширования.
+	 *
+	 * @return Время жизни результатов проверки существования в кэше в миллисекундах.
+	 */
+	long cacheTtl() default 0;
+
+	/**
+	 * Задаёт максимальное количество результатов проверки существования в кэше.
+	 * Значение должно быть больше {@code 0}, иначе при проверке с кэшированием
+	 * выбрасывается {@link IllegalArgumentException}.
+	 *
+	 * @return Максимальное количество результатов проверки существования в кэше.
+	 */
+	int cacheSize() default 1000;
+
 	/**
 	 * Задаёт сообщение о нарушении.
 	 * Возможные переменные: <ul>
@@ -38,6 +65,15 @@ public @interface Exist
 	@NotNull
 	String message() default "%DEFAULT_MESSAGE%";
 
+	/**
+	 * Задаёт группы проверки, в которых проверяется ограничение.
+	 * Ограничение без групп относится к группе {@link Default}.
+	 *
+	 * @return Группы проверки.
+	 */
+	@NotNull
+	Class<?> @NotNull [] groups() default {};
+
 	/**
 	 * Ограничение множественным {@code Exist}.
 	 */
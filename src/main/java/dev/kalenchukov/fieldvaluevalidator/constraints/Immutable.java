@@ -0,0 +1,23 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.constraints;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Неизменяемый класс.
+ * Значения полей объекта класса и объектов, на которые ссылаются его поля с ограничением {@link Cascade},
+ * не изменяются после создания объекта, поэтому результат проверки объекта может быть запомнен.
+ *
+ * @see dev.kalenchukov.fieldvaluevalidator.FieldValueValidating#setMemoization(Boolean)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Immutable {}
@@ -32,4 +32,13 @@ public @interface Language
 	 */
 	@NotNull
 	String message() default "%DEFAULT_MESSAGE%";
+
+	/**
+	 * Задаёт группы проверки, в которых проверяется ограничение.
+	 * Ограничение без групп относится к группе {@link Default}.
+	 *
+	 * @return Группы проверки.
+	 */
+	@NotNull
+	Class<?> @NotNull [] groups() default {};
 }
@@ -30,4 +30,13 @@ public @interface NoNull
 	 */
 	@NotNull
 	String message() default "%DEFAULT_MESSAGE%";
+
+	/**
+	 * Задаёт группы проверки, в которых проверяется ограничение.
+	 * Ограничение без групп относится к группе {@link Default}.
+	 *
+	 * @return Группы проверки.
+	 */
+	@NotNull
+	Class<?> @NotNull [] groups() default {};
 }
@@ -37,6 +37,15 @@ public @interface Valid
 	@NotNull
 	String message() default "%DEFAULT_MESSAGE%";
 
+	/**
+	 * Задаёт группы проверки, в которых проверяется ограничение.
+	 * Ограничение без групп относится к группе {@link Default}.
+	 *
+	 * @return Группы проверки.
+	 */
+	@NotNull
+	Class<?> @NotNull [] groups() default {};
+
 	/**
 	 * Ограничение множественным {@code Valid}.
 	 */
@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.generation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Класс проверок значений встроенными ограничениями.
+ * Проверки используются проверяющими и сгенерированными проверяющими,
+ * поэтому результаты проверки не зависят от способа проверки.
+ * Каждая проверка возвращает код сообщения о нарушении, или {@code null} если значение корректно.
+ */
+public final class Checks
+{
+	/**
+	 * Конструктор для {@code Checks}.
+	 */
+	private Checks() {}
+
+	/**
+	 * Проверяет значение ограничением {@code NoNull}.
+	 *
+	 * @param value Значение.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String noNull(@Nullable final Object value)
+	{
+		if (value == null) {
+			return "90011";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code NoEmpty}.
+	 *
+	 * @param value Значение.
+	 * @param allowSpace Разрешить пробельные символы.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String noEmpty(@NotNull final String value, final boolean allowSpace)
+	{
+		Objects.requireNonNull(value);
+
+		boolean empty;
+
+		if (allowSpace) {
+			empty = value.isEmpty();
+		} else {
+			empty = value.trim().isEmpty();
+		}
+
+		if (empty) {
+			return "90014";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code Length}.
+	 *
+	 * @param value Значение.
+	 * @param min Минимальное количество символов.
+	 * @param max Максимальное количество символов.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String length(@NotNull final String value, final int min, final int max)
+	{
+		Objects.requireNonNull(value);
+
+		if (value.length() < min) {
+			return "90012";
+		}
+
+		if (value.length() > max) {
+			return "90013";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет количество элементов ограничением {@code Size}.
+	 *
+	 * @param size Количество элементов.
+	 * @param min Минимальное количество элементов.
+	 * @param max Максимальное количество элементов.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String size(final int size, final int min, final int max)
+	{
+		if (size < min) {
+			return "90005";
+		}
+
+		if (size > max) {
+			return "90006";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code Number}.
+	 *
+	 * @param value Значение.
+	 * @param min Минимальное значение.
+	 * @param max Максимальное значение.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String number(final long value, final long min, final long max)
+	{
+		if (value < min) {
+			return "90008";
+		}
+
+		if (value > max) {
+			return "90009";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code NumberFloat}.
+	 *
+	 * @param value Значение.
+	 * @param min Минимальное значение.
+	 * @param max Максимальное значение.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String numberFloat(final double value, final double min, final double max)
+	{
+		if (value < min) {
+			return "90008";
+		}
+
+		if (value > max) {
+			return "90009";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code Pattern}.
+	 *
+	 * @param value Значение.
+	 * @param pattern Скомпилированное регулярное выражение.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String pattern(@NotNull final String value, @NotNull final Pattern pattern)
+	{
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(pattern);
+
+		if (!pattern.matcher(value).matches()) {
+			return "90010";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Проверяет значение ограничением {@code Language}.
+	 * Корректным считается значение формата {@code xx-XX}, например {@code ru-RU}.
+	 *
+	 * @param value Значение.
+	 * @return Код сообщения о нарушении, или {@code null} если значение корректно.
+	 */
+	@Nullable
+	public static String language(@NotNull final String value)
+	{
+		Objects.requireNonNull(value);
+
+		boolean language = value.length() == 5
+			&& Checks.isLowerLatin(value.charAt(0))
+			&& Checks.isLowerLatin(value.charAt(1))
+			&& value.charAt(2) == '-'
+			&& Checks.isUpperLatin(value.charAt(3))
+			&& Checks.isUpperLatin(value.charAt(4));
+
+		if (!language) {
+			return "90015";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Определяет, является ли символ строчной латинской буквой.
+	 *
+	 * @param symbol Символ.
+	 * @return {@code True} если символ строчная латинская буква, иначе {@code false}.
+	 */
+	private static boolean isLowerLatin(final char symbol)
+	{
+		return symbol >= 'a' && symbol <= 'z';
+	}
+
+	/**
+	 * Определяет, является ли символ прописной латинской буквой.
+	 *
+	 * @param symbol Символ.
+	 * @return {@code True} если символ прописная латинская буква, иначе {@code false}.
+	 */
+	private static boolean isUpperLatin(final char symbol)
+	{
+		return symbol >= 'A' && symbol <= 'Z';
+	}
+}
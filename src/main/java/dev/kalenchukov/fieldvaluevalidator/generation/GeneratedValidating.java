@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.generation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Интерфейс для реализации сгенерированного проверяющего значений полей одного класса.
+ * Реализации создаются процессором аннотаций и находятся с помощью {@link java.util.ServiceLoader}.
+ * Если для класса нет сгенерированного проверяющего, поля класса проверяются с помощью рефлексии.
+ *
+ * @param <T> Тип проверяемого класса.
+ */
+public interface GeneratedValidating<T>
+{
+	/**
+	 * Возвращает проверяемый класс.
+	 *
+	 * @return Проверяемый класс.
+	 */
+	@NotNull
+	Class<T> getType();
+
+	/**
+	 * Проверяет поля объекта на корректность.
+	 *
+	 * @param object Объект класса в котором поля необходимо проверить на корректность.
+	 * @param context Контекст проверки, в который добавляются нарушения.
+	 */
+	void validate(@NotNull T object, @NotNull ValidationContext context);
+}
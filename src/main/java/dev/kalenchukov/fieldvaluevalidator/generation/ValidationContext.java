@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.generation;
+
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.Violation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+
+/**
+ * Класс контекста проверки объекта сгенерированным проверяющим.
+ * Контекст создаётся для каждой проверки объекта и используется одним потоком.
+ */
+public final class ValidationContext
+{
+	/**
+	 * Локализованные тексты нарушений.
+	 */
+	@NotNull
+	private final ResourceBundle localeViolations;
+
+	/**
+	 * Настырность проверки.
+	 */
+	private final boolean pushy;
+
+	/**
+	 * Коллекция, в которую добавляются нарушения.
+	 */
+	@NotNull
+	private final List<@NotNull Violating> violations;
+
+	/**
+	 * Конструктор для {@code ValidationContext}.
+	 *
+	 * @param localeViolations Локализованные тексты нарушений.
+	 * @param pushy Настырность проверки.
+	 * @param violations Коллекция, в которую добавляются нарушения.
+	 */
+	public ValidationContext(@NotNull final ResourceBundle localeViolations,
+							 final boolean pushy,
+							 @NotNull final List<@NotNull Violating> violations)
+	{
+		Objects.requireNonNull(localeViolations);
+		Objects.requireNonNull(violations);
+
+		this.localeViolations = localeViolations;
+		this.pushy = pushy;
+		this.violations = violations;
+	}
+
+	/**
+	 * Добавляет нарушение.
+	 *
+	 * @param field Название поля класса.
+	 * @param message Сообщение о нарушении, заданное в ограничении.
+	 * @param messageKey Код локализованного сообщения о нарушении по умолчанию.
+	 * @param params Параметры нарушения.
+	 * <ul>
+	 * 		<li><b>key</b> - название.</li>
+	 * 		<li><b>value</b> - значение.</li>
+	 * </ul>
+	 * @return {@code True} если проверку объекта необходимо прекратить, иначе {@code false}.
+	 */
+	public boolean addViolation(@NotNull final String field,
+								@NotNull final String message,
+								@NotNull final String messageKey,
+								@NotNull final Map<@NotNull String, @NotNull String> params)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(message);
+		Objects.requireNonNull(messageKey);
+		Objects.requireNonNull(params);
+
+		this.violations.add(new Violation(
+			field,
+			message,
+			this.localeViolations.getString(messageKey),
+			params
+		));
+
+		return !this.pushy;
+	}
+
+	/**
+	 * Добавляет нарушение, созданное проверяющим.
+	 *
+	 * @param violation Нарушение.
+	 */
+	public void addViolation(@NotNull final Violating violation)
+	{
+		Objects.requireNonNull(violation);
+
+		this.violations.add(violation);
+	}
+
+	/**
+	 * Определяет, прекращена ли проверка объекта.
+	 * Проверка прекращается после первого нарушения, если проверка не настырная.
+	 *
+	 * @return {@code True} если проверку объекта необходимо прекратить, иначе {@code false}.
+	 */
+	public boolean isStopped()
+	{
+		return !this.pushy && !this.violations.isEmpty();
+	}
+}
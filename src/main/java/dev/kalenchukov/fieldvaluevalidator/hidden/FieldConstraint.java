@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.hidden;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext;
+import dev.kalenchukov.fieldvaluevalidator.validators.PrimitiveValidating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Класс ограничения поля класса для проверяющих, созданных во время выполнения.
+ * Созданный проверяющий читает значение поля напрямую и передаёт его ограничению,
+ * которое проверяет значение тем же проверяющим, что и проверка с помощью рефлексии.
+ * Пакет класса не экспортируется модулем: проверяющий создаётся только для классов,
+ * к которым есть полный доступ, то есть для классов того же модуля или безымянного модуля.
+ */
+public final class FieldConstraint
+{
+	/**
+	 * Поле класса.
+	 */
+	@NotNull
+	private final Field field;
+
+	/**
+	 * Проверяющий.
+	 */
+	@NotNull
+	private final Validating validator;
+
+	/**
+	 * Конструктор для {@code FieldConstraint}.
+	 *
+	 * @param field Поле класса.
+	 * @param validator Проверяющий.
+	 */
+	public FieldConstraint(@NotNull final Field field, @NotNull final Validating validator)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(validator);
+
+		this.field = field;
+		this.validator = validator;
+	}
+
+	/**
+	 * Определяет, проверяются ли значения поля класса примитивного типа без упаковки.
+	 *
+	 * @return {@code True} если значения проверяются без упаковки, иначе {@code false}.
+	 */
+	public boolean isPrimitive()
+	{
+		return this.validator instanceof PrimitiveValidating;
+	}
+
+	/**
+	 * Проверяет значение поля класса.
+	 *
+	 * @param value Значение поля класса.
+	 * @param context Контекст проверки объекта.
+	 */
+	public void check(@Nullable final Object value, @NotNull final ValidationContext context)
+	{
+		if (!context.isStopped()) {
+			this.add(this.validator.valid(this.field, value), context);
+		}
+	}
+
+	/**
+	 * Проверяет значение поля класса целочисленного примитивного типа.
+	 *
+	 * @param value Значение поля класса.
+	 * @param context Контекст проверки объекта.
+	 */
+	public void check(final long value, @NotNull final ValidationContext context)
+	{
+		if (!context.isStopped()) {
+			this.add(((PrimitiveValidating) this.validator).validLong(this.field, value), context);
+		}
+	}
+
+	/**
+	 * Проверяет значение поля класса дробного примитивного типа.
+	 *
+	 * @param value Значение поля класса.
+	 * @param context Контекст проверки объекта.
+	 */
+	public void check(final double value, @NotNull final ValidationContext context)
+	{
+		if (!context.isStopped()) {
+			this.add(((PrimitiveValidating) this.validator).validDouble(this.field, value), context);
+		}
+	}
+
+	/**
+	 * Добавляет нарушение в контекст проверки объекта.
+	 *
+	 * @param violation Нарушение, или {@code null} если значение поля класса корректно.
+	 * @param context Контекст проверки объекта.
+	 */
+	private void add(@Nullable final Violating violation, @NotNull final ValidationContext context)
+	{
+		if (violation != null) {
+			context.addViolation(violation);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.interfaces;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Интерфейс для реализации собственного класса для проверки существования множества значений за одно обращение.
+ * При пакетной проверке объектов значения всех объектов проверяются одним вызовом {@link #existing(Collection)},
+ * при проверке одного объекта используется {@link #exists(Object)}.
+ *
+ * @param <T> Объект типа поля класса.
+ */
+public interface BatchExistable<T> extends Existable<T>
+{
+	/**
+	 * Проверяет существование значений.
+	 *
+	 * @param values Неповторяющиеся значения полей класса.
+	 * @return Существующие значения из {@code values}.
+	 */
+	@NotNull
+	Set<@NotNull T> existing(@NotNull Collection<@NotNull T> values);
+}
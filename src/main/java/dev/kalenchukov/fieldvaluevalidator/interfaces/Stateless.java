@@ -0,0 +1,23 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.interfaces;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Признак собственной реализации проверки без изменяемого состояния.
+ * Экземпляр класса, реализующего {@link Validable} или {@link Existable} и помеченного
+ * данной аннотацией, создаётся один раз и используется для всех проверок,
+ * в том числе из нескольких потоков одновременно.
+ * Экземпляр класса без данной аннотации создаётся для каждой проверки.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Stateless {}
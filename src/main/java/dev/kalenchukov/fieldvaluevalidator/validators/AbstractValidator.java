@@ -6,12 +6,17 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.Violation;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Field;
 import java.util.*;
 
 /**
  * Класс абстрактного проверяющего.
+ * Проверяющий не имеет изменяемого состояния и может использоваться из нескольких потоков одновременно.
  */
 public abstract class AbstractValidator implements Validating
 {
@@ -19,37 +24,25 @@ public abstract class AbstractValidator implements Validating
 	 * Локализация.
 	 */
 	@NotNull
-	protected Locale locale = new Locale("ru", "RU");
+	protected final Locale locale;
 
 	/**
 	 * Локализованные тексты логирования.
 	 */
 	@NotNull
-	protected ResourceBundle localeLogs = ResourceBundle.getBundle("localizations/logs", this.locale);
+	protected final ResourceBundle localeLogs;
 
 	/**
 	 * Локализованные тексты нарушений.
 	 */
 	@NotNull
-	protected ResourceBundle localeViolations = ResourceBundle.getBundle("localizations/violations", this.locale);
+	protected final ResourceBundle localeViolations;
 
 	/**
 	 * Локализованные тексты исключений.
 	 */
 	@NotNull
-	protected ResourceBundle localeExceptions = ResourceBundle.getBundle("localizations/exceptions", this.locale);
-
-	/**
-	 * Сообщение нарушения.
-	 */
-	@NotNull
-	protected String message = "";
-
-	/**
-	 * Параметры нарушения.
-	 */
-	@NotNull
-	protected Map<@NotNull String, @NotNull String> params = new HashMap<>();
+	protected final ResourceBundle localeExceptions;
 
 	/**
 	 * Конструктор для {@code AbstractValidator}.
@@ -60,55 +53,64 @@ public abstract class AbstractValidator implements Validating
 	{
 		Objects.requireNonNull(locale);
 
-		if (!this.locale.equals(locale))
-		{
-			this.locale = locale;
-
-			this.localeLogs = ResourceBundle.getBundle("localizations/logs", this.locale);
-			this.localeViolations = ResourceBundle.getBundle("localizations/violations", this.locale);
-		}
+		this.locale = locale;
+		this.localeLogs = ResourceBundle.getBundle("localizations/logs", this.locale);
+		this.localeViolations = ResourceBundle.getBundle("localizations/violations", this.locale);
+		this.localeExceptions = ResourceBundle.getBundle("localizations/exceptions", this.locale);
 	}
 
 	/**
-	 * @see Validating#getParams()
+	 * Определяет, может ли поле класса объявленного типа содержать значение одного из поддерживаемых типов.
+	 *
+	 * @param type Объявленный тип поля класса.
+	 * @param supported Поддерживаемые типы значений.
+	 * @return {@code True} если значение поддерживаемого типа может быть присвоено полю класса, иначе {@code false}.
 	 */
-	@NotNull
-	@Override
-	public Map<@NotNull String, @NotNull String> getParams()
+	protected static boolean isAssignableFromAny(@NotNull final Class<?> type, @NotNull final Class<?> @NotNull ... supported)
 	{
-		return this.params;
-	}
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(supported);
 
-	/**
-	 * @see Validating#setParam(String, String)
-	 */
-	@Override
-	public void setParam(@NotNull final String key, @NotNull final String value)
-	{
-		Objects.requireNonNull(key);
-		Objects.requireNonNull(value);
+		for (Class<?> supportedType : supported)
+		{
+			if (type.isAssignableFrom(supportedType)) {
+				return true;
+			}
+		}
 
-		this.params.put(key, value);
+		return false;
 	}
 
 	/**
-	 * @see Validating#getMessage()
+	 * Создаёт нарушение.
+	 * Сообщение о нарушении формируется нарушением при первом обращении к нему.
+	 *
+	 * @param field Поле класса.
+	 * @param message Сообщение о нарушении, заданное в ограничении.
+	 * @param messageKey Код локализованного сообщения о нарушении по умолчанию.
+	 * @param params Параметры нарушения.
+	 * <ul>
+	 * 		<li><b>key</b> - название.</li>
+	 * 		<li><b>value</b> - значение.</li>
+	 * </ul>
+	 * @return Нарушение.
 	 */
 	@NotNull
-	@Override
-	public String getMessage()
-	{
-		return this.message;
-	}
-
-	/**
-	 * @see Validating#setMessage(String)
-	 */
-	@Override
-	public void setMessage(@NotNull final String message)
+	protected Violating createViolation(@NotNull final Field field,
+										@NotNull final String message,
+										@NotNull final String messageKey,
+										@NotNull final Map<@NotNull String, @NotNull String> params)
 	{
+		Objects.requireNonNull(field);
 		Objects.requireNonNull(message);
-
-		this.message = message;
+		Objects.requireNonNull(messageKey);
+		Objects.requireNonNull(params);
+
+		return new Violation(
+			field.getName(),
+			message,
+			this.localeViolations.getString(messageKey),
+			params
+		);
 	}
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Интерфейс для реализации проверяющего, проверка которого может блокировать поток,
+ * например обращением к базе данных.
+ */
+public interface AsyncValidating extends Validating
+{
+	/**
+	 * Асинхронно проверяет корректность значения поля класса.
+	 *
+	 * @param field Поле класса.
+	 * @param value Значение поля класса.
+	 * @param executor Исполнитель блокирующих проверок.
+	 * @return Результат проверки: нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@NotNull
+	CompletableFuture<@Nullable Violating> validAsync(@NotNull Field field,
+													  @Nullable Object value,
+													  @NotNull Executor executor);
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.DoubleFunction;
+import java.util.function.LongFunction;
+
+/**
+ * Класс проверяющего значений одного поля класса примитивного типа.
+ * Создаётся проверяющим ограничения при привязке к полю класса, чтобы ограничение
+ * не запрашивалось у поля класса при каждой проверке.
+ * Проверяется либо целочисленное, либо дробное значение, в зависимости от переданной проверки.
+ */
+final class BoundPrimitiveValidator implements PrimitiveValidating
+{
+	/**
+	 * Проверка целочисленного значения поля класса, или {@code null} если такие значения не проверяются.
+	 * Возвращает код сообщения о нарушении, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private final LongFunction<@Nullable String> longCheck;
+
+	/**
+	 * Проверка дробного значения поля класса, или {@code null} если такие значения не проверяются.
+	 * Возвращает код сообщения о нарушении, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private final DoubleFunction<@Nullable String> doubleCheck;
+
+	/**
+	 * Создание нарушения по коду сообщения о нарушении.
+	 */
+	@NotNull
+	private final BiFunction<@NotNull Field, @NotNull String, @NotNull Violating> violation;
+
+	/**
+	 * Конструктор для {@code BoundPrimitiveValidator}.
+	 *
+	 * @param longCheck Проверка целочисленного значения поля класса, или {@code null} если такие значения не проверяются.
+	 * @param doubleCheck Проверка дробного значения поля класса, или {@code null} если такие значения не проверяются.
+	 * @param violation Создание нарушения по коду сообщения о нарушении.
+	 */
+	BoundPrimitiveValidator(@Nullable final LongFunction<@Nullable String> longCheck,
+							@Nullable final DoubleFunction<@Nullable String> doubleCheck,
+							@NotNull final BiFunction<@NotNull Field, @NotNull String, @NotNull Violating> violation)
+	{
+		Objects.requireNonNull(violation);
+
+		if ((longCheck == null) == (doubleCheck == null)) {
+			throw new IllegalArgumentException();
+		}
+
+		this.longCheck = longCheck;
+		this.doubleCheck = doubleCheck;
+		this.violation = violation;
+	}
+
+	/**
+	 * @see Validating#valid(Field, Object)
+	 */
+	@Nullable
+	@Override
+	public Violating valid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		if (value == null) {
+			return null;
+		}
+
+		return this.createViolation(field, this.check((Number) value));
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		return value == null || this.check((Number) value) == null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#validLong(Field, long)
+	 * @throws UnsupportedOperationException Если целочисленные значения не проверяются.
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.createViolation(field, this.getLongCheck().apply(value));
+	}
+
+	/**
+	 * @see PrimitiveValidating#isValidLong(Field, long)
+	 * @throws UnsupportedOperationException Если целочисленные значения не проверяются.
+	 */
+	@Override
+	public boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		return this.getLongCheck().apply(value) == null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#validDouble(Field, double)
+	 * @throws UnsupportedOperationException Если дробные значения не проверяются.
+	 */
+	@Nullable
+	@Override
+	public Violating validDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.createViolation(field, this.getDoubleCheck().apply(value));
+	}
+
+	/**
+	 * @see PrimitiveValidating#isValidDouble(Field, double)
+	 * @throws UnsupportedOperationException Если дробные значения не проверяются.
+	 */
+	@Override
+	public boolean isValidDouble(@NotNull final Field field, final double value)
+	{
+		return this.getDoubleCheck().apply(value) == null;
+	}
+
+	/**
+	 * Проверяет упакованное значение поля класса.
+	 *
+	 * @param value Значение поля класса.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private String check(@NotNull final Number value)
+	{
+		if (this.longCheck != null) {
+			return this.longCheck.apply(value.longValue());
+		}
+
+		return this.getDoubleCheck().apply(value.doubleValue());
+	}
+
+	/**
+	 * Создаёт нарушение по коду сообщения о нарушении.
+	 *
+	 * @param field Поле класса.
+	 * @param messageKey Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private Violating createViolation(@NotNull final Field field, @Nullable final String messageKey)
+	{
+		if (messageKey != null) {
+			return this.violation.apply(field, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Возвращает проверку целочисленного значения поля класса.
+	 *
+	 * @return Проверка целочисленного значения поля класса.
+	 * @throws UnsupportedOperationException Если целочисленные значения не проверяются.
+	 */
+	@NotNull
+	private LongFunction<@Nullable String> getLongCheck()
+	{
+		if (this.longCheck == null) {
+			throw new UnsupportedOperationException();
+		}
+
+		return this.longCheck;
+	}
+
+	/**
+	 * Возвращает проверку дробного значения поля класса.
+	 *
+	 * @return Проверка дробного значения поля класса.
+	 * @throws UnsupportedOperationException Если дробные значения не проверяются.
+	 */
+	@NotNull
+	private DoubleFunction<@Nullable String> getDoubleCheck()
+	{
+		if (this.doubleCheck == null) {
+			throw new UnsupportedOperationException();
+		}
+
+		return this.doubleCheck;
+	}
+}
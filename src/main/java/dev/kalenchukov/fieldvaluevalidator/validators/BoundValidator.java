@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Класс проверяющего значений одного поля класса.
+ * Создаётся проверяющим ограничения при привязке к полю класса, когда способ проверки
+ * уже выбран по объявленному типу поля. Значение {@code null} считается корректным.
+ */
+final class BoundValidator implements Validating
+{
+	/**
+	 * Проверка значения поля класса.
+	 * Возвращает код сообщения о нарушении, или {@code null} если значение поля класса корректно.
+	 */
+	@NotNull
+	private final Function<@NotNull Object, @Nullable String> check;
+
+	/**
+	 * Создание нарушения по коду сообщения о нарушении.
+	 */
+	@NotNull
+	private final BiFunction<@NotNull Field, @NotNull String, @NotNull Violating> violation;
+
+	/**
+	 * Конструктор для {@code BoundValidator}.
+	 *
+	 * @param check Проверка значения поля класса.
+	 * @param violation Создание нарушения по коду сообщения о нарушении.
+	 */
+	BoundValidator(@NotNull final Function<@NotNull Object, @Nullable String> check,
+				   @NotNull final BiFunction<@NotNull Field, @NotNull String, @NotNull Violating> violation)
+	{
+		Objects.requireNonNull(check);
+		Objects.requireNonNull(violation);
+
+		this.check = check;
+		this.violation = violation;
+	}
+
+	/**
+	 * @see Validating#valid(Field, Object)
+	 */
+	@Nullable
+	@Override
+	public Violating valid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		if (value == null) {
+			return null;
+		}
+
+		String messageKey = this.check.apply(value);
+
+		if (messageKey != null) {
+			return this.violation.apply(field, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		return value == null || this.check.apply(value) == null;
+	}
+}
@@ -6,30 +6,98 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.ExistenceCacheStatistics;
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Exist;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.InvalidExistenceClassException;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.fieldvaluevalidator.interfaces.BatchExistable;
 import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.util.Locale;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Класс проверяющего для ограничения {@link Exist}.
+ * При асинхронной проверке каждое ограничение поля проверяется отдельной задачей.
  */
-public final class ExistValidator extends AbstractValidator
+public final class ExistValidator extends AbstractValidator implements AsyncValidating, RepeatableValidating
 {
+	/**
+	 * Кэш собственных реализаций проверки.
+	 */
+	@NotNull
+	private static final ImplementationCache<Existable<?>> IMPLEMENTATIONS = new ImplementationCache<>("exists");
+
+	/**
+	 * Кэши результатов проверки существования.
+	 * <ul>
+	 * 		<li><b>key</b> - класс проверки существования и параметры кэширования ограничения.</li>
+	 * 		<li><b>value</b> - кэш результатов проверки существования.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull CacheKey, @NotNull ExistenceCache> caches;
+
+	/**
+	 * Проверяемые ограничения поля класса, или {@code null} если проверяются все ограничения поля класса.
+	 */
+	@Nullable
+	private final Exist @Nullable [] constraints;
+
 	/**
 	 * @see AbstractValidator#AbstractValidator(Locale)
 	 */
-	public ExistValidator(@NotNull final Locale locale) {super(locale);}
+	public ExistValidator(@NotNull final Locale locale)
+	{
+		super(locale);
+
+		this.caches = new ConcurrentHashMap<>();
+		this.constraints = null;
+	}
+
+	/**
+	 * Конструктор для {@code ExistValidator}, привязанного к ограничениям поля класса.
+	 * Привязанный проверяющий использует кэши результатов проверки существования проверяющего {@code validator}.
+	 *
+	 * @param validator Проверяющий.
+	 * @param constraints Проверяемые ограничения поля класса.
+	 */
+	private ExistValidator(@NotNull final ExistValidator validator, @NotNull final Exist @NotNull [] constraints)
+	{
+		super(validator.locale);
+
+		this.caches = validator.caches;
+		this.constraints = constraints;
+	}
+
+	/**
+	 * @see RepeatableValidating#bind(Field, Annotation[])
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field, @NotNull final Annotation @NotNull [] constraints)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraints);
+
+		Exist[] selected = new Exist[constraints.length];
+
+		for (int i = 0; i < constraints.length; i++) {
+			selected[i] = (Exist) constraints[i];
+		}
+
+		return new ExistValidator(this, selected);
+	}
 
 	/**
 	 * @see Validating#valid(Field, Object)
@@ -38,20 +106,212 @@ public final class ExistValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
-		Exist[] constraints = field.getDeclaredAnnotationsByType(Exist.class);
+		Objects.requireNonNull(field);
+
+		for (Exist constraint : this.getConstraints(field))
+		{
+			Violating violation = this.valid(field, constraint, value);
+
+			if (violation != null) {
+				return violation;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Задачи, превысившие время проверки {@link Exist#timeout()}, завершают результат
+	 * исключением {@link java.util.concurrent.TimeoutException}, но не прерываются.
+	 *
+	 * @see AsyncValidating#validAsync(Field, Object, Executor)
+	 */
+	@NotNull
+	@Override
+	public CompletableFuture<@Nullable Violating> validAsync(@NotNull final Field field,
+															 @Nullable final Object value,
+															 @NotNull final Executor executor)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(executor);
+
+		if (value == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		Exist[] constraints = this.getConstraints(field);
+		List<CompletableFuture<Violating>> results = new ArrayList<>(constraints.length);
 
 		for (Exist constraint : constraints)
 		{
-			boolean valid = this.isValid(field, constraint, value);
+			CompletableFuture<Violating> result = CompletableFuture.supplyAsync(
+				() -> this.valid(field, constraint, value),
+				executor
+			);
+
+			if (constraint.timeout() > 0) {
+				result = result.orTimeout(constraint.timeout(), TimeUnit.MILLISECONDS);
+			}
+
+			results.add(result);
+		}
+
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply((ignored) -> {
+			for (CompletableFuture<Violating> result : results)
+			{
+				Violating violation = result.join();
+
+				if (violation != null) {
+					return violation;
+				}
+			}
+
+			return null;
+		});
+	}
+
+	/**
+	 * Определяет, проверяется ли существование значения поля класса пакетом.
+	 *
+	 * @param field Поле класса.
+	 * @return {@code True} если хотя бы один класс проверки существования поля реализует {@link BatchExistable},
+	 * иначе {@code false}.
+	 */
+	public boolean isBatch(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		for (Exist constraint : this.getConstraints(field))
+		{
+			if (BatchExistable.class.isAssignableFrom(constraint.existence())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Создаёт пустой пакет значений для проверки существования.
+	 *
+	 * @return Пакет значений.
+	 */
+	@NotNull
+	public static ExistenceBatch createBatch()
+	{
+		return new ExistenceBatch();
+	}
+
+	/**
+	 * Добавляет значение поля класса в пакет для проверки существования.
+	 * Добавляются только значения для классов проверки существования, реализующих {@link BatchExistable}.
+	 *
+	 * @param field Поле класса.
+	 * @param value Значение поля класса.
+	 * @param batch Пакет значений.
+	 */
+	public void collect(@NotNull final Field field, @Nullable final Object value, @NotNull final ExistenceBatch batch)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(batch);
+
+		if (value == null) {
+			return;
+		}
+
+		for (Exist constraint : this.getConstraints(field))
+		{
+			if (BatchExistable.class.isAssignableFrom(constraint.existence())) {
+				batch.add(constraint.existence(), field.getType(), value);
+			}
+		}
+	}
+
+	/**
+	 * Проверяет существование значений пакета.
+	 * Для каждого класса проверки существования выполняется одно обращение.
+	 *
+	 * @param batch Пакет значений.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается классом проверки существования.
+	 * @throws InvalidExistenceClassException Если класс проверки существования некорректный.
+	 */
+	public void lookup(@NotNull final ExistenceBatch batch)
+	{
+		Objects.requireNonNull(batch);
+
+		for (Map.Entry<Class<?>, ExistenceBatch.Group> entry : batch.getGroups().entrySet())
+		{
+			Class<?> existence = entry.getKey();
+			ExistenceBatch.Group group = entry.getValue();
+
+			if (group.existing != null) {
+				continue;
+			}
+
+			BatchExistable<Object> implementation = this.cast(
+				(BatchExistable<?>) this.resolve(this.castType(existence), group.fieldType)
+			);
+
+			Set<?> existing;
+
+			try
+			{
+				existing = implementation.existing(Collections.unmodifiableSet(group.values));
+			}
+			catch (RuntimeException exception)
+			{
+				throw new InvalidExistenceClassException(String.format(
+					this.localeExceptions.getString("20002"),
+					existence.getName()
+				));
+			}
+
+			if (existing == null)
+			{
+				throw new InvalidExistenceClassException(String.format(
+					this.localeExceptions.getString("20002"),
+					existence.getName()
+				));
+			}
+
+			group.existing = existing;
+		}
+	}
+
+	/**
+	 * Проверяет корректность значения поля класса с использованием результатов проверки пакета.
+	 * Ограничения, классы проверки которых не проверялись пакетом, проверяются по одному значению.
+	 *
+	 * @param field Поле класса.
+	 * @param value Значение поля класса.
+	 * @param batch Пакет значений с результатами проверки существования.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	public Violating valid(@NotNull final Field field, @Nullable final Object value, @NotNull final ExistenceBatch batch)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(batch);
+
+		for (Exist constraint : this.getConstraints(field))
+		{
+			Set<?> existing = batch.getExisting(constraint.existence());
 
-			if (!valid)
+			if (existing == null || value == null)
 			{
-				this.setParam("FIELD", field.getName());
+				Violating violation = this.valid(field, constraint, value);
 
-				return new Violation(
-					field.getName(),
-					this.getMessage(),
-					this.getParams()
+				if (violation != null) {
+					return violation;
+				}
+			}
+			else if (!existing.contains(value))
+			{
+				return this.createViolation(
+					field,
+					constraint.message(),
+					"90004",
+					Map.of("FIELD", field.getName())
 				);
 			}
 		}
@@ -59,46 +319,206 @@ public final class ExistValidator extends AbstractValidator
 		return null;
 	}
 
+	/**
+	 * Проверяет корректность значения поля класса одним ограничением.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param value Значение поля класса.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 */
+	@Nullable
+	private Violating valid(@NotNull final Field field, @NotNull final Exist constraint, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraint);
+
+		String messageKey = this.check(field, constraint, value);
+
+		if (messageKey == null) {
+			return null;
+		}
+
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of("FIELD", field.getName())
+		);
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 * @throws InvalidExistenceClassException Если класс проверки существования некорректный.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final Exist constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final Exist constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		Class<? extends Existable<?>> existence = constraint.existence();
+		ExistenceCache cache = this.getCache(constraint);
+		Boolean exists = null;
 
-		try
+		if (cache != null) {
+			exists = cache.get(value);
+		}
+
+		if (exists == null)
 		{
-			Method method = existence.getMethod("exists", field.getType());
+			Existable<Object> implementation = this.cast(this.resolve(existence, field.getType()));
+
+			try
+			{
+				exists = implementation.exists(value);
+			}
+			catch (RuntimeException exception)
+			{
+				throw new InvalidExistenceClassException(String.format(
+					this.localeExceptions.getString("20002"),
+					existence.getName()
+				));
+			}
+
+			if (cache != null) {
+				cache.put(value, exists);
+			}
+		}
+
+		if (!exists) {
+			return "90004";
+		}
 
-			boolean exists = (boolean) method.invoke(
-				existence.getConstructor().newInstance(),
-				value
+		return null;
+	}
+
+	/**
+	 * Возвращает проверяемые ограничения поля класса.
+	 *
+	 * @param field Поле класса.
+	 * @return Проверяемые ограничения поля класса.
+	 */
+	@NotNull
+	private Exist @NotNull [] getConstraints(@NotNull final Field field)
+	{
+		if (this.constraints != null) {
+			return this.constraints;
+		}
+
+		return field.getDeclaredAnnotationsByType(Exist.class);
+	}
+
+	/**
+	 * Возвращает статистику использования кэшей результатов проверки существования.
+	 * Статистика кэшей ограничений с разными параметрами кэширования суммируется.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @return Статистику использования кэшей, или {@code null} если кэш для класса проверки не создавался.
+	 */
+	@Nullable
+	public ExistenceCacheStatistics getCacheStatistics(@NotNull final Class<? extends Existable<?>> existence)
+	{
+		Objects.requireNonNull(existence);
+
+		ExistenceCacheStatistics statistics = null;
+
+		for (Map.Entry<CacheKey, ExistenceCache> entry : this.caches.entrySet())
+		{
+			if (entry.getKey().existence != existence) {
+				continue;
+			}
+
+			ExistenceCacheStatistics cacheStatistics = entry.getValue().getStatistics();
+
+			if (statistics == null)
+			{
+				statistics = cacheStatistics;
+
+				continue;
+			}
+
+			statistics = new ExistenceCacheStatistics(
+				statistics.getHits() + cacheStatistics.getHits(),
+				statistics.getMisses() + cacheStatistics.getMisses(),
+				statistics.getEvictions() + cacheStatistics.getEvictions(),
+				statistics.getSize() + cacheStatistics.getSize()
 			);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Возвращает кэш результатов проверки существования для ограничения.
+	 * Ограничения с одним классом проверки существования и одинаковыми параметрами кэширования
+	 * используют общий кэш.
+	 *
+	 * @param constraint Проверяемое ограничение.
+	 * @return Кэш результатов проверки существования, или {@code null} если кэширование не задано.
+	 * @throws IllegalArgumentException Если максимальное количество результатов в кэше меньше 1.
+	 */
+	@Nullable
+	private ExistenceCache getCache(@NotNull final Exist constraint)
+	{
+		Objects.requireNonNull(constraint);
 
-			if (!exists)
+		if (constraint.cacheTtl() <= 0) {
+			return null;
+		}
+
+		CacheKey key = new CacheKey(constraint.existence(), constraint.cacheTtl(), constraint.cacheSize());
+		ExistenceCache cache = this.caches.get(key);
+
+		if (cache == null)
+		{
+			if (constraint.cacheSize() < 1)
 			{
-				this.setMessage(StringFormat.format(
-					constraint.message(),
-					"DEFAULT_MESSAGE",
-					this.localeViolations.getString("90004")
+				throw new IllegalArgumentException(String.format(
+					this.localeExceptions.getString("20006"),
+					"cacheSize",
+					constraint.existence().getName()
 				));
-
-				return false;
 			}
+
+			cache = this.caches.computeIfAbsent(
+				key,
+				(cacheKey) -> new ExistenceCache(cacheKey.ttl, cacheKey.size)
+			);
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Возвращает экземпляр собственной реализации проверки.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @param fieldType Тип поля класса.
+	 * @return Экземпляр собственной реализации проверки.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 * @throws InvalidExistenceClassException Если класс проверки существования некорректный.
+	 */
+	@NotNull
+	private Existable<?> resolve(@NotNull final Class<? extends Existable<?>> existence,
+								 @NotNull final Class<?> fieldType)
+	{
+		Objects.requireNonNull(existence);
+		Objects.requireNonNull(fieldType);
+
+		try
+		{
+			return IMPLEMENTATIONS.get(existence, fieldType).getInstance();
 		}
 		catch (NoSuchMethodException exception)
 		{
@@ -107,14 +527,120 @@ public final class ExistValidator extends AbstractValidator
 				existence.getName()
 			));
 		}
-		catch (Exception exception)
+		catch (ReflectiveOperationException | RuntimeException exception)
 		{
 			throw new InvalidExistenceClassException(String.format(
 				this.localeExceptions.getString("20002"),
 				existence.getName()
 			));
 		}
+	}
+
+	/**
+	 * Приводит класс проверки существования к типу класса собственной реализации проверки.
+	 * Класс проверки существования берётся из ограничения {@link Exist#existence()}.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @return Класс проверки существования.
+	 */
+	@SuppressWarnings("unchecked")
+	@NotNull
+	private Class<? extends Existable<?>> castType(@NotNull final Class<?> existence)
+	{
+		return (Class<? extends Existable<?>>) existence;
+	}
 
-		return true;
+	/**
+	 * Приводит экземпляр собственной реализации пакетной проверки к типу значения поля класса.
+	 * Поддержка типа поля класса проверяется при разрешении реализации.
+	 *
+	 * @param implementation Экземпляр собственной реализации пакетной проверки.
+	 * @return Экземпляр собственной реализации пакетной проверки.
+	 */
+	@SuppressWarnings("unchecked")
+	@NotNull
+	private BatchExistable<Object> cast(@NotNull final BatchExistable<?> implementation)
+	{
+		return (BatchExistable<Object>) implementation;
+	}
+
+	/**
+	 * Приводит экземпляр собственной реализации проверки к типу значения поля класса.
+	 * Поддержка типа поля класса проверяется при разрешении реализации.
+	 *
+	 * @param implementation Экземпляр собственной реализации проверки.
+	 * @return Экземпляр собственной реализации проверки.
+	 */
+	@SuppressWarnings("unchecked")
+	@NotNull
+	private Existable<Object> cast(@NotNull final Existable<?> implementation)
+	{
+		return (Existable<Object>) implementation;
+	}
+
+	/**
+	 * Класс ключа кэша результатов проверки существования.
+	 */
+	private static final class CacheKey
+	{
+		/**
+		 * Класс проверки существования.
+		 */
+		@NotNull
+		private final Class<?> existence;
+
+		/**
+		 * Время жизни результатов в кэше в миллисекундах.
+		 */
+		private final long ttl;
+
+		/**
+		 * Максимальное количество результатов в кэше.
+		 */
+		private final int size;
+
+		/**
+		 * Конструктор для {@code CacheKey}.
+		 *
+		 * @param existence Класс проверки существования.
+		 * @param ttl Время жизни результатов в кэше в миллисекундах.
+		 * @param size Максимальное количество результатов в кэше.
+		 */
+		private CacheKey(@NotNull final Class<?> existence, final long ttl, final int size)
+		{
+			Objects.requireNonNull(existence);
+
+			this.existence = existence;
+			this.ttl = ttl;
+			this.size = size;
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(@Nullable final Object object)
+		{
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey key = (CacheKey) object;
+
+			return this.existence == key.existence && this.ttl == key.ttl && this.size == key.size;
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(this.existence, this.ttl, this.size);
+		}
 	}
 }
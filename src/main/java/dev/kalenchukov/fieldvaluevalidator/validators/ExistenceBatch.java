@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.BatchExistable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Класс пакета значений для проверки существования за одно обращение.
+ * Значения группируются по классу проверки существования, реализующему {@link BatchExistable}.
+ * Пакет заполняется и используется одним потоком.
+ */
+public final class ExistenceBatch
+{
+	/**
+	 * Группы значений.
+	 * <ul>
+	 * 		<li><b>key</b> - класс проверки существования.</li>
+	 * 		<li><b>value</b> - группа значений.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private final Map<@NotNull Class<?>, @NotNull Group> groups = new LinkedHashMap<>();
+
+	/**
+	 * Конструктор для {@code ExistenceBatch}.
+	 * Пакет создаётся методом {@link ExistValidator#createBatch()}.
+	 */
+	ExistenceBatch() {}
+
+	/**
+	 * Добавляет значение в группу класса проверки существования.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @param fieldType Тип поля класса.
+	 * @param value Значение поля класса.
+	 */
+	void add(@NotNull final Class<?> existence, @NotNull final Class<?> fieldType, @NotNull final Object value)
+	{
+		Objects.requireNonNull(existence);
+		Objects.requireNonNull(fieldType);
+		Objects.requireNonNull(value);
+
+		this.groups.computeIfAbsent(existence, (key) -> new Group(fieldType)).values.add(value);
+	}
+
+	/**
+	 * Возвращает группы значений.
+	 *
+	 * @return Группы значений.
+	 */
+	@NotNull
+	Map<@NotNull Class<?>, @NotNull Group> getGroups()
+	{
+		return this.groups;
+	}
+
+	/**
+	 * Возвращает существующие значения для класса проверки существования.
+	 *
+	 * @param existence Класс проверки существования.
+	 * @return Существующие значения, или {@code null} если значения для класса проверки не проверялись пакетом.
+	 */
+	@Nullable
+	Set<?> getExisting(@NotNull final Class<?> existence)
+	{
+		Objects.requireNonNull(existence);
+
+		Group group = this.groups.get(existence);
+
+		if (group == null) {
+			return null;
+		}
+
+		return group.existing;
+	}
+
+	/**
+	 * Класс группы значений одного класса проверки существования.
+	 */
+	static final class Group
+	{
+		/**
+		 * Тип поля класса, по которому разрешается реализация проверки.
+		 */
+		@NotNull
+		final Class<?> fieldType;
+
+		/**
+		 * Неповторяющиеся значения.
+		 */
+		@NotNull
+		final Set<@NotNull Object> values = new HashSet<>();
+
+		/**
+		 * Существующие значения.
+		 */
+		@Nullable
+		Set<?> existing;
+
+		/**
+		 * Конструктор для {@code Group}.
+		 *
+		 * @param fieldType Тип поля класса.
+		 */
+		private Group(@NotNull final Class<?> fieldType)
+		{
+			Objects.requireNonNull(fieldType);
+
+			this.fieldType = fieldType;
+		}
+	}
+}
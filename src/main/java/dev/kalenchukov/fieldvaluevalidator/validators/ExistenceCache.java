@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.ExistenceCacheStatistics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс ограниченного по времени и размеру кэша результатов проверки существования.
+ * Кэшируются как существующие, так и несуществующие значения.
+ * Значения распределяются по сегментам, каждый из которых защищён своей блокировкой
+ * и при превышении размера вытесняет давно не использованное значение.
+ */
+final class ExistenceCache
+{
+	/**
+	 * Максимальное количество сегментов.
+	 */
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * Минимальное количество значений в сегменте, при котором кэш делится на сегменты.
+	 */
+	private static final int MIN_SEGMENT_SIZE = 64;
+
+	/**
+	 * Время жизни результата проверки в наносекундах.
+	 */
+	private final long ttlNanos;
+
+	/**
+	 * Сегменты результатов проверки существования.
+	 * Количество сегментов является степенью двойки.
+	 */
+	@NotNull
+	private final Segment @NotNull [] segments;
+
+	/**
+	 * Количество попаданий.
+	 */
+	@NotNull
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Количество промахов.
+	 */
+	@NotNull
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Количество вытесненных значений.
+	 */
+	@NotNull
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Конструктор для {@code ExistenceCache}.
+	 *
+	 * @param ttl Время жизни результата проверки в миллисекундах.
+	 * @param maxSize Максимальное количество значений в кэше.
+	 * @throws IllegalArgumentException Если время жизни или максимальное количество меньше 1.
+	 */
+	ExistenceCache(final long ttl, final int maxSize)
+	{
+		if (ttl < 1 || maxSize < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+
+		int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE)));
+
+		this.segments = new Segment[count];
+
+		for (int i = 0; i < count; i++) {
+			this.segments[i] = new Segment(maxSize / count + (i < maxSize % count ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Возвращает результат проверки существования значения.
+	 *
+	 * @param value Значение поля класса.
+	 * @return Результат проверки существования, или {@code null} если результата нет в кэше или он устарел.
+	 */
+	@Nullable
+	public Boolean get(@NotNull final Object value)
+	{
+		Objects.requireNonNull(value);
+
+		Segment segment = this.getSegment(value);
+		long now = System.nanoTime();
+
+		synchronized (segment)
+		{
+			Entry entry = segment.entries.get(value);
+
+			if (entry != null)
+			{
+				if (now - entry.expiresAt < 0)
+				{
+					this.hits.increment();
+
+					return entry.exists;
+				}
+
+				segment.entries.remove(value);
+			}
+		}
+
+		this.misses.increment();
+
+		return null;
+	}
+
+	/**
+	 * Добавляет результат проверки существования значения.
+	 *
+	 * @param value Значение поля класса.
+	 * @param exists Результат проверки существования.
+	 */
+	public void put(@NotNull final Object value, final boolean exists)
+	{
+		Objects.requireNonNull(value);
+
+		Segment segment = this.getSegment(value);
+		long now = System.nanoTime();
+
+		synchronized (segment)
+		{
+			segment.entries.put(value, new Entry(exists, now + this.ttlNanos));
+			this.evict(segment, now);
+		}
+	}
+
+	/**
+	 * Возвращает количество значений в кэше.
+	 *
+	 * @return Количество значений.
+	 */
+	public int size()
+	{
+		int size = 0;
+
+		for (Segment segment : this.segments)
+		{
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Возвращает статистику использования кэша.
+	 *
+	 * @return Статистику использования кэша.
+	 */
+	@NotNull
+	public ExistenceCacheStatistics getStatistics()
+	{
+		return new ExistenceCacheStatistics(
+			this.hits.sum(),
+			this.misses.sum(),
+			this.evictions.sum(),
+			this.size()
+		);
+	}
+
+	/**
+	 * Возвращает сегмент значения.
+	 *
+	 * @param value Значение поля класса.
+	 * @return Сегмент значения.
+	 */
+	@NotNull
+	private Segment getSegment(@NotNull final Object value)
+	{
+		int hash = value.hashCode() * 0x9E3779B9;
+
+		return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+	}
+
+	/**
+	 * Вытесняет из сегмента давно не использованные значения.
+	 * Устаревшие значения в начале порядка использования удаляются, даже если размер сегмента не превышен.
+	 * Вызывается под блокировкой сегмента.
+	 *
+	 * @param segment Сегмент.
+	 * @param now Текущее время в наносекундах.
+	 */
+	private void evict(@NotNull final Segment segment, final long now)
+	{
+		Iterator<Entry> iterator = segment.entries.values().iterator();
+
+		while (iterator.hasNext())
+		{
+			Entry eldest = iterator.next();
+
+			if (segment.entries.size() <= segment.maxSize && now - eldest.expiresAt < 0) {
+				break;
+			}
+
+			iterator.remove();
+			this.evictions.increment();
+		}
+	}
+
+	/**
+	 * Класс результата проверки существования в кэше.
+	 */
+	private static final class Entry
+	{
+		/**
+		 * Результат проверки существования.
+		 */
+		private final boolean exists;
+
+		/**
+		 * Время устаревания результата в наносекундах.
+		 */
+		private final long expiresAt;
+
+		/**
+		 * Конструктор для {@code Entry}.
+		 *
+		 * @param exists Результат проверки существования.
+		 * @param expiresAt Время устаревания результата в наносекундах.
+		 */
+		private Entry(final boolean exists, final long expiresAt)
+		{
+			this.exists = exists;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Класс сегмента кэша.
+	 * Значения сегмента хранятся в порядке использования: первым идёт давно не использованное значение.
+	 */
+	private static final class Segment
+	{
+		/**
+		 * Результаты проверки существования в порядке использования.
+		 * <ul>
+		 * 		<li><b>key</b> - значение поля класса.</li>
+		 * 		<li><b>value</b> - результат проверки существования.</li>
+		 * </ul>
+		 */
+		@NotNull
+		private final Map<@NotNull Object, @NotNull Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		/**
+		 * Максимальное количество значений в сегменте.
+		 */
+		private final int maxSize;
+
+		/**
+		 * Конструктор для {@code Segment}.
+		 *
+		 * @param maxSize Максимальное количество значений в сегменте.
+		 */
+		private Segment(final int maxSize)
+		{
+			this.maxSize = maxSize;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Stateless;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс кэша собственных реализаций проверки.
+ * Реализация разрешается один раз для пары из класса реализации и типа поля класса.
+ *
+ * @param <T> Тип интерфейса собственной реализации проверки.
+ */
+final class ImplementationCache<T>
+{
+	/**
+	 * Название метода проверки в интерфейсе собственной реализации.
+	 */
+	@NotNull
+	private final String methodName;
+
+	/**
+	 * Разрешённые реализации.
+	 * Для каждого класса реализации хранятся реализации по типу поля класса.
+	 */
+	@NotNull
+	private final ClassValue<@NotNull ConcurrentMap<@NotNull Class<?>, @NotNull Implementation<T>>> implementations =
+		new ClassValue<>()
+		{
+			@NotNull
+			@Override
+			protected ConcurrentMap<@NotNull Class<?>, @NotNull Implementation<T>> computeValue(@NotNull final Class<?> type)
+			{
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+	/**
+	 * Конструктор для {@code ImplementationCache}.
+	 *
+	 * @param methodName Название метода проверки в интерфейсе собственной реализации.
+	 */
+	ImplementationCache(@NotNull final String methodName)
+	{
+		Objects.requireNonNull(methodName);
+
+		this.methodName = methodName;
+	}
+
+	/**
+	 * Возвращает реализацию.
+	 *
+	 * @param type Класс собственной реализации проверки.
+	 * @param fieldType Тип поля класса.
+	 * @return Реализацию.
+	 * @throws NoSuchMethodException Если класс реализации не поддерживает тип поля класса.
+	 * @throws ReflectiveOperationException Если экземпляр класса реализации невозможно создать.
+	 */
+	@NotNull
+	public Implementation<T> get(@NotNull final Class<? extends T> type, @NotNull final Class<?> fieldType)
+		throws ReflectiveOperationException
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(fieldType);
+
+		ConcurrentMap<Class<?>, Implementation<T>> implementations = this.implementations.get(type);
+		Implementation<T> implementation = implementations.get(fieldType);
+
+		if (implementation == null)
+		{
+			type.getMethod(this.methodName, fieldType);
+
+			implementation = new Implementation<>(type);
+
+			Implementation<T> existing = implementations.putIfAbsent(fieldType, implementation);
+
+			if (existing != null) {
+				implementation = existing;
+			}
+		}
+
+		return implementation;
+	}
+
+	/**
+	 * Класс разрешённой собственной реализации проверки.
+	 *
+	 * @param <T> Тип интерфейса собственной реализации проверки.
+	 */
+	static final class Implementation<T>
+	{
+		/**
+		 * Конструктор класса реализации.
+		 */
+		@NotNull
+		private final Constructor<? extends T> constructor;
+
+		/**
+		 * Общий экземпляр реализации, помеченной {@link Stateless}.
+		 */
+		@Nullable
+		private final T instance;
+
+		/**
+		 * Конструктор для {@code Implementation}.
+		 *
+		 * @param type Класс собственной реализации проверки.
+		 * @throws ReflectiveOperationException Если экземпляр класса реализации невозможно создать.
+		 */
+		private Implementation(@NotNull final Class<? extends T> type) throws ReflectiveOperationException
+		{
+			Objects.requireNonNull(type);
+
+			try
+			{
+				this.constructor = type.getConstructor();
+			}
+			catch (NoSuchMethodException exception)
+			{
+				throw new InstantiationException(type.getName());
+			}
+
+			if (type.isAnnotationPresent(Stateless.class)) {
+				this.instance = this.constructor.newInstance();
+			} else {
+				this.instance = null;
+			}
+		}
+
+		/**
+		 * Возвращает экземпляр реализации.
+		 * Для реализации, помеченной {@link Stateless}, возвращается общий экземпляр,
+		 * иначе создаётся новый.
+		 *
+		 * @return Экземпляр реализации.
+		 * @throws ReflectiveOperationException Если экземпляр класса реализации невозможно создать.
+		 */
+		@NotNull
+		public T getInstance() throws ReflectiveOperationException
+		{
+			if (this.instance != null) {
+				return this.instance;
+			}
+
+			return this.constructor.newInstance();
+		}
+	}
+}
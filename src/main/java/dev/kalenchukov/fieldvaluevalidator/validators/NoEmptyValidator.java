@@ -6,16 +6,17 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.fieldvaluevalidator.constraints.NoEmpty;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -39,20 +40,79 @@ public final class NoEmptyValidator extends AbstractValidator
 
 		NoEmpty constraint = field.getDeclaredAnnotation(NoEmpty.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String messageKey = this.check(field, constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.check(field, field.getDeclaredAnnotation(NoEmpty.class), value) == null;
+	}
+
+	/**
+	 * @see Validating#bind(Field)
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		NoEmpty constraint = field.getDeclaredAnnotation(NoEmpty.class);
+		Class<?> type = field.getType();
 
-		if (!valid)
+		if (type == String.class)
 		{
-			this.setParam("FIELD", field.getName());
+			return new BoundValidator(
+				(value) -> this.checkString(constraint, (String) value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
 
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+		if (AbstractValidator.isAssignableFromAny(type, String.class))
+		{
+			return new BoundValidator(
+				(value) -> this.check(field, constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
 			);
 		}
 
-		return null;
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			NoEmpty.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * Создаёт нарушение.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param messageKey Код сообщения о нарушении.
+	 * @return Нарушение.
+	 */
+	@NotNull
+	private Violating createViolation(@NotNull final Field field,
+									  @NotNull final NoEmpty constraint,
+									  @NotNull final String messageKey)
+	{
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of("FIELD", field.getName())
+		);
 	}
 
 	/**
@@ -61,21 +121,22 @@ public final class NoEmptyValidator extends AbstractValidator
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final NoEmpty constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final NoEmpty constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(constraint, (String) value);
 		}
 		else
 		{
@@ -91,11 +152,12 @@ public final class NoEmptyValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidString(@NotNull final NoEmpty constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final NoEmpty constraint, @NotNull final String value)
 	{
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
@@ -104,29 +166,11 @@ public final class NoEmptyValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final NoEmpty constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final NoEmpty constraint, @NotNull final String value)
 	{
-		boolean empty = false;
-
-		if (constraint.allowSpace()) {
-			empty = value.isEmpty();
-		} else {
-			empty = value.trim().isEmpty();
-		}
-
-		if (empty)
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90014")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.noEmpty(value, constraint.allowSpace());
 	}
 }
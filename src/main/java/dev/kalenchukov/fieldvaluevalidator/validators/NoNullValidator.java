@@ -6,15 +6,16 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -41,46 +42,46 @@ public final class NoNullValidator extends AbstractValidator
 
 		NoNull constraint = field.getDeclaredAnnotation(NoNull.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String messageKey = this.check(field, constraint, value);
 
-		if (!valid)
+		if (messageKey != null)
 		{
-			this.setParam("FIELD", field.getName());
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+			return this.createViolation(
+				field,
+				constraint.message(),
+				messageKey,
+				Map.of("FIELD", field.getName())
 			);
 		}
 
 		return null;
 	}
 
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.check(field, field.getDeclaredAnnotation(NoNull.class), value) == null;
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final NoNull constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final NoNull constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
-		if (value == null)
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90011")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.noNull(value);
 	}
 }
@@ -6,22 +6,23 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.NumberFloat;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Класс проверяющего для ограничения {@link NumberFloat}.
  */
-public final class NumberFloatValidator extends AbstractValidator
+public final class NumberFloatValidator extends AbstractValidator implements PrimitiveValidating
 {
 	/**
 	 * @see AbstractValidator#AbstractValidator(Locale)
@@ -35,22 +36,142 @@ public final class NumberFloatValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
+		Objects.requireNonNull(field);
+
 		NumberFloat constraint = field.getDeclaredAnnotation(NumberFloat.class);
 
-		boolean valid = this.isValid(field, constraint, value);
+		String messageKey = this.check(field, constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.check(field, field.getDeclaredAnnotation(NumberFloat.class), value) == null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#validLong(Field, long)
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
 
-		if (!valid)
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			NumberFloat.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * @see PrimitiveValidating#validDouble(Field, double)
+	 */
+	@Nullable
+	@Override
+	public Violating validDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		NumberFloat constraint = field.getDeclaredAnnotation(NumberFloat.class);
+
+		String messageKey = this.checkAbstract(constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#isValidDouble(Field, double)
+	 */
+	@Override
+	public boolean isValidDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.checkAbstract(field.getDeclaredAnnotation(NumberFloat.class), value) == null;
+	}
+
+	/**
+	 * @see Validating#bind(Field)
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
+		NumberFloat constraint = field.getDeclaredAnnotation(NumberFloat.class);
+		Class<?> type = field.getType();
+
+		if (type == double.class || type == float.class)
 		{
-			this.setParam("FIELD", field.getName());
+			return new BoundPrimitiveValidator(
+				null,
+				(value) -> this.checkAbstract(constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
 
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+		if (type == Double.class || type == Float.class)
+		{
+			return new BoundValidator(
+				(value) -> this.checkAbstract(constraint, ((Number) value).doubleValue()),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
 			);
 		}
 
-		return null;
+		if (AbstractValidator.isAssignableFromAny(type, Double.class, Float.class))
+		{
+			return new BoundValidator(
+				(value) -> this.check(field, constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
+
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			NumberFloat.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * Создаёт нарушение.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param messageKey Код сообщения о нарушении.
+	 * @return Нарушение.
+	 */
+	@NotNull
+	private Violating createViolation(@NotNull final Field field,
+									  @NotNull final NumberFloat constraint,
+									  @NotNull final String messageKey)
+	{
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of(
+				"FIELD", field.getName(),
+				"MIN", String.valueOf(constraint.min()),
+				"MAX", String.valueOf(constraint.max())
+			)
+		);
 	}
 
 	/**
@@ -59,25 +180,26 @@ public final class NumberFloatValidator extends AbstractValidator
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final NumberFloat constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final NumberFloat constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Float.class))
 		{
-			return this.isValidFloat(constraint, (Float) value);
+			return this.checkFloat(constraint, (Float) value);
 		}
 		else if (value.getClass().equals(Double.class))
 		{
-			return this.isValidDouble(constraint, (Double) value);
+			return this.checkDouble(constraint, (Double) value);
 		}
 		else
 		{
@@ -93,11 +215,12 @@ public final class NumberFloatValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidFloat(@NotNull final NumberFloat constraint, @NotNull final Float value)
+	@Nullable
+	private String checkFloat(@NotNull final NumberFloat constraint, @NotNull final Float value)
 	{
-		return this.isValidAbstract(constraint, Double.valueOf(value));
+		return this.checkAbstract(constraint, value.doubleValue());
 	}
 
 	/**
@@ -105,47 +228,25 @@ public final class NumberFloatValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidDouble(@NotNull final NumberFloat constraint, @NotNull final Double value)
+	@Nullable
+	private String checkDouble(@NotNull final NumberFloat constraint, @NotNull final Double value)
 	{
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
 	 * Проверка значения поля класса абстрактного типа.
-	 * В качестве абстракции используется тип {@code Double}.
+	 * В качестве абстракции используется тип {@code double}.
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final NumberFloat constraint, @NotNull final Double value)
+	@Nullable
+	private String checkAbstract(@NotNull final NumberFloat constraint, final double value)
 	{
-		if (value < constraint.min())
-		{
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90008")
-			));
-
-			return false;
-		}
-
-		if (value > constraint.max())
-		{
-			this.setParam("MAX", String.valueOf(constraint.max()));
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90009")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.numberFloat(value, constraint.min(), constraint.max());
 	}
 }
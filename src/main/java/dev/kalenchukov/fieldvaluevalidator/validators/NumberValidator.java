@@ -6,22 +6,23 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Класс проверяющего для ограничения {@link Number}.
  */
-public final class NumberValidator extends AbstractValidator
+public final class NumberValidator extends AbstractValidator implements PrimitiveValidating
 {
 	/**
 	 * @see AbstractValidator#AbstractValidator(Locale)
@@ -35,24 +36,142 @@ public final class NumberValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
+		Objects.requireNonNull(field);
+
+		Number constraint = field.getDeclaredAnnotation(Number.class);
+
+		String messageKey = this.check(field, constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.check(field, field.getDeclaredAnnotation(Number.class), value) == null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#validLong(Field, long)
+	 */
+	@Nullable
+	@Override
+	public Violating validLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		Number constraint = field.getDeclaredAnnotation(Number.class);
+
+		String messageKey = this.checkAbstract(constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#isValidLong(Field, long)
+	 */
+	@Override
+	public boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.checkAbstract(field.getDeclaredAnnotation(Number.class), value) == null;
+	}
+
+	/**
+	 * @see PrimitiveValidating#validDouble(Field, double)
+	 */
+	@Nullable
+	@Override
+	public Violating validDouble(@NotNull final Field field, final double value)
+	{
+		Objects.requireNonNull(field);
+
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			Number.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * @see Validating#bind(Field)
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
 		Number constraint = field.getDeclaredAnnotation(Number.class);
+		Class<?> type = field.getType();
 
-		boolean valid = this.isValid(field, constraint, value);
+		if (type == long.class || type == int.class || type == short.class || type == byte.class)
+		{
+			return new BoundPrimitiveValidator(
+				(value) -> this.checkAbstract(constraint, value),
+				null,
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
 
-		if (!valid)
+		if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+			return new BoundValidator(
+				(value) -> this.checkAbstract(constraint, ((java.lang.Number) value).longValue()),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
 			);
 		}
 
-		return null;
+		if (AbstractValidator.isAssignableFromAny(type, Long.class, Integer.class, Short.class, Byte.class))
+		{
+			return new BoundValidator(
+				(value) -> this.check(field, constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
+
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			Number.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * Создаёт нарушение.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param messageKey Код сообщения о нарушении.
+	 * @return Нарушение.
+	 */
+	@NotNull
+	private Violating createViolation(@NotNull final Field field,
+									  @NotNull final Number constraint,
+									  @NotNull final String messageKey)
+	{
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of(
+				"FIELD", field.getName(),
+				"MIN", String.valueOf(constraint.min()),
+				"MAX", String.valueOf(constraint.max())
+			)
+		);
 	}
 
 	/**
@@ -61,33 +180,34 @@ public final class NumberValidator extends AbstractValidator
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final Number constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final Number constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(Integer.class))
 		{
-			return this.isValidInteger(constraint, (Integer) value);
+			return this.checkInteger(constraint, (Integer) value);
 		}
 		else if (value.getClass().equals(Short.class))
 		{
-			return this.isValidShort(constraint, (Short) value);
+			return this.checkShort(constraint, (Short) value);
 		}
 		else if (value.getClass().equals(Byte.class))
 		{
-			return this.isValidByte(constraint, (Byte) value);
+			return this.checkByte(constraint, (Byte) value);
 		}
 		else if (value.getClass().equals(Long.class))
 		{
-			return this.isValidLong(constraint, (Long) value);
+			return this.checkLong(constraint, (Long) value);
 		}
 		else
 		{
@@ -103,11 +223,12 @@ public final class NumberValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidInteger(@NotNull final Number constraint, @NotNull final Integer value)
+	@Nullable
+	private String checkInteger(@NotNull final Number constraint, @NotNull final Integer value)
 	{
-		return this.isValidAbstract(constraint, Long.valueOf(value));
+		return this.checkAbstract(constraint, value.longValue());
 	}
 
 	/**
@@ -115,11 +236,12 @@ public final class NumberValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidShort(@NotNull final Number constraint, @NotNull final Short value)
+	@Nullable
+	private String checkShort(@NotNull final Number constraint, @NotNull final Short value)
 	{
-		return this.isValidAbstract(constraint, Long.valueOf(value));
+		return this.checkAbstract(constraint, value.longValue());
 	}
 
 	/**
@@ -127,11 +249,12 @@ public final class NumberValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidByte(@NotNull final Number constraint, @NotNull final Byte value)
+	@Nullable
+	private String checkByte(@NotNull final Number constraint, @NotNull final Byte value)
 	{
-		return this.isValidAbstract(constraint, Long.valueOf(value));
+		return this.checkAbstract(constraint, value.longValue());
 	}
 
 	/**
@@ -139,45 +262,25 @@ public final class NumberValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidLong(@NotNull final Number constraint, @NotNull final Long value)
+	@Nullable
+	private String checkLong(@NotNull final Number constraint, @NotNull final Long value)
 	{
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(constraint, value);
 	}
 
 	/**
 	 * Проверка значения поля класса абстрактного типа.
-	 * В качестве абстракции используется тип {@code Long}.
+	 * В качестве абстракции используется тип {@code long}.
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final Number constraint, @NotNull final Long value)
+	@Nullable
+	private String checkAbstract(@NotNull final Number constraint, final long value)
 	{
-		if (value < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90008")
-			));
-
-			return false;
-		}
-
-		if (value > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90009")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.number(value, constraint.min(), constraint.max());
 	}
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Класс ограниченного кэша скомпилированных регулярных выражений.
+ * При превышении размера вытесняются давно не использованные выражения,
+ * поэтому кэш не растёт при проверке динамически создаваемых классов.
+ * Давно не использованные выражения выбираются алгоритмом «второго шанса»: при попадании в кэш
+ * только отмечается обращение к выражению, без блокировки. Блокировка берётся только при добавлении
+ * выражения, а само выражение компилируется вне блокировки.
+ */
+final class PatternCache
+{
+	/**
+	 * Максимальное количество регулярных выражений в кэше.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Скомпилированные регулярные выражения.
+	 * <ul>
+	 * 		<li><b>key</b> - регулярное выражение.</li>
+	 * 		<li><b>value</b> - скомпилированное регулярное выражение.</li>
+	 * </ul>
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull String, @NotNull Entry> patterns = new ConcurrentHashMap<>();
+
+	/**
+	 * Регулярные выражения в порядке проверки при вытеснении.
+	 * Изменяется только под блокировкой самой очереди.
+	 */
+	@NotNull
+	private final Deque<@NotNull Entry> clock = new ArrayDeque<>();
+
+	/**
+	 * Конструктор для {@code PatternCache}.
+	 *
+	 * @param maxSize Максимальное количество регулярных выражений в кэше.
+	 * @throws IllegalArgumentException Если максимальное количество меньше 1.
+	 */
+	PatternCache(final int maxSize)
+	{
+		if (maxSize < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Возвращает скомпилированное регулярное выражение.
+	 *
+	 * @param regexp Регулярное выражение.
+	 * @return Скомпилированное регулярное выражение.
+	 */
+	@NotNull
+	public Pattern get(@NotNull final String regexp)
+	{
+		Objects.requireNonNull(regexp);
+
+		Entry entry = this.patterns.get(regexp);
+
+		if (entry != null) {
+			return entry.access();
+		}
+
+		Pattern pattern = Pattern.compile(regexp);
+
+		synchronized (this.clock)
+		{
+			entry = this.patterns.get(regexp);
+
+			if (entry != null) {
+				return entry.access();
+			}
+
+			entry = new Entry(regexp, pattern);
+
+			this.patterns.put(regexp, entry);
+			this.clock.addLast(entry);
+			this.evict(entry);
+		}
+
+		return pattern;
+	}
+
+	/**
+	 * Возвращает количество регулярных выражений в кэше.
+	 *
+	 * @return Количество регулярных выражений.
+	 */
+	public int size()
+	{
+		return this.patterns.size();
+	}
+
+	/**
+	 * Вытесняет регулярные выражения, пока размер кэша больше максимального.
+	 * Выражение, к которому обращались, получает второй шанс: отметка обращения снимается,
+	 * и выражение переносится в конец очереди. Только что добавленное выражение не вытесняется.
+	 * Вызывается под блокировкой очереди.
+	 *
+	 * @param added Только что добавленное регулярное выражение.
+	 */
+	private void evict(@NotNull final Entry added)
+	{
+		while (this.patterns.size() > this.maxSize)
+		{
+			Entry candidate = this.clock.pollFirst();
+
+			if (candidate == null) {
+				break;
+			}
+
+			if (candidate == added || candidate.accessed)
+			{
+				candidate.accessed = false;
+				this.clock.addLast(candidate);
+
+				continue;
+			}
+
+			this.patterns.remove(candidate.regexp, candidate);
+		}
+	}
+
+	/**
+	 * Класс скомпилированного регулярного выражения в кэше.
+	 */
+	private static final class Entry
+	{
+		/**
+		 * Регулярное выражение.
+		 */
+		@NotNull
+		private final String regexp;
+
+		/**
+		 * Скомпилированное регулярное выражение.
+		 */
+		@NotNull
+		private final Pattern pattern;
+
+		/**
+		 * Признак обращения к выражению после последней проверки при вытеснении.
+		 */
+		private volatile boolean accessed;
+
+		/**
+		 * Конструктор для {@code Entry}.
+		 *
+		 * @param regexp Регулярное выражение.
+		 * @param pattern Скомпилированное регулярное выражение.
+		 */
+		private Entry(@NotNull final String regexp, @NotNull final Pattern pattern)
+		{
+			this.regexp = regexp;
+			this.pattern = pattern;
+		}
+
+		/**
+		 * Отмечает обращение к выражению.
+		 * Отметка записывается, только если её ещё нет, чтобы частые обращения не записывали в общую память.
+		 *
+		 * @return Скомпилированное регулярное выражение.
+		 */
+		@NotNull
+		private Pattern access()
+		{
+			if (!this.accessed) {
+				this.accessed = true;
+			}
+
+			return this.pattern;
+		}
+	}
+}
@@ -6,16 +6,17 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Pattern;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -23,6 +24,12 @@ import java.util.Objects;
  */
 public final class PatternValidator extends AbstractValidator
 {
+	/**
+	 * Кэш скомпилированных регулярных выражений.
+	 */
+	@NotNull
+	private static final PatternCache PATTERNS = new PatternCache(1024);
+
 	/**
 	 * @see AbstractValidator#AbstractValidator(Locale)
 	 */
@@ -35,51 +42,131 @@ public final class PatternValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
+		Objects.requireNonNull(field);
+
+		Pattern constraint = field.getDeclaredAnnotation(Pattern.class);
+
+		String messageKey = this.check(field, constraint, PATTERNS.get(constraint.regexp()), value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		Pattern constraint = field.getDeclaredAnnotation(Pattern.class);
+
+		return this.check(field, constraint, PATTERNS.get(constraint.regexp()), value) == null;
+	}
+
+	/**
+	 * @see Validating#bind(Field)
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
 		Pattern constraint = field.getDeclaredAnnotation(Pattern.class);
+		Class<?> type = field.getType();
 
-		boolean valid = this.isValid(field, constraint, value);
+		java.util.regex.Pattern pattern = PATTERNS.get(constraint.regexp());
 
-		if (!valid)
+		if (type == String.class)
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("REGEXP", constraint.regexp());
+			return new BoundValidator(
+				(value) -> Checks.pattern((String) value, pattern),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
 
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+		if (type == Character.class || type == char.class)
+		{
+			return new BoundValidator(
+				(value) -> Checks.pattern(String.valueOf((char) value), pattern),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
 			);
 		}
 
-		return null;
+		if (AbstractValidator.isAssignableFromAny(type, String.class, Character.class))
+		{
+			return new BoundValidator(
+				(value) -> this.check(field, constraint, pattern, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
+
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			Pattern.class.getSimpleName()
+		));
 	}
 
+	/**
+	 * Создаёт нарушение.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param messageKey Код сообщения о нарушении.
+	 * @return Нарушение.
+	 */
+	@NotNull
+	private Violating createViolation(@NotNull final Field field,
+									  @NotNull final Pattern constraint,
+									  @NotNull final String messageKey)
+	{
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of(
+				"FIELD", field.getName(),
+				"REGEXP", constraint.regexp()
+			)
+		);
+	}
 
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
+	 * @param pattern Скомпилированное регулярное выражение ограничения.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final Pattern constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field,
+						 @NotNull final Pattern constraint,
+						 @NotNull final java.util.regex.Pattern pattern,
+						 @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
+		Objects.requireNonNull(pattern);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().equals(String.class))
 		{
-			return this.isValidString(constraint, (String) value);
+			return this.checkString(pattern, (String) value);
 		}
 		else if (value.getClass().equals(Character.class))
 		{
-			return this.isValidCharacter(constraint, (Character) value);
+			return this.checkCharacter(pattern, (Character) value);
 		}
 		else
 		{
@@ -93,48 +180,40 @@ public final class PatternValidator extends AbstractValidator
 	/**
 	 * Проверка значения поля класса типа {@code Character}.
 	 *
-	 * @param constraint Проверяемое ограничение.
+	 * @param pattern Скомпилированное регулярное выражение ограничения.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidCharacter(@NotNull final Pattern constraint, @NotNull final Character value)
+	@Nullable
+	private String checkCharacter(@NotNull final java.util.regex.Pattern pattern, @NotNull final Character value)
 	{
-		return this.isValidAbstract(constraint, String.valueOf(value));
+		return this.checkAbstract(pattern, String.valueOf(value));
 	}
 
 	/**
 	 * Проверка значения поля класса типа {@code String}.
 	 *
-	 * @param constraint Проверяемое ограничение.
+	 * @param pattern Скомпилированное регулярное выражение ограничения.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidString(@NotNull final Pattern constraint, @NotNull final String value)
+	@Nullable
+	private String checkString(@NotNull final java.util.regex.Pattern pattern, @NotNull final String value)
 	{
-		return this.isValidAbstract(constraint, value);
+		return this.checkAbstract(pattern, value);
 	}
 
 	/**
 	 * Проверка значения поля класса абстрактного типа.
 	 * В качестве абстракции используется тип {@code String}.
 	 *
-	 * @param constraint Проверяемое ограничение.
+	 * @param pattern Скомпилированное регулярное выражение ограничения.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final Pattern constraint, @NotNull final String value)
+	@Nullable
+	private String checkAbstract(@NotNull final java.util.regex.Pattern pattern, @NotNull final String value)
 	{
-		if (!value.matches(constraint.regexp()))
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90010")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.pattern(value, pattern);
 	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Интерфейс для реализации проверяющего значений полей класса примитивных типов без упаковки.
+ */
+public interface PrimitiveValidating extends Validating
+{
+	/**
+	 * Проверяет корректность значения поля класса целочисленного примитивного типа.
+	 *
+	 * @param field Поле класса типа {@code byte}, {@code short}, {@code int} или {@code long}.
+	 * @param value Значение поля класса.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 */
+	@Nullable
+	Violating validLong(@NotNull Field field, long value);
+
+	/**
+	 * Проверяет корректность значения поля класса дробного примитивного типа.
+	 *
+	 * @param field Поле класса типа {@code float} или {@code double}.
+	 * @param value Значение поля класса.
+	 * @return Нарушение, или {@code null} если значение поля класса корректно.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 */
+	@Nullable
+	Violating validDouble(@NotNull Field field, double value);
+
+	/**
+	 * Определяет корректность значения поля класса целочисленного примитивного типа.
+	 * В отличие от {@link #validLong(Field, long)} нарушение не создаётся.
+	 *
+	 * @param field Поле класса типа {@code byte}, {@code short}, {@code int} или {@code long}.
+	 * @param value Значение поля класса.
+	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 */
+	default boolean isValidLong(@NotNull final Field field, final long value)
+	{
+		return this.validLong(field, value) == null;
+	}
+
+	/**
+	 * Определяет корректность значения поля класса дробного примитивного типа.
+	 * В отличие от {@link #validDouble(Field, double)} нарушение не создаётся.
+	 *
+	 * @param field Поле класса типа {@code float} или {@code double}.
+	 * @param value Значение поля класса.
+	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
+	 */
+	default boolean isValidDouble(@NotNull final Field field, final double value)
+	{
+		return this.validDouble(field, value) == null;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+/**
+ * Интерфейс для реализации проверяющего повторяемого ограничения,
+ * который может проверять не все повторения ограничения поля класса.
+ */
+public interface RepeatableValidating extends Validating
+{
+	/**
+	 * Привязывает проверяющего к полю класса и выбранным повторениям ограничения.
+	 * Вызывается один раз при создании плана проверки класса вместо {@link #bind(Field)}.
+	 *
+	 * @param field Поле класса.
+	 * @param constraints Выбранные повторения ограничения поля класса.
+	 * @return Проверяющий значений поля класса, проверяющий только выбранные повторения.
+	 */
+	@NotNull
+	Validating bind(@NotNull Field field, @NotNull Annotation @NotNull [] constraints);
+}
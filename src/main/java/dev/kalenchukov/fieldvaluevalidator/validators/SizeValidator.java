@@ -6,11 +6,11 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Size;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
+import dev.kalenchukov.fieldvaluevalidator.generation.Checks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,24 +35,103 @@ public final class SizeValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
+		Objects.requireNonNull(field);
+
+		Size constraint = field.getDeclaredAnnotation(Size.class);
+
+		String messageKey = this.check(field, constraint, value);
+
+		if (messageKey != null) {
+			return this.createViolation(field, constraint, messageKey);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		return this.check(field, field.getDeclaredAnnotation(Size.class), value) == null;
+	}
+
+	/**
+	 * @see Validating#bind(Field)
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field)
+	{
+		Objects.requireNonNull(field);
+
 		Size constraint = field.getDeclaredAnnotation(Size.class);
+		Class<?> type = field.getType();
 
-		boolean valid = this.isValid(field, constraint, value);
+		if (type.isArray())
+		{
+			return new BoundValidator(
+				(value) -> this.checkArray(constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
 
-		if (!valid)
+		if (Collection.class.isAssignableFrom(type))
 		{
-			this.setParam("FIELD", field.getName());
-			this.setParam("MIN", String.valueOf(constraint.min()));
-			this.setParam("MAX", String.valueOf(constraint.max()));
-
-			return new Violation(
-				field.getName(),
-				this.getMessage(),
-				this.getParams()
+			return new BoundValidator(
+				(value) -> this.checkCollection(constraint, (Collection<?>) value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
 			);
 		}
 
-		return null;
+		if (Map.class.isAssignableFrom(type))
+		{
+			return new BoundValidator(
+				(value) -> this.checkMap(constraint, (Map<?, ?>) value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
+
+		if (AbstractValidator.isAssignableFromAny(type, Object[].class, Collection.class, Map.class))
+		{
+			return new BoundValidator(
+				(value) -> this.check(field, constraint, value),
+				(boundField, messageKey) -> this.createViolation(boundField, constraint, messageKey)
+			);
+		}
+
+		throw new UnsupportedFieldTypeException(String.format(
+			this.localeExceptions.getString("20001"),
+			Size.class.getSimpleName()
+		));
+	}
+
+	/**
+	 * Создаёт нарушение.
+	 *
+	 * @param field Поле класса.
+	 * @param constraint Проверяемое ограничение.
+	 * @param messageKey Код сообщения о нарушении.
+	 * @return Нарушение.
+	 */
+	@NotNull
+	private Violating createViolation(@NotNull final Field field,
+									  @NotNull final Size constraint,
+									  @NotNull final String messageKey)
+	{
+		return this.createViolation(
+			field,
+			constraint.message(),
+			messageKey,
+			Map.of(
+				"FIELD", field.getName(),
+				"MIN", String.valueOf(constraint.min()),
+				"MAX", String.valueOf(constraint.max())
+			)
+		);
 	}
 
 	/**
@@ -61,29 +140,30 @@ public final class SizeValidator extends AbstractValidator
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final Size constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final Size constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		if (value.getClass().isArray())
 		{
-			return this.isValidArray(constraint, (Object) value);
+			return this.checkArray(constraint, (Object) value);
 		}
 		else if (value instanceof Collection<?>)
 		{
-			return this.isValidCollection(constraint, (Collection<?>) value);
+			return this.checkCollection(constraint, (Collection<?>) value);
 		}
 		else if (value instanceof Map<?, ?>)
 		{
-			return this.isValidMap(constraint, (Map<?, ?>) value);
+			return this.checkMap(constraint, (Map<?, ?>) value);
 		}
 		else
 		{
@@ -99,11 +179,12 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidMap(@NotNull final Size constraint, @NotNull final Map<?, ?> value)
+	@Nullable
+	private String checkMap(@NotNull final Size constraint, @NotNull final Map<?, ?> value)
 	{
-		return this.isValidAbstract(constraint, value.size());
+		return this.checkAbstract(constraint, value.size());
 	}
 
 	/**
@@ -111,11 +192,12 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidCollection(@NotNull final Size constraint, @NotNull final Collection<?> value)
+	@Nullable
+	private String checkCollection(@NotNull final Size constraint, @NotNull final Collection<?> value)
 	{
-		return this.isValidAbstract(constraint, value.size());
+		return this.checkAbstract(constraint, value.size());
 	}
 
 	/**
@@ -123,11 +205,12 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidArray(@NotNull final Size constraint, @NotNull final Object value)
+	@Nullable
+	private String checkArray(@NotNull final Size constraint, @NotNull final Object value)
 	{
-		return this.isValidAbstract(constraint, Array.getLength(value));
+		return this.checkAbstract(constraint, Array.getLength(value));
 	}
 
 	/**
@@ -136,32 +219,11 @@ public final class SizeValidator extends AbstractValidator
 	 *
 	 * @param constraint Проверяемое ограничение.
 	 * @param length Количество элементов значения поля класса.
-	 * @return {@code True} если значение поля корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля корректно.
 	 */
-	private boolean isValidAbstract(@NotNull final Size constraint, @NotNull final Integer length)
+	@Nullable
+	private String checkAbstract(@NotNull final Size constraint, final int length)
 	{
-		if (length < constraint.min())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90005")
-			));
-
-			return false;
-		}
-
-		if (length > constraint.max())
-		{
-			this.setMessage(StringFormat.format(
-				constraint.message(),
-				"DEFAULT_MESSAGE",
-				this.localeViolations.getString("90006")
-			));
-
-			return false;
-		}
-
-		return true;
+		return Checks.size(length, constraint.min(), constraint.max());
 	}
 }
@@ -6,32 +6,78 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Valid;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.InvalidExistenceClassException;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.InvalidValidationClassException;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.fieldvaluevalidator.interfaces.Validable;
-import dev.kalenchukov.fieldvaluevalidator.Violation;
-import dev.kalenchukov.stringformat.StringFormat;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 /**
  * Класс проверяющего для ограничения {@link Valid}.
  */
-public final class ValidValidator extends AbstractValidator
+public final class ValidValidator extends AbstractValidator implements RepeatableValidating
 {
+	/**
+	 * Кэш собственных реализаций проверки.
+	 */
+	@NotNull
+	private static final ImplementationCache<Validable<?>> IMPLEMENTATIONS = new ImplementationCache<>("valid");
+
+	/**
+	 * Проверяемые ограничения поля класса, или {@code null} если проверяются все ограничения поля класса.
+	 */
+	@Nullable
+	private final Valid @Nullable [] constraints;
+
 	/**
 	 * @see AbstractValidator#AbstractValidator(Locale)
 	 */
 	public ValidValidator(@NotNull final Locale locale)
 	{
 		super(locale);
+
+		this.constraints = null;
+	}
+
+	/**
+	 * Конструктор для {@code ValidValidator}, привязанного к ограничениям поля класса.
+	 *
+	 * @param locale Локализация.
+	 * @param constraints Проверяемые ограничения поля класса.
+	 */
+	private ValidValidator(@NotNull final Locale locale, @NotNull final Valid @NotNull [] constraints)
+	{
+		super(locale);
+
+		this.constraints = constraints;
+	}
+
+	/**
+	 * @see RepeatableValidating#bind(Field, Annotation[])
+	 */
+	@NotNull
+	@Override
+	public Validating bind(@NotNull final Field field, @NotNull final Annotation @NotNull [] constraints)
+	{
+		Objects.requireNonNull(field);
+		Objects.requireNonNull(constraints);
+
+		Valid[] selected = new Valid[constraints.length];
+
+		for (int i = 0; i < constraints.length; i++) {
+			selected[i] = (Valid) constraints[i];
+		}
+
+		return new ValidValidator(this.locale, selected);
 	}
 
 	/**
@@ -41,20 +87,19 @@ public final class ValidValidator extends AbstractValidator
 	@Override
 	public Violating valid(@NotNull final Field field, @Nullable final Object value)
 	{
-		Valid[] constraints = field.getDeclaredAnnotationsByType(Valid.class);
+		Objects.requireNonNull(field);
 
-		for (Valid constraint : constraints)
+		for (Valid constraint : this.getConstraints(field))
 		{
-			boolean valid = this.isValid(field, constraint, value);
+			String messageKey = this.check(field, constraint, value);
 
-			if (!valid)
+			if (messageKey != null)
 			{
-				this.setParam("FIELD", field.getName());
-
-				return new Violation(
-					field.getName(),
-					this.getMessage(),
-					this.getParams()
+				return this.createViolation(
+					field,
+					constraint.message(),
+					messageKey,
+					Map.of("FIELD", field.getName())
 				);
 			}
 		}
@@ -62,46 +107,67 @@ public final class ValidValidator extends AbstractValidator
 		return null;
 	}
 
+	/**
+	 * @see Validating#isValid(Field, Object)
+	 */
+	@Override
+	public boolean isValid(@NotNull final Field field, @Nullable final Object value)
+	{
+		Objects.requireNonNull(field);
+
+		for (Valid constraint : this.getConstraints(field))
+		{
+			if (this.check(field, constraint, value) != null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Возвращает проверяемые ограничения поля класса.
+	 *
+	 * @param field Поле класса.
+	 * @return Проверяемые ограничения поля класса.
+	 */
+	@NotNull
+	private Valid @NotNull [] getConstraints(@NotNull final Field field)
+	{
+		if (this.constraints != null) {
+			return this.constraints;
+		}
+
+		return field.getDeclaredAnnotationsByType(Valid.class);
+	}
+
 	/**
 	 * Проверяет корректность значения поля класса.
 	 *
 	 * @param field Поле класса.
 	 * @param constraint Проверяемое ограничение.
 	 * @param value Значение поля класса.
-	 * @return {@code True} если значение поля класса корректно, иначе {@code false}.
+	 * @return Код сообщения о нарушении, или {@code null} если значение поля класса корректно.
 	 * @throws UnsupportedFieldTypeException Если тип поля класса не поддерживается данным ограничением.
 	 * @throws InvalidExistenceClassException Если класс проверки существования некорректный.
 	 */
-	private boolean isValid(@NotNull final Field field, @NotNull final Valid constraint, @Nullable final Object value)
+	@Nullable
+	private String check(@NotNull final Field field, @NotNull final Valid constraint, @Nullable final Object value)
 	{
 		Objects.requireNonNull(field);
 		Objects.requireNonNull(constraint);
 
 		if (value == null) {
-			return true;
+			return null;
 		}
 
 		Class<? extends Validable<?>> validator = constraint.validator();
 
+		Validable<Object> implementation;
+
 		try
 		{
-			Method method = validator.getMethod("valid", field.getType());
-
-			boolean valid = (boolean) method.invoke(
-				validator.getConstructor().newInstance(),
-				value
-			);
-
-			if (!valid)
-			{
-				this.setMessage(StringFormat.format(
-					constraint.message(),
-					"DEFAULT_MESSAGE",
-					this.localeViolations.getString("90002")
-				));
-
-				return false;
-			}
+			implementation = this.cast(IMPLEMENTATIONS.get(validator, field.getType()).getInstance());
 		}
 		catch (NoSuchMethodException exception)
 		{
@@ -110,7 +176,7 @@ public final class ValidValidator extends AbstractValidator
 				validator.getName()
 			));
 		}
-		catch (Exception exception)
+		catch (ReflectiveOperationException | RuntimeException exception)
 		{
 			throw new InvalidValidationClassException(String.format(
 				this.localeExceptions.getString("20003"),
@@ -118,6 +184,38 @@ public final class ValidValidator extends AbstractValidator
 			));
 		}
 
-		return true;
+		boolean valid;
+
+		try
+		{
+			valid = implementation.valid(value);
+		}
+		catch (RuntimeException exception)
+		{
+			throw new InvalidValidationClassException(String.format(
+				this.localeExceptions.getString("20003"),
+				validator.getName()
+			));
+		}
+
+		if (!valid) {
+			return "90002";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Приводит экземпляр собственной реализации проверки к типу значения поля класса.
+	 * Поддержка типа поля класса проверяется при разрешении реализации.
+	 *
+	 * @param implementation Экземпляр собственной реализации проверки.
+	 * @return Экземпляр собственной реализации проверки.
+	 */
+	@SuppressWarnings("unchecked")
+	@NotNull
+	private Validable<Object> cast(@NotNull final Validable<?> implementation)
+	{
+		return (Validable<Object>) implementation;
 	}
 }
@@ -14,4 +14,8 @@ module dev.kalenchukov.fieldvaluevalidator
 	exports dev.kalenchukov.fieldvaluevalidator.constraints;
 	exports dev.kalenchukov.fieldvaluevalidator.interfaces;
 	exports dev.kalenchukov.fieldvaluevalidator.exceptions;
+	exports dev.kalenchukov.fieldvaluevalidator.generation;
+
+	uses dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+	uses dev.kalenchukov.fieldvaluevalidator.ConstraintProvider;
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
+import dev.kalenchukov.fieldvaluevalidator.supports.constraints.ClassRetained;
+import dev.kalenchukov.fieldvaluevalidator.supports.constraints.Even;
+import dev.kalenchukov.fieldvaluevalidator.supports.constraints.Odd;
+import dev.kalenchukov.fieldvaluevalidator.supports.constraints.ParityValidator;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ConstraintRegistryTest
+{
+	/**
+	 * Проверка ограничения, зарегистрированного программно.
+	 */
+	@Test
+	public void TestRegister()
+	{
+		class Experimental
+		{
+			@Even
+			private Integer count = 3;
+		}
+
+		ConstraintRegistry registry = new ConstraintRegistry();
+
+		assertFalse(registry.isRegistered(Even.class));
+		assertSame(registry, registry.register(Even.class, ParityValidator::even));
+		assertTrue(registry.isRegistered(Even.class));
+
+		List<Violating> violations = new FieldValueValidator(registry).validate(new Experimental());
+
+		assertEquals(1, violations.size());
+		assertEquals("count", violations.get(0).getField());
+		assertEquals(0, new FieldValueValidator().validate(new Experimental()).size());
+	}
+
+	/**
+	 * Проверка замены проверяющего ограничения библиотеки.
+	 */
+	@Test
+	public void TestRegisterReplace()
+	{
+		class Experimental
+		{
+			@NoNull
+			private Integer count = 2;
+		}
+
+		ConstraintRegistry registry = new ConstraintRegistry().register(NoNull.class, ParityValidator::odd);
+
+		assertEquals(1, new FieldValueValidator(registry).validate(new Experimental()).size());
+		assertEquals(0, new FieldValueValidator().validate(new Experimental()).size());
+	}
+
+	/**
+	 * Проверка регистрации ограничения, недоступного во время выполнения.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestRegisterNotRuntime()
+	{
+		new ConstraintRegistry().register(ClassRetained.class, ParityValidator::even);
+	}
+
+	/**
+	 * Проверка ограничения поставщика, найденного с помощью {@link java.util.ServiceLoader}.
+	 */
+	@Test
+	public void TestServiceLoaderProvider()
+	{
+		class Experimental
+		{
+			@Odd
+			private Integer count = 4;
+		}
+
+		assertTrue(new ConstraintRegistry().isRegistered(Odd.class));
+		assertEquals(1, new FieldValueValidator().validate(new Experimental()).size());
+	}
+}
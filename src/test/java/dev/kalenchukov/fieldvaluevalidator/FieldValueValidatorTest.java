@@ -6,10 +6,34 @@
 
 package dev.kalenchukov.fieldvaluevalidator;
 
-import dev.kalenchukov.fieldvaluevalidator.constraints.Language;
+import dev.kalenchukov.fieldvaluevalidator.constraints.*;
+import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.supports.constraints.ParityValidator;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.CountingGenderExistence;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.GenderExistence;
+import dev.kalenchukov.fieldvaluevalidator.supports.generated.Product;
+import dev.kalenchukov.fieldvaluevalidator.supports.generated.ProductValidator;
+import dev.kalenchukov.fieldvaluevalidator.supports.groups.Create;
+import dev.kalenchukov.fieldvaluevalidator.supports.groups.Update;
+import dev.kalenchukov.fieldvaluevalidator.supports.validators.BrowserValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.ExistValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.NoNullValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.NumberFloatValidator;
+import dev.kalenchukov.fieldvaluevalidator.validators.NumberValidator;
 import org.junit.Test;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -81,4 +105,1042 @@ public class FieldValueValidatorTest
 
 		assertEquals("Некорректный формат языка в поле класса 'language1'", violation.get(0).getMessage());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка повторной проверки объектов одного класса.
+	 */
+	@Test
+	public void TestValidateSameClassTwice()
+	{
+		class Experimental
+		{
+			@Language
+			private String language;
+
+			private String comment = "value";
+
+			Experimental(String language)
+			{
+				this.language = language;
+			}
+		}
+
+		FIELD_VALUE_VALIDATOR.setPushy(true);
+
+		assertEquals(1, FIELD_VALUE_VALIDATOR.validate(new Experimental("value")).size());
+		assertEquals(0, FIELD_VALUE_VALIDATOR.validate(new Experimental("ru-RU")).size());
+		assertEquals("language", FIELD_VALUE_VALIDATOR.validate(new Experimental("VALUE")).get(0).getField());
+	}
+
+	/**
+	 * Проверка одного экземпляра из нескольких потоков одновременно.
+	 */
+	@Test
+	public void TestValidateConcurrent() throws Exception
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment;
+
+			Experimental(String comment)
+			{
+				this.comment = comment;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<List<Violating>>> results = new ArrayList<>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			Experimental experimental = new Experimental(i % 2 == 0 ? "значение" : "ok");
+
+			results.add(executor.submit(() -> fieldValueValidator.validate(experimental)));
+		}
+
+		for (int i = 0; i < results.size(); i++)
+		{
+			Violating violation = results.get(i).get().get(0);
+
+			if (i % 2 == 0) {
+				assertEquals("Количество символов значения поля 'comment' должно быть меньше 5", violation.getMessage());
+			} else {
+				assertEquals("Количество символов значения поля 'comment' должно быть больше 3", violation.getMessage());
+			}
+
+			assertEquals("comment", violation.getParams().get("FIELD"));
+		}
+
+		executor.shutdown();
+	}
+
+	/**
+	 * Проверка сообщения о нарушении по умолчанию с собственным текстом.
+	 */
+	@Test
+	public void TestValidateMessageWithDefaultMessage()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5, message = "Ошибка: %DEFAULT_MESSAGE% (%MIN%)")
+			private String comment = "ok";
+		}
+
+		Violating violation = FIELD_VALUE_VALIDATOR.validate(new Experimental()).get(0);
+
+		assertEquals(
+			"Ошибка: Количество символов значения поля 'comment' должно быть больше 3 (3)",
+			violation.getMessage()
+		);
+		assertSame(violation.getMessage(), violation.getMessage());
+	}
+
+	/**
+	 * Проверка пакетной проверки коллекции объектов.
+	 */
+	@Test
+	public void TestValidateAllIterable()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment;
+
+			Experimental(String comment)
+			{
+				this.comment = comment;
+			}
+		}
+
+		Map<Integer, List<Violating>> violations = FIELD_VALUE_VALIDATOR.validateAll(List.of(
+			new Experimental("ok"),
+			new Experimental("хорошо"),
+			new Experimental("good"),
+			new Experimental("no")
+		));
+
+		assertEquals(List.of(0, 1, 3), new ArrayList<>(violations.keySet()));
+		assertEquals(1, violations.get(0).size());
+		assertEquals("comment", violations.get(3).get(0).getField());
+	}
+
+	/**
+	 * Проверка пакетной проверки потока объектов с ограничением количества объектов с нарушениями.
+	 */
+	@Test
+	public void TestValidateAllStreamLimit()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment;
+
+			Experimental(String comment)
+			{
+				this.comment = comment;
+			}
+		}
+
+		AtomicInteger pulled = new AtomicInteger();
+
+		Map<Integer, List<Violating>> violations = FIELD_VALUE_VALIDATOR.validateAll(
+			Stream.of("good", "ok", "good", "no", "ok", "no")
+				.peek((comment) -> pulled.incrementAndGet())
+				.map(Experimental::new),
+			2
+		);
+
+		assertEquals(List.of(1, 3), new ArrayList<>(violations.keySet()));
+		assertEquals(4, pulled.get());
+	}
+
+	/**
+	 * Проверка пакетной проверки без нарушений.
+	 */
+	@Test
+	public void TestValidateAllEmpty()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment = "good";
+		}
+
+		assertTrue(FIELD_VALUE_VALIDATOR.validateAll(List.of(new Experimental(), new Experimental())).isEmpty());
+	}
+
+	/**
+	 * Проверка пакетной проверки с некорректным ограничением количества объектов с нарушениями.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestValidateAllLimitNotCorrect()
+	{
+		FIELD_VALUE_VALIDATOR.validateAll(List.of(), 0);
+	}
+
+	/**
+	 * Проверка параллельной пакетной проверки коллекции объектов.
+	 */
+	@Test
+	public void TestValidateAllParallel()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment;
+
+			Experimental(String comment)
+			{
+				this.comment = comment;
+			}
+		}
+
+		List<Experimental> objects = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			objects.add(new Experimental(i % 3 == 0 ? "ok" : "good"));
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try
+		{
+			Map<Integer, List<Violating>> violations = fieldValueValidator.validateAllParallel(objects, executor);
+
+			assertEquals(
+				new ArrayList<>(fieldValueValidator.validateAll(objects).keySet()),
+				new ArrayList<>(violations.keySet())
+			);
+			assertEquals(3334, violations.size());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка параллельной пакетной проверки в общем пуле.
+	 */
+	@Test
+	public void TestValidateAllParallelCommonPool()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment;
+
+			Experimental(String comment)
+			{
+				this.comment = comment;
+			}
+		}
+
+		List<Experimental> objects = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			objects.add(new Experimental(i == 9999 ? "ok" : "good"));
+		}
+
+		Map<Integer, List<Violating>> violations = FIELD_VALUE_VALIDATOR.validateAllParallel(objects);
+
+		assertEquals(List.of(9999), new ArrayList<>(violations.keySet()));
+	}
+
+	/**
+	 * Проверка совпадения нарушений при проверке проверяющим, созданным во время выполнения,
+	 * и при проверке с помощью рефлексии.
+	 */
+	@Test
+	public void TestValidateBytecodeGeneration()
+	{
+		class Experimental
+		{
+			@NoNull
+			@NoEmpty
+			@Length(min = 3, max = 5)
+			private String name = "";
+
+			@Number(min = 1, max = 10)
+			private int count = 11;
+
+			@Number(min = 1, max = 10)
+			private Short amount = 0;
+
+			@NumberFloat(min = 0.5, max = 1.5)
+			private float ratio = 2.0F;
+
+			@NumberFloat(min = 0.5, max = 1.5)
+			private Double price = 1.0;
+
+			@Size(min = 1, max = 2)
+			private List<String> lines = List.of("a", "b", "c");
+
+			@Pattern(regexp = "[0-9]")
+			private char code = 'Ж';
+
+			@Language
+			private String language = "ru-RU";
+
+			@NoNull
+			private Object nothing = null;
+		}
+
+		for (boolean pushy : new boolean[]{true, false})
+		{
+			FieldValueValidating reflective = new FieldValueValidator();
+			reflective.setPushy(pushy);
+
+			FieldValueValidating generated = new FieldValueValidator();
+			generated.setPushy(pushy);
+			generated.setBytecodeGeneration(true);
+
+			List<Violating> expected = reflective.validate(new Experimental());
+			List<Violating> actual = generated.validate(new Experimental());
+
+			assertFalse(expected.isEmpty());
+			assertEquals(expected.size(), actual.size());
+
+			for (int i = 0; i < expected.size(); i++)
+			{
+				assertEquals(expected.get(i).getField(), actual.get(i).getField());
+				assertEquals(expected.get(i).getMessage(), actual.get(i).getMessage());
+				assertEquals(expected.get(i).getParams(), actual.get(i).getParams());
+			}
+		}
+	}
+
+	/**
+	 * Проверка создания скрытого класса проверяющего и проверки с помощью рефлексии класса с ограничением {@link Exist}.
+	 */
+	@Test
+	public void TestValidationPlanBytecodeGeneration()
+	{
+		class Experimental
+		{
+			@Number(min = 1, max = 10)
+			private long count = 1;
+		}
+
+		class ExperimentalExist
+		{
+			@Number(min = 1, max = 10)
+			private long count = 1;
+
+			@Exist(existence = GenderExistence.class)
+			private String gender = "M";
+		}
+
+		Locale locale = new Locale("ru", "RU");
+		Map<Class<? extends Annotation>, Validating> validators = Map.of(
+			Number.class, new NumberValidator(locale),
+			Exist.class, new ExistValidator(locale)
+		);
+
+		GeneratedValidating<Object> generated = new ValidationPlan(Experimental.class, validators, true).getGenerated();
+
+		assertNotNull(generated);
+		assertTrue(generated.getClass().isHidden());
+		assertEquals(Experimental.class, generated.getType());
+
+		assertNull(new ValidationPlan(Experimental.class, validators, false).getGenerated());
+		assertNull(new ValidationPlan(ExperimentalExist.class, validators, true).getGenerated());
+	}
+
+	/**
+	 * Проверка выбора способа чтения значений полей примитивных типов при создании плана проверки.
+	 */
+	@Test
+	public void TestValidationPlanPrimitiveAccess()
+	{
+		class Experimental
+		{
+			@Number(min = 1, max = 10)
+			private int count = 1;
+
+			@NumberFloat(min = 1, max = 10)
+			private float rate = 1;
+
+			@Number(min = 1, max = 10)
+			private Integer boxed = 1;
+
+			@NoNull
+			private long id = 1;
+		}
+
+		Locale locale = new Locale("ru", "RU");
+		Map<Class<? extends Annotation>, Validating> validators = Map.of(
+			Number.class, new NumberValidator(locale),
+			NumberFloat.class, new NumberFloatValidator(locale),
+			NoNull.class, new NoNullValidator(locale)
+		);
+
+		List<ValidationPlan.FieldPlan> fields = new ValidationPlan(Experimental.class, validators, false).getFields();
+
+		assertEquals(4, fields.size());
+		assertEquals(ValidationPlan.Access.LONG, fields.get(0).getConstraints().get(0).getAccess());
+		assertEquals(ValidationPlan.Access.DOUBLE, fields.get(1).getConstraints().get(0).getAccess());
+		assertEquals(ValidationPlan.Access.OBJECT, fields.get(2).getConstraints().get(0).getAccess());
+		assertEquals(ValidationPlan.Access.OBJECT, fields.get(3).getConstraints().get(0).getAccess());
+	}
+
+	/**
+	 * Проверка полей суперклассов.
+	 */
+	@Test
+	public void TestValidateInheritedFields()
+	{
+		class Entity
+		{
+			@NoNull
+			private Long id = null;
+
+			@Length(min = 3, max = 5)
+			String name = "ab";
+		}
+
+		class Product extends Entity
+		{
+			@NoEmpty
+			private String title = "";
+		}
+
+		class Experimental extends Product {}
+
+		for (boolean bytecodeGeneration : new boolean[]{false, true})
+		{
+			FieldValueValidating fieldValueValidator = new FieldValueValidator();
+			fieldValueValidator.setBytecodeGeneration(bytecodeGeneration);
+
+			List<Violating> violations = fieldValueValidator.validate(new Experimental());
+
+			assertEquals(3, violations.size());
+			assertEquals("title", violations.get(0).getField());
+			assertEquals("id", violations.get(1).getField());
+			assertEquals("name", violations.get(2).getField());
+		}
+	}
+
+	/**
+	 * Проверка каскадной проверки вложенных объектов, коллекций, массивов и значений {@link Map}.
+	 */
+	@Test
+	public void TestValidateCascade()
+	{
+		class Product
+		{
+			@Length(min = 3, max = 5)
+			private String name;
+
+			Product(String name)
+			{
+				this.name = name;
+			}
+		}
+
+		class Line
+		{
+			@Number(min = 1, max = 10)
+			private int price;
+
+			@Cascade
+			private Product product;
+
+			Line(int price, Product product)
+			{
+				this.price = price;
+				this.product = product;
+			}
+		}
+
+		class Order
+		{
+			@NoEmpty
+			private String number = "";
+
+			@Cascade
+			private List<Line> lines = List.of(
+				new Line(5, new Product("bread")),
+				new Line(0, new Product("ab"))
+			);
+
+			@Cascade
+			private Product[] gifts = {null, new Product("abcdef")};
+
+			@Cascade
+			private Map<String, Product> extras = Map.of("tea", new Product("x"));
+		}
+
+		List<Violating> violations = FIELD_VALUE_VALIDATOR.validate(new Order());
+
+		assertEquals(
+			List.of("number", "lines[1].price", "lines[1].product.name", "gifts[1].name", "extras[tea].name"),
+			violations.stream().map(Violating::getField).toList()
+		);
+		assertEquals("price", violations.get(1).getParams().get("FIELD"));
+		assertEquals(
+			violations.stream().map(Violating::getField).toList(),
+			FIELD_VALUE_VALIDATOR.validateAsync(new Order()).join().stream().map(Violating::getField).toList()
+		);
+	}
+
+	/**
+	 * Проверка каскадной проверки объектов с циклическими ссылками.
+	 */
+	@Test
+	public void TestValidateCascadeCycle()
+	{
+		class Node
+		{
+			@NoEmpty
+			private String name = "";
+
+			@Cascade
+			private Node next;
+		}
+
+		Node first = new Node();
+		Node second = new Node();
+		first.next = second;
+		second.next = first;
+
+		List<Violating> violations = FIELD_VALUE_VALIDATOR.validate(first);
+
+		assertEquals(List.of("name", "next.name"), violations.stream().map(Violating::getField).toList());
+	}
+
+	/**
+	 * Проверка ограничения глубины каскадной проверки и обхода глубокого графа объектов.
+	 */
+	@Test
+	public void TestValidateCascadeMaxDepth()
+	{
+		class Node
+		{
+			@NoEmpty
+			private String name;
+
+			@Cascade
+			private Node next;
+
+			Node(String name)
+			{
+				this.name = name;
+			}
+		}
+
+		Node first = new Node("");
+		Node last = first;
+
+		for (int i = 0; i < 100000; i++)
+		{
+			last.next = new Node(i < 2 ? "" : "value");
+			last = last.next;
+		}
+
+		last.name = "";
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		fieldValueValidator.setMaxDepth(2);
+
+		assertEquals(
+			List.of("name", "next.name", "next.next.name"),
+			fieldValueValidator.validate(first).stream().map(Violating::getField).toList()
+		);
+
+		fieldValueValidator.setMaxDepth(0);
+
+		assertEquals(1, fieldValueValidator.validate(first).size());
+
+		fieldValueValidator.setMaxDepth(Integer.MAX_VALUE);
+
+		List<Violating> violations = fieldValueValidator.validate(first);
+
+		assertEquals(4, violations.size());
+		assertEquals("next.".repeat(100000) + "name", violations.get(3).getField());
+	}
+
+	/**
+	 * Проверка установки некорректной глубины каскадной проверки.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestSetMaxDepthNotCorrect()
+	{
+		new FieldValueValidator().setMaxDepth(-1);
+	}
+
+	/**
+	 * Проверка компонентов записи, значения которых читаются через методы доступа.
+	 */
+	@Test
+	public void TestValidateRecord()
+	{
+		record Experimental(@NoNull Long id, @Number(min = 1, max = 10) int count, @Length(min = 3, max = 5) String name)
+		{
+			@NoNull
+			private static Object shared = null;
+
+			@Override
+			public String name()
+			{
+				return this.name.trim();
+			}
+		}
+
+		for (boolean bytecodeGeneration : new boolean[]{false, true})
+		{
+			FieldValueValidating fieldValueValidator = new FieldValueValidator();
+			fieldValueValidator.setBytecodeGeneration(bytecodeGeneration);
+
+			List<Violating> violations = fieldValueValidator.validate(new Experimental(null, 11, " abc "));
+
+			assertEquals(List.of("id", "count", "shared"), violations.stream().map(Violating::getField).toList());
+
+			violations = fieldValueValidator.validate(new Experimental(1L, 5, "  ab  "));
+
+			assertEquals(List.of("name", "shared"), violations.stream().map(Violating::getField).toList());
+		}
+	}
+
+	/**
+	 * Проверка определения корректности объекта.
+	 */
+	@Test
+	public void TestIsValid()
+	{
+		class Experimental
+		{
+			@NoNull
+			@Length(min = 1, max = 5)
+			private String name;
+
+			@Number(min = 1, max = 10)
+			private int count;
+
+			@NumberFloat(min = 0, max = 1)
+			private double rate;
+
+			@Size(min = 1, max = 2)
+			private List<String> lines;
+
+			Experimental(final String name, final int count, final double rate, final List<String> lines)
+			{
+				this.name = name;
+				this.count = count;
+				this.rate = rate;
+				this.lines = lines;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+		List<Experimental> experimentals = List.of(
+			new Experimental("name", 5, 0.5, List.of("a")),
+			new Experimental(null, 5, 0.5, List.of("a")),
+			new Experimental("long name", 5, 0.5, List.of("a")),
+			new Experimental("name", 11, 0.5, List.of("a")),
+			new Experimental("name", 5, 1.5, List.of("a")),
+			new Experimental("name", 5, 0.5, List.of("a", "b", "c"))
+		);
+
+		for (Experimental experimental : experimentals) {
+			assertEquals(fieldValueValidator.validate(experimental).isEmpty(), fieldValueValidator.isValid(experimental));
+		}
+
+		assertTrue(fieldValueValidator.isValid(experimentals.get(0)));
+		assertFalse(fieldValueValidator.isValid(experimentals.get(1)));
+	}
+
+	/**
+	 * Проверка определения корректности объекта с каскадной проверкой.
+	 */
+	@Test
+	public void TestIsValidCascade()
+	{
+		class Line
+		{
+			@Number(min = 1, max = 10)
+			private final int price;
+
+			Line(final int price)
+			{
+				this.price = price;
+			}
+		}
+
+		class Order
+		{
+			@Cascade
+			private final List<Line> lines;
+
+			Order(final List<Line> lines)
+			{
+				this.lines = lines;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+		assertTrue(fieldValueValidator.isValid(new Order(List.of(new Line(1), new Line(10)))));
+		assertFalse(fieldValueValidator.isValid(new Order(List.of(new Line(1), new Line(11)))));
+
+		fieldValueValidator.setMaxDepth(0);
+
+		assertTrue(fieldValueValidator.isValid(new Order(List.of(new Line(1), new Line(11)))));
+	}
+
+	/**
+	 * Проверка метода {@link FieldValueValidator#validate(Object, Class[])}.
+	 */
+	@Test
+	public void TestValidateGroups()
+	{
+		class Account
+		{
+			@NoNull(groups = Create.class)
+			private final String password;
+
+			@NoNull
+			@Length(min = 3, max = 16)
+			private final String login;
+
+			Account(final String password, final String login)
+			{
+				this.password = password;
+				this.login = login;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		Account account = new Account(null, "ab");
+
+		List<Violating> violationsDefault = fieldValueValidator.validate(account);
+		List<Violating> violationsCreate = fieldValueValidator.validate(account, Create.class);
+		List<Violating> violationsUpdate = fieldValueValidator.validate(account, Update.class);
+		List<Violating> violationsAll = fieldValueValidator.validate(account, Create.class, Default.class);
+
+		assertEquals(List.of("login"), violationsDefault.stream().map(Violating::getField).toList());
+		assertEquals(List.of("password"), violationsCreate.stream().map(Violating::getField).toList());
+		assertEquals(List.of("login"), violationsUpdate.stream().map(Violating::getField).toList());
+		assertEquals(2, violationsAll.size());
+		assertEquals(violationsDefault.size(), fieldValueValidator.validate(account, new Class<?>[0]).size());
+	}
+
+	/**
+	 * Проверка повторяемых ограничений в разных группах проверки.
+	 * Проверяются только повторения ограничения, выбранные группой проверки.
+	 */
+	@Test
+	public void TestValidateGroupsRepeatable()
+	{
+		class Client
+		{
+			@Exist(existence = GenderExistence.class, groups = Create.class, message = "CREATE")
+			@Exist(existence = CountingGenderExistence.class, groups = Update.class, message = "UPDATE")
+			private final String gender;
+
+			@Valid(validator = BrowserValidator.class, groups = Create.class, message = "CREATE")
+			@Valid(validator = BrowserValidator.class, groups = Update.class, message = "UPDATE")
+			private final String browser;
+
+			Client(final String gender, final String browser)
+			{
+				this.gender = gender;
+				this.browser = browser;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		Client client = new Client("OTHER", "OPERA");
+		int calls = CountingGenderExistence.CALLS.get();
+
+		List<Violating> violationsCreate = fieldValueValidator.validate(client, Create.class);
+
+		assertEquals(calls, CountingGenderExistence.CALLS.get());
+		assertEquals(List.of("CREATE", "CREATE"), violationsCreate.stream().map(Violating::getMessage).toList());
+
+		List<Violating> violationsUpdate = fieldValueValidator.validate(client, Update.class);
+
+		assertEquals(calls + 1, CountingGenderExistence.CALLS.get());
+		assertEquals(List.of("UPDATE", "UPDATE"), violationsUpdate.stream().map(Violating::getMessage).toList());
+	}
+
+	/**
+	 * Проверка каскадной проверки в группах проверки.
+	 */
+	@Test
+	public void TestValidateGroupsCascade()
+	{
+		class Address
+		{
+			@NoNull(groups = Create.class)
+			private final String city;
+
+			Address(final String city)
+			{
+				this.city = city;
+			}
+		}
+
+		class Person
+		{
+			@Cascade(groups = Create.class)
+			private final Address address;
+
+			Person(final Address address)
+			{
+				this.address = address;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		Person person = new Person(new Address(null));
+
+		List<Violating> violations = fieldValueValidator.validate(person, Create.class);
+
+		assertEquals(0, fieldValueValidator.validate(person).size());
+		assertEquals(1, violations.size());
+		assertEquals("address.city", violations.get(0).getField());
+	}
+
+	/**
+	 * Проверка метода {@link FieldValueValidator#validateFields(Object, String[])}.
+	 */
+	@Test
+	public void TestValidateFields()
+	{
+		class Account
+		{
+			@NoNull
+			private final String password;
+
+			@NoNull
+			private final String login;
+
+			@NoNull
+			private final String email;
+
+			Account(final String password, final String login, final String email)
+			{
+				this.password = password;
+				this.login = login;
+				this.email = email;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		Account account = new Account(null, null, null);
+
+		List<Violating> violations = fieldValueValidator.validateFields(account, "login", "email");
+
+		assertEquals(List.of("login", "email"), violations.stream().map(Violating::getField).toList());
+		assertEquals(0, fieldValueValidator.validateFields(account).size());
+		assertEquals(3, fieldValueValidator.validate(account).size());
+	}
+
+	/**
+	 * Проверка плана проверки выбранных полей.
+	 * План выбранных полей использует планы полей плана проверки групп, порядок групп не учитывается.
+	 */
+	@Test
+	public void TestValidationPlanSelect()
+	{
+		class Account
+		{
+			@NoNull
+			private String login;
+
+			@NoNull(groups = Create.class)
+			private String password;
+		}
+
+		Map<Class<? extends Annotation>, Validating> validators = Map.of(
+			NoNull.class, new NoNullValidator(new Locale("ru", "RU"))
+		);
+
+		PlanSelection selection = new PlanSelection(List.of(Create.class, Default.class), null);
+		ValidationPlan plan = new ValidationPlan(Account.class, validators, false, selection);
+		ValidationPlan selected = plan.select(Set.of("password"));
+
+		assertEquals(selection, new PlanSelection(List.of(Default.class, Create.class, Default.class), null));
+		assertEquals(selection.hashCode(), new PlanSelection(List.of(Default.class, Create.class), null).hashCode());
+		assertEquals(2, plan.getFields().size());
+		assertEquals(1, selected.getFields().size());
+		assertSame(plan.getFields().get(1), selected.getFields().get(0));
+		assertEquals(selection, selected.getSelection().getNested());
+		assertThrows(IllegalArgumentException.class, () -> plan.select(Set.of("phone")));
+	}
+
+	/**
+	 * Проверка метода {@link FieldValueValidator#validateFields(Object, String[])} с отсутствующим полем.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestValidateFieldsNotCorrect()
+	{
+		class Account
+		{
+			@NoNull
+			private final String login;
+
+			Account(final String login)
+			{
+				this.login = login;
+			}
+		}
+
+		new FieldValueValidator().validateFields(new Account("user"), "login", "phone");
+	}
+
+	/**
+	 * Проверка метода {@link FieldValueValidator#revalidate(Object)}.
+	 */
+	@Test
+	public void TestRevalidate()
+	{
+		class Profile
+		{
+			@Exist(existence = CountingGenderExistence.class)
+			private String gender = "MALE";
+
+			@Length(min = 3, max = 16)
+			private String login = "ab";
+
+			@Size(max = 1)
+			private final List<String> phones = new ArrayList<>();
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		fieldValueValidator.setPushy(true);
+		Profile profile = new Profile();
+		CountingGenderExistence.CALLS.set(0);
+
+		assertEquals(List.of("login"), fieldValueValidator.revalidate(profile).stream().map(Violating::getField).toList());
+		assertEquals(1, CountingGenderExistence.CALLS.get());
+
+		profile.login = "user";
+		profile.phones.add("+70000000000");
+		profile.phones.add("+70000000001");
+
+		assertEquals(List.of("phones"), fieldValueValidator.revalidate(profile).stream().map(Violating::getField).toList());
+		assertEquals(1, CountingGenderExistence.CALLS.get());
+
+		profile.gender = "NONE";
+
+		assertEquals(
+			List.of("gender", "phones"),
+			fieldValueValidator.revalidate(profile).stream().map(Violating::getField).toList()
+		);
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+
+		fieldValueValidator.setPushy(false);
+		fieldValueValidator.revalidate(profile);
+
+		assertEquals(3, CountingGenderExistence.CALLS.get());
+	}
+
+	/**
+	 * Проверка метода {@link FieldValueValidator#setMemoization(Boolean)}.
+	 */
+	@Test
+	public void TestSetMemoization()
+	{
+		@Immutable
+		record Gender(@Exist(existence = CountingGenderExistence.class) String name) {}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		Gender gender = new Gender("NONE");
+		CountingGenderExistence.CALLS.set(0);
+
+		assertNotSame(fieldValueValidator.validate(gender), fieldValueValidator.validate(gender));
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+
+		fieldValueValidator.setMemoization(true);
+
+		List<Violating> violations = fieldValueValidator.validate(gender);
+
+		assertEquals(1, violations.size());
+		assertSame(violations, fieldValueValidator.validate(gender));
+		assertNotSame(violations, fieldValueValidator.validate(new Gender("NONE")));
+		assertEquals(4, CountingGenderExistence.CALLS.get());
+
+		fieldValueValidator.setPushy(false);
+
+		assertNotSame(violations, fieldValueValidator.validate(gender));
+		assertEquals(5, CountingGenderExistence.CALLS.get());
+	}
+
+	/**
+	 * Проверка запоминания результатов проверки объектов изменяемых классов.
+	 */
+	@Test
+	public void TestSetMemoizationMutable()
+	{
+		class Profile
+		{
+			@Exist(existence = CountingGenderExistence.class)
+			private String gender = "NONE";
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		fieldValueValidator.setMemoization(true);
+		Profile profile = new Profile();
+		CountingGenderExistence.CALLS.set(0);
+
+		assertEquals(1, fieldValueValidator.validate(profile).size());
+
+		profile.gender = "MALE";
+
+		assertEquals(0, fieldValueValidator.validate(profile).size());
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+	}
+
+	/**
+	 * Проверка запоминания результатов проверки при смене максимальной глубины каскадной проверки.
+	 */
+	@Test
+	public void TestSetMemoizationMaxDepth()
+	{
+		@Immutable
+		record Address(@NoNull String city) {}
+
+		@Immutable
+		record Person(@Cascade Address address) {}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		fieldValueValidator.setMemoization(true);
+		fieldValueValidator.setMaxDepth(0);
+		Person person = new Person(new Address(null));
+
+		assertEquals(0, fieldValueValidator.validate(person).size());
+
+		fieldValueValidator.setMaxDepth(32);
+
+		List<Violating> violations = fieldValueValidator.validate(person);
+
+		assertEquals(1, violations.size());
+		assertEquals("address.city", violations.get(0).getField());
+		assertSame(violations, fieldValueValidator.validate(person));
+	}
+
+	/**
+	 * Проверка выбора проверяющего, созданного процессором аннотаций.
+	 */
+	@Test
+	public void TestValidationPlanGeneratedByProcessor()
+	{
+		Locale locale = new Locale("ru", "RU");
+		Map<Class<? extends Annotation>, Validating> validators = new ConstraintRegistry().createValidators(locale);
+		Map<Class<? extends Annotation>, Validating> replaced = Map.of(
+			NoNull.class, new ParityValidator(0)
+		);
+
+		GeneratedValidating<Object> generated = new ValidationPlan(Product.class, validators, false).getGenerated();
+
+		assertNotNull(generated);
+		assertEquals(ProductValidator.class, generated.getClass());
+		assertNull(new ValidationPlan(Product.class, replaced, false).getGenerated());
+	}
+}
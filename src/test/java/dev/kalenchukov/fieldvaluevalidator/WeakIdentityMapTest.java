@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class WeakIdentityMapTest
+{
+	/**
+	 * Проверка сравнения объектов по ссылке.
+	 */
+	@Test
+	public void TestGetIdentity()
+	{
+		WeakIdentityMap<String> weakIdentityMap = new WeakIdentityMap<>();
+		String first = new String("key");
+		String second = new String("key");
+
+		weakIdentityMap.put(first, "first");
+
+		assertEquals("first", weakIdentityMap.get(first));
+		assertNull(weakIdentityMap.get(second));
+
+		weakIdentityMap.put(second, "second");
+
+		assertEquals("first", weakIdentityMap.get(first));
+		assertEquals("second", weakIdentityMap.get(second));
+		assertEquals(2, weakIdentityMap.size());
+	}
+
+	/**
+	 * Проверка удаления значений.
+	 */
+	@Test
+	public void TestRemove()
+	{
+		WeakIdentityMap<String> weakIdentityMap = new WeakIdentityMap<>();
+		Object first = new Object();
+		Object second = new Object();
+
+		weakIdentityMap.put(first, "first");
+		weakIdentityMap.put(second, "second");
+		weakIdentityMap.remove(first);
+
+		assertNull(weakIdentityMap.get(first));
+		assertEquals(1, weakIdentityMap.size());
+
+		weakIdentityMap.clear();
+
+		assertEquals(0, weakIdentityMap.size());
+	}
+
+	/**
+	 * Проверка одновременного добавления и получения значений из нескольких потоков.
+	 */
+	@Test
+	public void TestPutConcurrent() throws Exception
+	{
+		WeakIdentityMap<Integer> weakIdentityMap = new WeakIdentityMap<>();
+		Object[] objects = new Object[1000];
+
+		for (int i = 0; i < objects.length; i++) {
+			objects[i] = new Object();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int thread = 0; thread < 4; thread++)
+		{
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < objects.length; i++)
+				{
+					weakIdentityMap.put(objects[i], i);
+
+					assertEquals(Integer.valueOf(i), weakIdentityMap.get(objects[i]));
+				}
+			}));
+		}
+
+		for (Future<?> future : futures) {
+			future.get();
+		}
+
+		executor.shutdown();
+
+		assertEquals(objects.length, weakIdentityMap.size());
+	}
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.constraints;
+
+import dev.kalenchukov.fieldvaluevalidator.ConstraintProvider;
+import dev.kalenchukov.fieldvaluevalidator.ConstraintRegistry;
+import org.jetbrains.annotations.NotNull;
+
+public class OddConstraintProvider implements ConstraintProvider
+{
+	@Override
+	public void register(@NotNull final ConstraintRegistry registry)
+	{
+		registry.register(Odd.class, ParityValidator::odd);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.constraints;
+
+import dev.kalenchukov.fieldvaluevalidator.Violating;
+import dev.kalenchukov.fieldvaluevalidator.Violation;
+import dev.kalenchukov.fieldvaluevalidator.Validating;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+import java.util.Map;
+
+public class ParityValidator implements Validating
+{
+	private final int remainder;
+
+	public ParityValidator(final int remainder)
+	{
+		this.remainder = remainder;
+	}
+
+	@Nullable
+	@Override
+	public Violating valid(@NotNull final Field field, @Nullable final Object value)
+	{
+		if (value == null || Math.abs((Integer) value % 2) == this.remainder) {
+			return null;
+		}
+
+		return new Violation(field.getName(), "Некорректная чётность", Map.of("FIELD", field.getName()));
+	}
+
+	@NotNull
+	public static ParityValidator even(@NotNull final Locale locale)
+	{
+		return new ParityValidator(0);
+	}
+
+	@NotNull
+	public static ParityValidator odd(@NotNull final Locale locale)
+	{
+		return new ParityValidator(1);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.existences;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class BarrierExistence implements Existable<String>
+{
+	public static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+	@Override
+	public boolean exists(@NotNull String value)
+	{
+		try
+		{
+			BARRIER.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException | BrokenBarrierException | TimeoutException exception)
+		{
+			return false;
+		}
+
+		return true;
+	}
+}
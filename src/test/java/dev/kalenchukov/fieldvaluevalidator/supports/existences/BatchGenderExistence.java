@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.existences;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.BatchExistable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchGenderExistence implements BatchExistable<String>
+{
+	public static final AtomicInteger EXISTS_CALLS = new AtomicInteger();
+
+	public static final AtomicInteger EXISTING_CALLS = new AtomicInteger();
+
+	@Override
+	public boolean exists(@NotNull String value)
+	{
+		EXISTS_CALLS.incrementAndGet();
+
+		return value.equals("MALE") || value.equals("FEMALE");
+	}
+
+	@NotNull
+	@Override
+	public Set<@NotNull String> existing(@NotNull Collection<@NotNull String> values)
+	{
+		EXISTING_CALLS.incrementAndGet();
+
+		Set<String> existing = new HashSet<>();
+
+		for (String value : values)
+		{
+			if (value.equals("MALE") || value.equals("FEMALE")) {
+				existing.add(value);
+			}
+		}
+
+		return existing;
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.existences;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingGenderExistence implements Existable<String>
+{
+	public static final AtomicInteger CALLS = new AtomicInteger();
+
+	@Override
+	public boolean exists(@NotNull String value)
+	{
+		CALLS.incrementAndGet();
+
+		return value.equals("MALE") || value.equals("FEMALE");
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.existences;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Existable;
+import org.jetbrains.annotations.NotNull;
+
+public class SlowExistence implements Existable<String>
+{
+	@Override
+	public boolean exists(@NotNull String value)
+	{
+		try
+		{
+			Thread.sleep(1000);
+		}
+		catch (InterruptedException exception)
+		{
+			return false;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.generated;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.NoNull;
+
+public class Product
+{
+	@NoNull
+	public String name;
+}
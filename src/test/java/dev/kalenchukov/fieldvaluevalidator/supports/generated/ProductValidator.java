@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.generated;
+
+import dev.kalenchukov.fieldvaluevalidator.generation.GeneratedValidating;
+import dev.kalenchukov.fieldvaluevalidator.generation.ValidationContext;
+import org.jetbrains.annotations.NotNull;
+
+public class ProductValidator implements GeneratedValidating<Product>
+{
+	@NotNull
+	@Override
+	public Class<Product> getType()
+	{
+		return Product.class;
+	}
+
+	@Override
+	public void validate(@NotNull final Product object, @NotNull final ValidationContext context)
+	{
+	}
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.groups;
+
+import dev.kalenchukov.fieldvaluevalidator.constraints.Default;
+
+public interface Update extends Default
+{
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Validable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StatefulBrowserValidator implements Validable<String>
+{
+	public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	public StatefulBrowserValidator()
+	{
+		INSTANCES.incrementAndGet();
+	}
+
+	@Override
+	public boolean valid(@NotNull final String value)
+	{
+		return value.equals("FIREFOX") || value.equals("CHROME");
+	}
+}
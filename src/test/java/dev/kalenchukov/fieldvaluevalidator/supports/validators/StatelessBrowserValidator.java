@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.supports.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Stateless;
+import dev.kalenchukov.fieldvaluevalidator.interfaces.Validable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Stateless
+public class StatelessBrowserValidator implements Validable<String>
+{
+	public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	public StatelessBrowserValidator()
+	{
+		INSTANCES.incrementAndGet();
+	}
+
+	@Override
+	public boolean valid(@NotNull final String value)
+	{
+		return value.equals("FIREFOX") || value.equals("CHROME");
+	}
+}
@@ -6,15 +6,29 @@
 
 package dev.kalenchukov.fieldvaluevalidator.validators;
 
+import dev.kalenchukov.fieldvaluevalidator.ExistenceCacheStatistics;
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Exist;
+import dev.kalenchukov.fieldvaluevalidator.constraints.Length;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.BarrierExistence;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.BatchGenderExistence;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.CountingGenderExistence;
 import dev.kalenchukov.fieldvaluevalidator.supports.existences.GenderExistence;
+import dev.kalenchukov.fieldvaluevalidator.supports.existences.SlowExistence;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -120,4 +134,276 @@ public class ExistValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка асинхронной проверки, в которой проверки существования выполняются одновременно.
+	 */
+	@Test
+	public void TestValidAsyncConcurrent() throws Exception
+	{
+		class Experimental
+		{
+			@Exist(existence = BarrierExistence.class)
+			private String first = "first";
+
+			@Exist(existence = BarrierExistence.class)
+			private String second = "second";
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validateAsync(new Experimental()).get(10, TimeUnit.SECONDS);
+
+		assertEquals(0, violation.size());
+	}
+
+	/**
+	 * Проверка асинхронной проверки с нарушениями в порядке следования полей.
+	 */
+	@Test
+	public void TestValidAsyncNotCorrect() throws Exception
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 5)
+			private String comment = "ok";
+
+			@Exist(existence = GenderExistence.class)
+			private String gender = "ЖЕНСКИЙ";
+
+			@Length(min = 3, max = 5)
+			private String title = "no";
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			List<Violating> violation = fieldValueValidator.validateAsync(new Experimental(), executor)
+				.get(10, TimeUnit.SECONDS);
+
+			assertEquals(3, violation.size());
+			assertEquals("comment", violation.get(0).getField());
+			assertEquals("gender", violation.get(1).getField());
+			assertEquals("title", violation.get(2).getField());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Проверка асинхронной проверки с превышением времени проверки существования.
+	 */
+	@Test
+	public void TestValidAsyncTimeout() throws Exception
+	{
+		class Experimental
+		{
+			@Exist(existence = SlowExistence.class, timeout = 50)
+			private String gender = "MALE";
+		}
+
+		try
+		{
+			FIELD_VALUE_VALIDATOR.validateAsync(new Experimental()).get(10, TimeUnit.SECONDS);
+
+			fail();
+		}
+		catch (ExecutionException exception)
+		{
+			assertTrue(exception.getCause() instanceof TimeoutException);
+		}
+	}
+
+	/**
+	 * Проверка пакетной проверки существования при пакетной проверке объектов.
+	 */
+	@Test
+	public void TestValidAllBatchExistence()
+	{
+		class Experimental
+		{
+			@Exist(existence = BatchGenderExistence.class)
+			private String gender;
+
+			Experimental(String gender)
+			{
+				this.gender = gender;
+			}
+		}
+
+		List<Experimental> objects = new ArrayList<>();
+
+		for (int i = 0; i < 3000; i++) {
+			objects.add(new Experimental(i % 3 == 0 ? "ДРУГОЙ" : (i % 3 == 1 ? "MALE" : "FEMALE")));
+		}
+
+		BatchGenderExistence.EXISTS_CALLS.set(0);
+		BatchGenderExistence.EXISTING_CALLS.set(0);
+
+		Map<Integer, List<Violating>> violations = FIELD_VALUE_VALIDATOR.validateAll(objects);
+
+		assertEquals(1000, violations.size());
+		assertEquals("gender", violations.get(2997).get(0).getField());
+		assertFalse(violations.containsKey(2998));
+		assertEquals(0, BatchGenderExistence.EXISTS_CALLS.get());
+		assertEquals(3, BatchGenderExistence.EXISTING_CALLS.get());
+	}
+
+	/**
+	 * Проверка пакетной проверки существования при проверке одного объекта.
+	 */
+	@Test
+	public void TestValidBatchExistenceSingle()
+	{
+		class Experimental
+		{
+			@Exist(existence = BatchGenderExistence.class)
+			private String gender = "ДРУГОЙ";
+		}
+
+		BatchGenderExistence.EXISTING_CALLS.set(0);
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(1, violation.size());
+		assertEquals(0, BatchGenderExistence.EXISTING_CALLS.get());
+	}
+
+	/**
+	 * Проверка пакетной проверки существования с ограничением количества объектов с нарушениями.
+	 */
+	@Test
+	public void TestValidAllBatchExistenceLimit()
+	{
+		class Experimental
+		{
+			@Exist(existence = BatchGenderExistence.class)
+			private String gender;
+
+			Experimental(String gender)
+			{
+				this.gender = gender;
+			}
+		}
+
+		Map<Integer, List<Violating>> violations = FIELD_VALUE_VALIDATOR.validateAll(
+			Stream.of("MALE", "ДРУГОЙ", "FEMALE", "ДРУГОЙ", "ДРУГОЙ").map(Experimental::new),
+			2
+		);
+
+		assertEquals(List.of(1, 3), new ArrayList<>(violations.keySet()));
+	}
+
+	/**
+	 * Проверка кэширования результатов проверки существования.
+	 */
+	@Test
+	public void TestValidCache()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingGenderExistence.class, cacheTtl = 60000)
+			private String gender;
+
+			Experimental(String gender)
+			{
+				this.gender = gender;
+			}
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+		CountingGenderExistence.CALLS.set(0);
+
+		for (int i = 0; i < 10; i++)
+		{
+			assertEquals(0, fieldValueValidator.validate(new Experimental("MALE")).size());
+			assertEquals(1, fieldValueValidator.validate(new Experimental("ДРУГОЙ")).size());
+		}
+
+		ExistenceCacheStatistics statistics = fieldValueValidator.getExistenceCacheStatistics(
+			CountingGenderExistence.class
+		);
+
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+		assertNotNull(statistics);
+		assertEquals(18, statistics.getHits());
+		assertEquals(2, statistics.getMisses());
+		assertEquals(2, statistics.getSize());
+	}
+
+	/**
+	 * Проверка без кэширования результатов проверки существования.
+	 */
+	@Test
+	public void TestValidWithoutCache()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingGenderExistence.class)
+			private String gender = "MALE";
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+		CountingGenderExistence.CALLS.set(0);
+
+		fieldValueValidator.validate(new Experimental());
+		fieldValueValidator.validate(new Experimental());
+
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+		assertNull(fieldValueValidator.getExistenceCacheStatistics(CountingGenderExistence.class));
+	}
+
+	/**
+	 * Проверка кэширования с некорректным максимальным количеством результатов в кэше.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestValidCacheSizeNotCorrect()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingGenderExistence.class, cacheTtl = 60000, cacheSize = 0)
+			private String gender = "MALE";
+		}
+
+		new FieldValueValidator().validate(new Experimental());
+	}
+
+	/**
+	 * Проверка отдельных кэшей для ограничений с разными параметрами кэширования.
+	 */
+	@Test
+	public void TestValidCachePerConstraint()
+	{
+		class Experimental
+		{
+			@Exist(existence = CountingGenderExistence.class, cacheTtl = 60000, cacheSize = 1)
+			private String gender = "MALE";
+
+			@Exist(existence = CountingGenderExistence.class, cacheTtl = 60000, cacheSize = 100)
+			private String partnerGender = "FEMALE";
+		}
+
+		FieldValueValidating fieldValueValidator = new FieldValueValidator();
+
+		CountingGenderExistence.CALLS.set(0);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, fieldValueValidator.validate(new Experimental()).size());
+		}
+
+		ExistenceCacheStatistics statistics = fieldValueValidator.getExistenceCacheStatistics(
+			CountingGenderExistence.class
+		);
+
+		assertEquals(2, CountingGenderExistence.CALLS.get());
+		assertNotNull(statistics);
+		assertEquals(8, statistics.getHits());
+		assertEquals(2, statistics.getMisses());
+		assertEquals(0, statistics.getEvictions());
+		assertEquals(2, statistics.getSize());
+	}
+}
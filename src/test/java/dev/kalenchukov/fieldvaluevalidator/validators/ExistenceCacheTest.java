@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import dev.kalenchukov.fieldvaluevalidator.ExistenceCacheStatistics;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExistenceCacheTest
+{
+	/**
+	 * Проверка получения существующего и несуществующего значения.
+	 */
+	@Test
+	public void TestGet()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(60000, 4);
+
+		existenceCache.put("MALE", true);
+		existenceCache.put("ДРУГОЙ", false);
+
+		assertEquals(Boolean.TRUE, existenceCache.get("MALE"));
+		assertEquals(Boolean.FALSE, existenceCache.get("ДРУГОЙ"));
+		assertNull(existenceCache.get("FEMALE"));
+
+		ExistenceCacheStatistics statistics = existenceCache.getStatistics();
+
+		assertEquals(2, statistics.getHits());
+		assertEquals(1, statistics.getMisses());
+		assertEquals(2, statistics.getSize());
+	}
+
+	/**
+	 * Проверка устаревания значения.
+	 */
+	@Test
+	public void TestGetExpired() throws InterruptedException
+	{
+		ExistenceCache existenceCache = new ExistenceCache(1, 4);
+
+		existenceCache.put("MALE", true);
+
+		Thread.sleep(10);
+
+		assertNull(existenceCache.get("MALE"));
+		assertEquals(0, existenceCache.size());
+	}
+
+	/**
+	 * Проверка ограничения размера кэша.
+	 */
+	@Test
+	public void TestPutMaxSize()
+	{
+		ExistenceCache existenceCache = new ExistenceCache(60000, 4);
+
+		for (int i = 0; i < 100; i++) {
+			existenceCache.put(i, true);
+		}
+
+		assertTrue(existenceCache.size() <= 4);
+		assertEquals(96, existenceCache.getStatistics().getEvictions());
+		assertEquals(Boolean.TRUE, existenceCache.get(99));
+	}
+
+	/**
+	 * Проверка некорректного размера кэша.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void TestConstructorNotCorrectMaxSize()
+	{
+		new ExistenceCache(60000, 0);
+	}
+
+	/**
+	 * Проверка вытеснения давно не использованных значений.
+	 * Часто используемые значения не вытесняются потоком однократно используемых значений.
+	 */
+	@Test
+	public void TestPutEvictLeastRecentlyUsed()
+	{
+		for (int maxSize : new int[] {100, 1000})
+		{
+			ExistenceCache existenceCache = new ExistenceCache(60000, maxSize);
+			int hotSize = maxSize / 2;
+			int cold = -1;
+
+			for (int round = 0; round < 1000; round++)
+			{
+				for (int i = 0; i < hotSize; i++)
+				{
+					if (existenceCache.get(i) == null) {
+						existenceCache.put(i, true);
+					}
+				}
+
+				for (int i = 0; i < 10; i++) {
+					existenceCache.put(cold--, false);
+				}
+			}
+
+			assertEquals(hotSize, existenceCache.getStatistics().getMisses());
+			assertTrue(existenceCache.size() <= maxSize);
+		}
+	}
+}
@@ -86,4 +86,33 @@ public class LanguageValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка со значениями, похожими на язык.
+	 */
+	@Test
+	public void TestValidStringTypeNotCorrectFormat()
+	{
+		class Experimental
+		{
+			@Language
+			private String language1 = "ru-RUS";
+
+			@Language
+			private String language2 = "RU-ru";
+
+			@Language
+			private String language3 = "ru_RU";
+
+			@Language
+			private String language4 = "ру-RU";
+
+			@Language
+			private String language5 = "zz-ZZ";
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(4, violation.size());
+	}
+}
@@ -120,4 +120,36 @@ public class LengthValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с некорректным типом поля со значением {@code null}.
+	 */
+	@Test(expected = UnsupportedFieldTypeException.class)
+	public void TestValidNotCorrectFieldTypeNull()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 13)
+			private Integer comment = null;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+	}
+
+	/**
+	 * Проверка с некорректным значением в поле типа {@code CharSequence}.
+	 */
+	@Test
+	public void TestValidCharSequenceTypeNotCorrect()
+	{
+		class Experimental
+		{
+			@Length(min = 3, max = 13)
+			private CharSequence comment = "з";
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(1, violation.size());
+	}
+}
@@ -8,12 +8,15 @@ package dev.kalenchukov.fieldvaluevalidator.validators;
 
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.NumberFloat;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.Assert.*;
 
@@ -222,4 +225,62 @@ public class NumberFloatValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка со значением больше максимального в поле типа {@code double}.
+	 */
+	@Test
+	public void TestValidDoublePrimitiveTypeMoreMax()
+	{
+		class Experimental
+		{
+			@NumberFloat(min = 0.0, max = 1000.1000)
+			private double sum = 1000.1001;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(1, violation.size());
+	}
+
+	/**
+	 * Проверка с корректным значением в поле типа {@code float}.
+	 */
+	@Test
+	public void TestValidFloatPrimitiveTypeCorrect()
+	{
+		class Experimental
+		{
+			@NumberFloat(min = 0.0, max = 1000.1000)
+			private float sum = 785.785F;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(0, violation.size());
+	}
+
+	/**
+	 * Проверка привязки к полю примитивного типа.
+	 * Привязанный проверяющий проверяет значения по ограничению поля без обращения к полю.
+	 */
+	@Test
+	public void TestBindPrimitiveType() throws NoSuchFieldException
+	{
+		class Experimental
+		{
+			@NumberFloat(min = 0.0, max = 1000.1000)
+			private double sum = 785.785;
+		}
+
+		Field field = Experimental.class.getDeclaredField("sum");
+		NumberFloatValidator validator = new NumberFloatValidator(new Locale("ru", "RU"));
+		Validating bound = validator.bind(field);
+
+		assertNotSame(validator, bound);
+		assertTrue(bound instanceof PrimitiveValidating);
+		assertNotNull(((PrimitiveValidating) bound).validDouble(field, 1000.2));
+		assertTrue(((PrimitiveValidating) bound).isValidDouble(field, 500.5));
+		assertFalse(bound.isValid(field, -0.1));
+	}
+}
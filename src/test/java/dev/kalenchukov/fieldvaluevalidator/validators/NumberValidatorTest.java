@@ -8,12 +8,15 @@ package dev.kalenchukov.fieldvaluevalidator.validators;
 
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidating;
 import dev.kalenchukov.fieldvaluevalidator.FieldValueValidator;
+import dev.kalenchukov.fieldvaluevalidator.Validating;
 import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Number;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.Assert.*;
 
@@ -392,4 +395,77 @@ public class NumberValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка со значением меньше минимального в поле типа {@code int}.
+	 */
+	@Test
+	public void TestValidIntPrimitiveTypeCorrectLessMin()
+	{
+		class Experimental
+		{
+			@Number(min = 100, max = 1000)
+			private int sum = 10;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(1, violation.size());
+	}
+
+	/**
+	 * Проверка с корректным значением в поле типа {@code long}.
+	 */
+	@Test
+	public void TestValidLongPrimitiveTypeCorrect()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 1000)
+			private long sum = 785L;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(0, violation.size());
+	}
+
+	/**
+	 * Проверка с некорректным примитивным типом поля.
+	 */
+	@Test(expected = UnsupportedFieldTypeException.class)
+	public void TestValidNotCorrectPrimitiveFieldType()
+	{
+		class Experimental
+		{
+			@Number(min = 0, max = 1000)
+			private double sum = 13.0;
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+	}
+
+	/**
+	 * Проверка привязки к полю примитивного типа.
+	 * Привязанный проверяющий проверяет значения по ограничению поля без обращения к полю.
+	 */
+	@Test
+	public void TestBindPrimitiveType() throws NoSuchFieldException
+	{
+		class Experimental
+		{
+			@Number(min = 100, max = 1000)
+			private int sum = 10;
+		}
+
+		Field field = Experimental.class.getDeclaredField("sum");
+		NumberValidator validator = new NumberValidator(new Locale("ru", "RU"));
+		Validating bound = validator.bind(field);
+
+		assertNotSame(validator, bound);
+		assertTrue(bound instanceof PrimitiveValidating);
+		assertNotNull(((PrimitiveValidating) bound).validLong(field, 10));
+		assertTrue(((PrimitiveValidating) bound).isValidLong(field, 500));
+		assertFalse(bound.isValid(field, 1001));
+	}
+}
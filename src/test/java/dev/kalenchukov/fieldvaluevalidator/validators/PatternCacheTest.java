@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2022 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ */
+
+package dev.kalenchukov.fieldvaluevalidator.validators;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class PatternCacheTest
+{
+	/**
+	 * Проверка повторного получения регулярного выражения.
+	 */
+	@Test
+	public void TestGetSame()
+	{
+		PatternCache patternCache = new PatternCache(4);
+
+		Pattern pattern = patternCache.get("[0-9A-F]+");
+
+		assertSame(pattern, patternCache.get("[0-9A-F]+"));
+		assertTrue(pattern.matcher("08A6D9").matches());
+	}
+
+	/**
+	 * Проверка ограничения размера кэша.
+	 */
+	@Test
+	public void TestGetMaxSize()
+	{
+		PatternCache patternCache = new PatternCache(4);
+
+		for (int i = 0; i < 100; i++) {
+			patternCache.get("[0-9]{" + i + "}");
+		}
+
+		assertTrue(patternCache.size() <= 4);
+		assertTrue(patternCache.get("[0-9]{99}").matcher("9".repeat(99)).matches());
+	}
+
+	/**
+	 * Проверка вытеснения давно не использованных регулярных выражений.
+	 */
+	@Test
+	public void TestGetEvictLeastRecentlyUsed()
+	{
+		PatternCache patternCache = new PatternCache(2);
+
+		Pattern hot = patternCache.get("[0-9]+");
+		patternCache.get("[a-z]+");
+		patternCache.get("[0-9]+");
+		patternCache.get("[A-Z]+");
+
+		assertEquals(2, patternCache.size());
+		assertSame(hot, patternCache.get("[0-9]+"));
+	}
+
+	/**
+	 * Проверка вытеснения потоком однократно используемых регулярных выражений.
+	 * Часто используемые выражения не вытесняются.
+	 */
+	@Test
+	public void TestGetHotSurvivesColdStream()
+	{
+		PatternCache patternCache = new PatternCache(16);
+		Pattern[] hot = new Pattern[8];
+
+		for (int i = 0; i < hot.length; i++) {
+			hot[i] = patternCache.get("[a-z]{" + i + "}");
+		}
+
+		for (int round = 0; round < 100; round++)
+		{
+			for (int i = 0; i < hot.length; i++) {
+				assertSame(hot[i], patternCache.get("[a-z]{" + i + "}"));
+			}
+
+			patternCache.get("[0-9]{" + round + "}");
+		}
+
+		assertEquals(16, patternCache.size());
+	}
+}
@@ -120,4 +120,28 @@ public class PatternValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с полем, объявленным супертипом {@code String} и {@code Character}.
+	 * Тип значения определяется при проверке, регулярное выражение компилируется один раз при привязке.
+	 */
+	@Test
+	public void TestValidSupertypeField()
+	{
+		class Experimental
+		{
+			@Pattern(regexp = "[0-9]+")
+			private Object code;
+
+			Experimental(Object code)
+			{
+				this.code = code;
+			}
+		}
+
+		assertEquals(0, FIELD_VALUE_VALIDATOR.validate(new Experimental("123")).size());
+		assertEquals(1, FIELD_VALUE_VALIDATOR.validate(new Experimental("12a")).size());
+		assertEquals(0, FIELD_VALUE_VALIDATOR.validate(new Experimental('7')).size());
+		assertEquals(1, FIELD_VALUE_VALIDATOR.validate(new Experimental('x')).size());
+	}
+}
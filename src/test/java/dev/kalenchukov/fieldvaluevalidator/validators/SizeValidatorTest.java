@@ -268,4 +268,21 @@ public class SizeValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка с некорректным значением в поле типа {@code Object}.
+	 */
+	@Test
+	public void TestValidObjectTypeNotCorrect()
+	{
+		class Experimental
+		{
+			@Size(min = 1, max = 2)
+			private Object lines = List.of("a", "b", "c");
+		}
+
+		List<Violating> violation = FIELD_VALUE_VALIDATOR.validate(new Experimental());
+
+		assertEquals(1, violation.size());
+	}
+}
@@ -12,6 +12,8 @@ import dev.kalenchukov.fieldvaluevalidator.Violating;
 import dev.kalenchukov.fieldvaluevalidator.constraints.Valid;
 import dev.kalenchukov.fieldvaluevalidator.exceptions.UnsupportedFieldTypeException;
 import dev.kalenchukov.fieldvaluevalidator.supports.validators.BrowserValidator;
+import dev.kalenchukov.fieldvaluevalidator.supports.validators.StatefulBrowserValidator;
+import dev.kalenchukov.fieldvaluevalidator.supports.validators.StatelessBrowserValidator;
 import org.junit.Test;
 
 import java.util.List;
@@ -120,4 +122,42 @@ public class ValidValidatorTest
 
 		assertEquals(0, violation.size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка однократного создания реализации, помеченной {@code Stateless}.
+	 */
+	@Test
+	public void TestValidStatelessInstance()
+	{
+		class Experimental
+		{
+			@Valid(validator = StatelessBrowserValidator.class)
+			private String browser = "FIREFOX";
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, FIELD_VALUE_VALIDATOR.validate(new Experimental()).size());
+		}
+
+		assertEquals(1, StatelessBrowserValidator.INSTANCES.get());
+	}
+
+	/**
+	 * Проверка создания реализации без {@code Stateless} для каждой проверки.
+	 */
+	@Test
+	public void TestValidStatefulInstance()
+	{
+		class Experimental
+		{
+			@Valid(validator = StatefulBrowserValidator.class)
+			private String browser = "FIREFOX";
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, FIELD_VALUE_VALIDATOR.validate(new Experimental()).size());
+		}
+
+		assertEquals(3, StatefulBrowserValidator.INSTANCES.get());
+	}
+}